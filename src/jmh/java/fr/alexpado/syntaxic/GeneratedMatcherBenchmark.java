@@ -0,0 +1,72 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the interpreted matching with the generated matchers on registries of increasing size. Every container
+ * starts with a distinct literal, as most commands do, and is followed by an option, an eager argument and a regex.
+ * <p>
+ * Run with <code>./gradlew jmh</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedMatcherBenchmark {
+
+    @Param({"100", "1000"})
+    public int containers;
+
+    private SyntaxService<Integer> interpreted;
+    private SyntaxService<Integer> generated;
+    private String                 hit;
+    private String                 miss;
+
+    @Setup
+    public void setup() {
+
+        Map<String, List<String>>      options       = Collections.singletonMap("lang", Arrays.asList("java", "kotlin", "python", "php", "javascript"));
+        Map<Integer, ISyntaxContainer> identifierMap = new HashMap<>();
+
+        for (int i = 0; i < this.containers; i++) {
+            identifierMap.put(i, SyntaxUtils.toContainer(options, "command" + i + " switch {lang} [user] /id:[0-9]+/", 1));
+        }
+
+        this.interpreted = new SyntaxService<>(identifierMap);
+        this.generated   = new SyntaxServiceBuilder<>(identifierMap).withGeneratedMatchers().build();
+        this.hit         = "command" + (this.containers / 2) + " switch java alex 42";
+        this.miss        = "command" + (this.containers / 2) + " switch cobol alex 42";
+    }
+
+    @Benchmark
+    public Optional<IMatchingResult<Integer>> interpretedHit() {
+
+        return this.interpreted.getMatchingResult(this.hit);
+    }
+
+    @Benchmark
+    public Optional<IMatchingResult<Integer>> generatedHit() {
+
+        return this.generated.getMatchingResult(this.hit);
+    }
+
+    @Benchmark
+    public Optional<IMatchingResult<Integer>> interpretedMiss() {
+
+        return this.interpreted.getMatchingResult(this.miss);
+    }
+
+    @Benchmark
+    public Optional<IMatchingResult<Integer>> generatedMiss() {
+
+        return this.generated.getMatchingResult(this.miss);
+    }
+
+}
@@ -0,0 +1,244 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import fr.alexpado.syntaxic.rules.SelectiveSyntax;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The AsyncSyntaxService wraps a {@link SyntaxService} to match and complete user's inputs without blocking the calling
+ * thread.
+ * <p>
+ * Completion is split into a bounded amount of tasks taking the {@link ISyntaxContainer}s one after the other, so that
+ * a container resolving its options slowly (ex: a {@link SelectiveSyntax} backed by a slow store) only holds one task
+ * while the others keep going. When a deadline is given, the completions available once it has been reached are
+ * returned and the others are dropped: tasks don't start evaluating a container once the deadline has passed, but a
+ * container already being evaluated can't be interrupted.
+ * <p>
+ * An {@link AsyncSyntaxService} created without an {@link Executor} owns its executor, which is shut down by
+ * {@link #close()}. A provided {@link Executor} is never shut down.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public class AsyncSyntaxService<T> implements AutoCloseable {
+
+    /**
+     * The default maximum amount of tasks a completion is split into.
+     */
+    public static final int DEFAULT_PARALLELISM = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private final           SyntaxService<T> service;
+    private final           Executor         executor;
+    private final           int              parallelism;
+    private final @Nullable ExecutorService  owned;
+
+    /**
+     * Create a new {@link AsyncSyntaxService} running on its own default executor, which uses virtual threads when they
+     * are available. The executor is shut down by {@link #close()}.
+     *
+     * @param service The {@link SyntaxService} to wrap.
+     *
+     * @see #defaultExecutor()
+     */
+    public AsyncSyntaxService(@NotNull SyntaxService<T> service) {
+
+        this(service, defaultExecutor(), DEFAULT_PARALLELISM, true);
+    }
+
+    /**
+     * Create a new {@link AsyncSyntaxService} running on the provided {@link Executor}, splitting completions into at
+     * most {@link #DEFAULT_PARALLELISM} tasks.
+     *
+     * @param service  The {@link SyntaxService} to wrap.
+     * @param executor The {@link Executor} on which matching and option resolution will run.
+     */
+    public AsyncSyntaxService(@NotNull SyntaxService<T> service, @NotNull Executor executor) {
+
+        this(service, executor, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Create a new {@link AsyncSyntaxService} running on the provided {@link Executor}.
+     *
+     * @param service     The {@link SyntaxService} to wrap.
+     * @param executor    The {@link Executor} on which matching and option resolution will run.
+     * @param parallelism The maximum amount of tasks a completion is split into.
+     *
+     * @throws IllegalArgumentException Thrown if the parallelism isn't positive.
+     */
+    public AsyncSyntaxService(@NotNull SyntaxService<T> service, @NotNull Executor executor, int parallelism) {
+
+        this(service, executor, parallelism, false);
+    }
+
+    private AsyncSyntaxService(SyntaxService<T> service, Executor executor, int parallelism, boolean owning) {
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be positive.");
+        }
+
+        this.service     = service;
+        this.executor    = executor;
+        this.parallelism = parallelism;
+        this.owned       = owning ? (ExecutorService) executor : null;
+    }
+
+    /**
+     * Create the default {@link Executor}: a new virtual thread per task if the running JVM supports them, or a pool of
+     * {@link #DEFAULT_PARALLELISM} daemon threads otherwise.
+     *
+     * @return An {@link ExecutorService}, which should be shut down once not needed anymore.
+     */
+    public static @NotNull ExecutorService defaultExecutor() {
+
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (Throwable ignored) {
+            return Executors.newFixedThreadPool(DEFAULT_PARALLELISM, runnable -> {
+                Thread thread = new Thread(runnable, "syntaxic-async");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Retrieve the {@link SyntaxService} wrapped by this {@link AsyncSyntaxService}.
+     *
+     * @return The {@link SyntaxService}.
+     */
+    public @NotNull SyntaxService<T> getService() {
+
+        return this.service;
+    }
+
+    /**
+     * Retrieve a {@link List} of strings completing the user's input.
+     *
+     * @param data The user's input to complete.
+     *
+     * @return A {@link CompletableFuture} completed with every completion once all containers have been evaluated.
+     *
+     * @see ISyntaxService#complete(String)
+     */
+    public @NotNull CompletableFuture<List<String>> complete(@NotNull String data) {
+
+        return this.complete(data, null);
+    }
+
+    /**
+     * Retrieve a {@link List} of strings completing the user's input, giving up on containers that are still being
+     * evaluated once the deadline has been reached.
+     *
+     * @param data     The user's input to complete.
+     * @param deadline The maximum amount of time to wait for, or null to wait for every container.
+     *
+     * @return A {@link CompletableFuture} completed with the completions available before the deadline.
+     *
+     * @see ISyntaxService#complete(String)
+     */
+    public @NotNull CompletableFuture<List<String>> complete(@NotNull String data, @Nullable Duration deadline) {
+
+        long                               start       = System.nanoTime();
+        long                               timeout     = deadline == null ? Long.MAX_VALUE : deadline.toNanos();
+        List<String>                       userData    = this.service.tokenize(data);
+        ISyntaxContainer[]                 containers  = this.service.getContainers().toArray(new ISyntaxContainer[0]);
+        AtomicReferenceArray<List<String>> completions = new AtomicReferenceArray<>(containers.length);
+        AtomicInteger                      next        = new AtomicInteger();
+        CompletableFuture<?>[]             tasks       = new CompletableFuture<?>[Math.min(this.parallelism, containers.length)];
+
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                int index;
+
+                // Each task takes the next container, so a slow container only holds the task evaluating it.
+                while (System.nanoTime() - start < timeout && (index = next.getAndIncrement()) < containers.length) {
+                    completions.set(index, SyntaxService.completion(containers[index], userData));
+                }
+            }, this.executor);
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(tasks);
+
+        if (deadline != null) {
+            all = all.completeOnTimeout(null, timeout, TimeUnit.NANOSECONDS);
+        }
+
+        return all.handle((ignored, throwable) -> {
+            List<String> completion = IntStream.range(0, containers.length)
+                    .mapToObj(completions::get)
+                    .filter(Objects::nonNull)
+                    .flatMap(List::stream)
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            this.service.getMetrics().recordCompleteLatency(System.nanoTime() - start);
+            return completion;
+        });
+    }
+
+    /**
+     * Retrieve an optional {@link IMatchingResult} for the given user's input.
+     *
+     * @param data The user's input to match.
+     *
+     * @return A {@link CompletableFuture} completed with the optional {@link IMatchingResult}.
+     *
+     * @see ISyntaxService#getMatchingResult(String)
+     */
+    public @NotNull CompletableFuture<Optional<IMatchingResult<T>>> getMatchingResult(@NotNull String data) {
+
+        return CompletableFuture.supplyAsync(() -> this.service.getMatchingResult(data), this.executor);
+    }
+
+    /**
+     * Retrieve an optional {@link IMatchingResult} for the given user's input. As a partial matching cannot be trusted,
+     * the returned {@link CompletableFuture} completes exceptionally with a
+     * {@link java.util.concurrent.TimeoutException} if the deadline is reached.
+     *
+     * @param data     The user's input to match.
+     * @param deadline The maximum amount of time to wait for.
+     *
+     * @return A {@link CompletableFuture} completed with the optional {@link IMatchingResult}.
+     *
+     * @see ISyntaxService#getMatchingResult(String)
+     */
+    public @NotNull CompletableFuture<Optional<IMatchingResult<T>>> getMatchingResult(@NotNull String data, @NotNull Duration deadline) {
+
+        return this.getMatchingResult(data).orTimeout(deadline.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Shut down the executor of this {@link AsyncSyntaxService} if it has been created by it. Tasks already submitted
+     * are still run, while new calls are rejected.
+     */
+    @Override
+    public void close() {
+
+        if (this.owned != null) {
+            this.owned.shutdown();
+        }
+    }
+
+}
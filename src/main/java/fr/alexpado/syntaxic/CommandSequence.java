@@ -0,0 +1,177 @@
+package fr.alexpado.syntaxic;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A CommandSequence is a message holding several commands separated by a separator (ex: <code>;</code> or a line
+ * break), tokenized in a single pass. Tokens of every command are kept in a single {@link List}, each command being a
+ * range of it, along with the position of each token in the message.
+ * <p>
+ * Like {@link SyntaxService#prepareUserData(String)}, tokens are split on spaces. Empty commands are ignored. When
+ * folding, each token is also folded as it is scanned and commands are {@link FoldedTokens}.
+ */
+final class CommandSequence {
+
+    private final           List<String> tokens;
+    private final @Nullable List<String> folded;
+    private                 int[]        starts;
+    private                 int[]        ends;
+    private                 int[]        commands;
+    private                 int          count;
+    private @Nullable       String[]     keys;
+
+    /**
+     * Tokenize the provided message.
+     *
+     * @param data      The message to tokenize.
+     * @param separator The string separating two commands.
+     * @param folding   True if tokens should be folded, as done by {@link FoldedTokens}.
+     *
+     * @throws IllegalArgumentException Thrown if the separator is empty or contains a space.
+     */
+    CommandSequence(String data, String separator, boolean folding) {
+
+        if (separator.isEmpty() || separator.indexOf(' ') >= 0) {
+            throw new IllegalArgumentException("The command separator can't be empty nor contain spaces");
+        }
+
+        this.tokens   = new ArrayList<>();
+        this.starts   = new int[16];
+        this.ends     = new int[16];
+        this.commands = new int[8];
+        this.count    = 0;
+        this.keys     = folding ? new String[16] : null;
+
+        char first      = separator.charAt(0);
+        int  tokenStart = -1;
+        int  from       = 0;
+
+        for (int i = 0; i < data.length(); ) {
+            char c = data.charAt(i);
+
+            if (c == first && data.startsWith(separator, i)) {
+                this.token(data, tokenStart, i);
+                from       = this.command(from);
+                tokenStart = -1;
+                i += separator.length();
+                continue;
+            }
+
+            if (c == ' ') {
+                this.token(data, tokenStart, i);
+                tokenStart = -1;
+            } else if (tokenStart < 0) {
+                tokenStart = i;
+            }
+
+            i++;
+        }
+
+        this.token(data, tokenStart, data.length());
+        this.command(from);
+
+        int size = this.tokens.size();
+
+        this.folded = this.keys == null
+                ? null
+                : new FoldedTokens(data, this.starts, this.ends, this.keys, this.tokens.toArray(new String[size]), 0, size);
+    }
+
+    /**
+     * Add the token between the provided positions, if any.
+     */
+    private void token(String data, int start, int end) {
+
+        if (start < 0) {
+            return;
+        }
+
+        int index = this.tokens.size();
+
+        if (index == this.starts.length) {
+            this.starts = Arrays.copyOf(this.starts, index * 2);
+            this.ends   = Arrays.copyOf(this.ends, index * 2);
+
+            if (this.keys != null) {
+                this.keys = Arrays.copyOf(this.keys, index * 2);
+            }
+        }
+
+        if (this.keys != null) {
+            this.keys[index] = FoldedTokens.key(data, start, end);
+        }
+
+        this.tokens.add(data.substring(start, end));
+        this.starts[index] = start;
+        this.ends[index]   = end;
+    }
+
+    /**
+     * Close the command starting at the provided token index, unless it has no token.
+     *
+     * @return The index of the first token of the next command.
+     */
+    private int command(int from) {
+
+        int to = this.tokens.size();
+
+        if (from == to) {
+            return to;
+        }
+
+        if (this.count * 2 == this.commands.length) {
+            this.commands = Arrays.copyOf(this.commands, this.commands.length * 2);
+        }
+
+        this.commands[this.count * 2]     = from;
+        this.commands[this.count * 2 + 1] = to;
+        this.count++;
+        return to;
+    }
+
+    /**
+     * Retrieve the amount of commands in the message.
+     *
+     * @return The amount of commands.
+     */
+    int size() {
+
+        return this.count;
+    }
+
+    /**
+     * Retrieve the tokens of the provided command.
+     *
+     * @param command The index of the command.
+     *
+     * @return A view of the tokens of the command.
+     */
+    List<String> get(int command) {
+
+        List<String> tokens = this.folded == null ? this.tokens : this.folded;
+        return tokens.subList(this.commands[command * 2], this.commands[command * 2 + 1]);
+    }
+
+    /**
+     * Retrieve the position in the message of the provided token of a command. If the token index is the amount of
+     * tokens of the command, which means that a token was missing, the position right after its last token is
+     * returned.
+     *
+     * @param command The index of the command.
+     * @param token   The index of the token in the command.
+     *
+     * @return The position of the token in the message.
+     */
+    int offset(int command, int token) {
+
+        int from = this.commands[command * 2];
+        int to   = this.commands[command * 2 + 1];
+
+        return from + token < to ? this.starts[from + token] : this.ends[to - 1];
+    }
+
+}
@@ -0,0 +1,285 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingReport;
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import fr.alexpado.syntaxic.rules.FillingSyntax;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * A DelegatingContainer is an {@link ISyntaxContainer} matching a fixed prefix, such as <code>admin user</code>, and
+ * handing the remaining tokens to a nested {@link SyntaxService}. A family of commands sharing the same prefix is then
+ * registered as a single container, so its prefix is checked once per user's input instead of once per command.
+ * <p>
+ * When the nested {@link SyntaxService} matches, the {@link IMatchingResult} returned by the parent
+ * {@link SyntaxService} has the identifier found by the nested one, and holds the values of both levels. Values of the
+ * nested level take precedence over the prefix values having the same name. The order of the DelegatingContainer is
+ * used to resolve ambiguities in the parent {@link SyntaxService}.
+ * <p>
+ * The nested {@link SyntaxService} can be replaced at any time, so a subtree can be reloaded without rebuilding its
+ * parent.
+ *
+ * @param <T> Type of the identifier of the nested {@link SyntaxService}, which must be the one of the parent
+ *            {@link SyntaxService}.
+ */
+public class DelegatingContainer<T> implements ISyntaxContainer {
+
+    private final     SyntaxContainer     prefix;
+    private final     int                 length;
+    private final     List<String>        completion;
+    private volatile  SyntaxService<T>    service;
+    private @Nullable Parameters          parameters;
+    private @Nullable Map<String, String> matches;
+
+    /**
+     * Create a new instance of this {@link ISyntaxContainer} implementation.
+     *
+     * @param prefix  A {@link List} of {@link ISyntax} matching the prefix. It can't contain any {@link FillingSyntax}.
+     * @param service The {@link SyntaxService} matching the tokens following the prefix.
+     * @param order   The order (priority) of the {@link ISyntaxContainer}.
+     *
+     * @throws IllegalArgumentException Thrown if the prefix is empty or contains a {@link FillingSyntax}.
+     */
+    public DelegatingContainer(List<ISyntax> prefix, SyntaxService<T> service, int order) {
+
+        if (prefix.isEmpty()) {
+            throw new IllegalArgumentException("The prefix of a delegating container can't be empty");
+        }
+
+        if (prefix.stream().anyMatch(FillingSyntax.class::isInstance)) {
+            throw new IllegalArgumentException("The prefix of a delegating container must have a fixed length");
+        }
+
+        this.prefix     = new SyntaxContainer(prefix, order);
+        this.length     = prefix.size();
+        this.completion = new ArrayList<>();
+        this.service    = service;
+        this.parameters = null;
+        this.matches    = null;
+    }
+
+    /**
+     * Retrieve the {@link SyntaxService} matching the tokens following the prefix.
+     *
+     * @return The nested {@link SyntaxService}.
+     */
+    public SyntaxService<T> getService() {
+
+        return this.service;
+    }
+
+    /**
+     * Replace the {@link SyntaxService} matching the tokens following the prefix. Evaluations already running keep
+     * using the previous one.
+     *
+     * @param service The new nested {@link SyntaxService}.
+     */
+    public void setService(@NotNull SyntaxService<T> service) {
+
+        this.service = service;
+    }
+
+    /**
+     * Return a {@link List} of strings completing the user's input.
+     *
+     * @return A {@link List}
+     */
+    @Override
+    public @NotNull List<String> getCompletion() {
+
+        return this.completion;
+    }
+
+    /**
+     * Return a {@link Map} associating all dynamic arguments of the prefix and of the command matched by the nested
+     * {@link SyntaxService} to their matching values present in the user's input.
+     *
+     * @return A {@link Map}.
+     */
+    @Override
+    public @NotNull Map<String, String> getMatches() {
+
+        if (this.parameters == null) {
+            return Collections.emptyMap();
+        }
+
+        // Values are only turned into a map when requested.
+        if (this.matches == null) {
+            this.matches = this.parameters.toMap();
+        }
+
+        return this.matches;
+    }
+
+    /**
+     * Retrieve the {@link Parameters} matched during the last call to {@link #isMatching(List)}, holding the identifier
+     * found by the nested {@link SyntaxService}. They are created for each evaluation and never modified afterwards.
+     *
+     * @return The {@link Parameters} of the last evaluation.
+     */
+    Parameters getParameters() {
+
+        if (this.parameters == null) {
+            return Parameters.of(Collections.emptyMap());
+        }
+
+        return this.parameters;
+    }
+
+    /**
+     * Check if the provided {@link List} of strings can be completed by this {@link ISyntaxContainer}. The prefix is
+     * completed by this container, while the tokens following it are completed by the nested {@link SyntaxService}.
+     *
+     * @param data The data to check against this {@link ISyntaxContainer}.
+     *
+     * @return True if the provided {@link List} is a valid candidate for completion, false otherwise.
+     */
+    @Override
+    public boolean isCompletable(@NotNull List<String> data) {
+
+        this.completion.clear();
+
+        if (data.size() <= this.length) {
+            boolean completable = this.prefix.isCompletable(data);
+
+            if (completable) {
+                this.completion.addAll(this.prefix.getCompletion());
+            }
+
+            return completable;
+        }
+
+        if (!this.prefix.isMatching(data.subList(0, this.length))) {
+            return false;
+        }
+
+        this.completion.addAll(this.service.complete(data.subList(this.length, data.size())));
+        return !this.completion.isEmpty();
+    }
+
+    /**
+     * Check if the provided {@link List} of strings starts with the prefix, and if the nested {@link SyntaxService}
+     * matches the remaining tokens.
+     *
+     * @param data The data to check against this {@link ISyntaxContainer}.
+     *
+     * @return True if the provided {@link List} matches this {@link ISyntaxContainer}.
+     */
+    @Override
+    public boolean isMatching(@NotNull List<String> data) {
+
+        this.parameters = null;
+        this.matches    = null;
+
+        if (data.size() <= this.length || !this.prefix.isMatching(data.subList(0, this.length))) {
+            return false;
+        }
+
+        Optional<IMatchingResult<T>> nested = this.service.getMatchingResult(data.subList(this.length, data.size()));
+
+        if (nested.isEmpty()) {
+            return false;
+        }
+
+        this.accept(nested.get());
+        return true;
+    }
+
+    /**
+     * Same as {@link #isMatching(List)}, but reporting to the provided collector how far the provided {@link List} of
+     * strings went when it didn't match. Identifiers found by the nested {@link SyntaxService} are reported, unless the
+     * nested {@link SyntaxService} rejected the first token following the prefix.
+     *
+     * @param data      The data to check against this {@link ISyntaxContainer}.
+     * @param collector The collector of the containers that accepted the most leading tokens.
+     *
+     * @return True if the provided {@link List} matches this {@link ISyntaxContainer}.
+     */
+    boolean explore(List<String> data, MatchingReport.Collector collector) {
+
+        this.parameters = null;
+        this.matches    = null;
+
+        List<String> prefixData = data.subList(0, Math.min(data.size(), this.length));
+
+        if (!this.prefix.explore(prefixData)) {
+            collector.reached(this, this.prefix.getReached(), this.prefix.getParameters());
+            return false;
+        }
+
+        if (data.size() == this.length) {
+            // The whole prefix has been accepted, but a command was expected after it.
+            collector.reached(this, this.length, this.prefix.getParameters());
+            return false;
+        }
+
+        IMatchingReport<T> nested = this.service.getMatchingReport(data.subList(this.length, data.size()));
+
+        if (nested.getResult().isPresent()) {
+            this.accept(nested.getResult().get());
+            return true;
+        }
+
+        if (nested.getDeepestIdentifiers().isEmpty()) {
+            collector.reached(this, this.length, this.prefix.getParameters());
+            return false;
+        }
+
+        for (T identifier : nested.getDeepestIdentifiers()) {
+            Parameters parameters = Parameters.merge(this.prefix.getParameters(), Parameters.of(nested.getCaptured(identifier)));
+            parameters.identify(identifier);
+            collector.reached(this, this.length + nested.getFailedIndex(), parameters);
+        }
+
+        return false;
+    }
+
+    /**
+     * Keep the provided {@link IMatchingResult} of the nested {@link SyntaxService}, merging its values with the values
+     * of the prefix. Values of the nested level take precedence, and numeric values keep their parsed value.
+     *
+     * @param nested The {@link IMatchingResult} of the nested {@link SyntaxService}.
+     */
+    private void accept(IMatchingResult<T> nested) {
+
+        Parameters merged = Parameters.merge(this.prefix.getParameters(), ((MatchingResult<?>) nested).getParameters());
+        merged.identify(nested.getIdentifier());
+
+        this.parameters = merged;
+    }
+
+    /**
+     * Retrieve the amount of regex-based {@link ISyntax} of the prefix that have been evaluated during the last call to
+     * {@link #isMatching(List)} or {@link #isCompletable(List)}.
+     *
+     * @return The amount of regex evaluations.
+     */
+    @Override
+    public int getRegexEvaluations() {
+
+        return this.prefix.getRegexEvaluations();
+    }
+
+    /**
+     * Retrieve this {@link ISyntaxContainer} order among all other {@link ISyntaxContainer} that may be created by
+     * {@link ISyntaxService}.
+     *
+     * @return The order of this {@link ISyntaxContainer}
+     */
+    @Override
+    public int getOrder() {
+
+        return this.prefix.getOrder();
+    }
+
+    @Override
+    public int compareTo(@NotNull ISyntaxContainer other) {
+
+        return Integer.compare(this.getOrder(), other.getOrder());
+    }
+}
@@ -0,0 +1,223 @@
+package fr.alexpado.syntaxic;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.text.Normalizer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * FoldedTokens are the tokens of a user's input prepared by a normalizing {@link SyntaxService}. Each token comes with
+ * a key, which is the token case-folded and NFC-normalized, built while the input is scanned.
+ * <p>
+ * Literals and options are compared to the keys, while {@link #get(int)} returns the tokens as typed by the user, so
+ * that values stored in {@link Parameters} keep the original text. Tokens are only extracted from the user's input when
+ * they are requested.
+ *
+ * @see SyntaxServiceBuilder#withNormalization()
+ */
+final class FoldedTokens extends AbstractList<String> implements RandomAccess {
+
+    private final String   data;
+    private final int[]    starts;
+    private final int[]    ends;
+    private final String[] keys;
+    private final String[] originals;
+    private final int      offset;
+    private final int      size;
+
+    /**
+     * Create FoldedTokens over the provided user's input.
+     *
+     * @param data      The user's input.
+     * @param starts    The position of the first character of each token.
+     * @param ends      The position after the last character of each token.
+     * @param keys      The key of each token.
+     * @param originals The already extracted tokens, filled when they are requested.
+     * @param offset    The index of the first token of this view.
+     * @param size      The amount of tokens of this view.
+     */
+    FoldedTokens(String data, int[] starts, int[] ends, String[] keys, String[] originals, int offset, int size) {
+
+        this.data      = data;
+        this.starts    = starts;
+        this.ends      = ends;
+        this.keys      = keys;
+        this.originals = originals;
+        this.offset    = offset;
+        this.size      = size;
+    }
+
+    /**
+     * Split the provided user's input on spaces, exactly like {@link SyntaxService#prepareUserData(String)}, and fold
+     * every token while scanning it.
+     *
+     * @param data The user's input.
+     *
+     * @return The FoldedTokens of the user's input.
+     */
+    static FoldedTokens of(String data) {
+
+        int from = 0;
+        int to   = data.length();
+
+        while (from < to && data.charAt(from) <= ' ') {
+            from++;
+        }
+
+        while (to > from && data.charAt(to - 1) <= ' ') {
+            to--;
+        }
+
+        int[]    starts = new int[8];
+        int[]    ends   = new int[8];
+        String[] keys   = new String[8];
+        int      size   = 0;
+        int      cursor = from;
+
+        if (from == to) {
+            keys[size++] = "";
+        }
+
+        while (cursor < to) {
+            int end = cursor;
+
+            while (end < to && data.charAt(end) != ' ') {
+                end++;
+            }
+
+            if (size + 1 >= starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+                ends   = Arrays.copyOf(ends, ends.length * 2);
+                keys   = Arrays.copyOf(keys, keys.length * 2);
+            }
+
+            starts[size] = cursor;
+            ends[size]   = end;
+            keys[size]   = key(data, cursor, end);
+            size++;
+
+            cursor = end;
+
+            while (cursor < to && data.charAt(cursor) == ' ') {
+                cursor++;
+            }
+        }
+
+        if (!data.isEmpty() && data.charAt(data.length() - 1) == ' ') {
+            starts[size] = data.length();
+            ends[size]   = data.length();
+            keys[size]   = "";
+            size++;
+        }
+
+        return new FoldedTokens(data, starts, ends, keys, new String[size], 0, size);
+    }
+
+    /**
+     * Build the key of the provided part of the user's input. ASCII text is lower-cased while being copied, other text
+     * goes through {@link #fold(String)}.
+     *
+     * @param data  The user's input.
+     * @param start The position of the first character of the token.
+     * @param end   The position after the last character of the token.
+     *
+     * @return The key of the token.
+     */
+    static String key(String data, int start, int end) {
+
+        char[] key = new char[end - start];
+
+        for (int i = start; i < end; i++) {
+            char c = data.charAt(i);
+
+            if (c >= 0x80) {
+                return fold(data.substring(start, end));
+            }
+
+            key[i - start] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+
+        return new String(key);
+    }
+
+    /**
+     * Case-fold and NFC-normalize the provided text, as done for every key.
+     *
+     * @param text The text to fold.
+     *
+     * @return The folded text.
+     */
+    static String fold(String text) {
+
+        String        normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder folded     = new StringBuilder(normalized.length());
+
+        normalized.codePoints().forEach(codePoint -> folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return Normalizer.normalize(folded, Normalizer.Form.NFC);
+    }
+
+    /**
+     * Retrieve the key of the token at the provided index.
+     *
+     * @param index The index of the token.
+     *
+     * @return The case-folded and NFC-normalized token.
+     */
+    String key(int index) {
+
+        return this.keys[this.offset + index];
+    }
+
+    /**
+     * Retrieve the token at the provided index, as typed by the user.
+     *
+     * @param index The index of the token.
+     *
+     * @return The token.
+     */
+    @Override
+    public String get(int index) {
+
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.size);
+        }
+
+        int    position = this.offset + index;
+        String original = this.originals[position];
+
+        if (original == null) {
+            original                 = this.data.substring(this.starts[position], this.ends[position]);
+            this.originals[position] = original;
+        }
+
+        return original;
+    }
+
+    @Override
+    public int size() {
+
+        return this.size;
+    }
+
+    /**
+     * Retrieve a view of the provided range of tokens, which keeps the keys of the tokens.
+     *
+     * @param fromIndex The index of the first token.
+     * @param toIndex   The index after the last token.
+     *
+     * @return FoldedTokens holding the tokens of the range.
+     */
+    @Override
+    public @NotNull List<String> subList(int fromIndex, int toIndex) {
+
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range " + fromIndex + ".." + toIndex + " out of bounds for length " + this.size);
+        }
+
+        return new FoldedTokens(this.data, this.starts, this.ends, this.keys, this.originals, this.offset + fromIndex, toIndex - fromIndex);
+    }
+
+}
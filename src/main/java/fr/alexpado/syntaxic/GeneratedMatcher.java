@@ -0,0 +1,361 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IOptionSource;
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.rules.FillingSyntax;
+import fr.alexpado.syntaxic.rules.NumericSyntax;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A GeneratedMatcher is a matcher specialized at runtime for a single {@link SyntaxContainer}, using
+ * <code>java.lang.invoke</code> and hidden classes.
+ * <p>
+ * The {@link SyntaxProgram} of the container is unrolled into a tree of {@link MethodHandle}, one guard per token, in
+ * which every operand is bound as a constant: literals are compared with a constant string, option sets become
+ * constant immutable hash sets and matched values are written straight into a slot of the {@link Parameters}. The tree
+ * is then handed as class data to a hidden class defined from the {@link GeneratedTree} template, in which it is a
+ * constant the JIT inlines entirely, so each container gets its own compiled matching method. The tree returns the
+ * index of the rejected token, or the amount of tokens if every token matched, so the amount of regex evaluations can
+ * be known without any counter.
+ * <p>
+ * Matching runs without any lock: inputs whose first token differs from the leading literal of the container, which
+ * are most of them in a large registry, are rejected without calling the tree, and the tree first runs without any
+ * {@link Parameters}, which are only created and filled by a second run once every token matched.
+ * <p>
+ * A GeneratedMatcher is stateless and can be used by multiple threads at once. As option sets are copied when
+ * generating the matcher, further changes to the possible values of a {@link ISyntax} won't be seen by it.
+ */
+final class GeneratedMatcher {
+
+    private static final MethodHandle WORD;
+    private static final MethodHandle SELECTIVE;
+    private static final MethodHandle REGEX;
+    private static final MethodHandle EAGER;
+    private static final MethodHandle FILLING;
+    private static final MethodHandle NUMERIC;
+    private static final MethodHandle CUSTOM;
+    private static final byte[]       TEMPLATE;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType           check  = MethodType.methodType(boolean.class, String[].class, Parameters.class);
+
+        try {
+            WORD      = lookup.findStatic(GeneratedMatcher.class, "word", check.insertParameterTypes(0, String.class, int.class, int.class));
+            SELECTIVE = lookup.findStatic(GeneratedMatcher.class, "selective", check.insertParameterTypes(0, Collection.class, int.class, int.class));
+            REGEX     = lookup.findStatic(GeneratedMatcher.class, "regex", check.insertParameterTypes(0, Pattern.class, int.class, int.class));
+            EAGER     = lookup.findStatic(GeneratedMatcher.class, "eager", check.insertParameterTypes(0, int.class, int.class));
+            FILLING   = lookup.findStatic(GeneratedMatcher.class, "filling", check.insertParameterTypes(0, int.class, int.class));
+            NUMERIC   = lookup.findStatic(GeneratedMatcher.class, "numeric", check.insertParameterTypes(0, NumericSyntax.class, int.class, int.class));
+            CUSTOM    = lookup.findStatic(GeneratedMatcher.class, "custom", check.insertParameterTypes(0, ISyntax.class, int.class, int.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+
+        try (InputStream stream = GeneratedMatcher.class.getResourceAsStream("GeneratedTree.class")) {
+            TEMPLATE = Objects.requireNonNull(stream, "Missing GeneratedTree template").readAllBytes();
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final           Tree          tree;
+    private final           SyntaxProgram program;
+    private final           boolean       filling;
+    private final @Nullable String        leading;
+
+    private GeneratedMatcher(Tree tree, SyntaxProgram program, boolean filling) {
+
+        this.tree    = tree;
+        this.program = program;
+        this.filling = filling;
+        this.leading = program.size() > 0 && program.kind(0) == SyntaxProgram.WORD ? program.name(0) : null;
+    }
+
+    /**
+     * Generate a {@link GeneratedMatcher} for the provided {@link ISyntaxContainer}.
+     *
+     * @param container The {@link ISyntaxContainer} for which the matcher will be generated.
+     *
+     * @return A {@link GeneratedMatcher}, or null if the container isn't a {@link SyntaxContainer}, has optional or
+     *         repeatable groups or contains a subclass of {@link FillingSyntax}.
+     */
+    static @Nullable GeneratedMatcher generate(ISyntaxContainer container) {
+
+        //noinspection InstanceofConcreteClass
+        if (!(container instanceof SyntaxContainer)) {
+            return null;
+        }
+
+        // Optional and repeatable groups don't have a fixed amount of tokens to unroll.
+        if (((SyntaxContainer) container).hasGrammar()) {
+            return null;
+        }
+
+        SyntaxProgram program = ((SyntaxContainer) container).getProgram();
+
+        for (int i = 0; i < program.size(); i++) {
+            if (program.isFilling(i) && program.kind(i) == SyntaxProgram.CUSTOM) {
+                return null;
+            }
+        }
+
+        // Built from the last token to the first, each guard calling the next one only if its token matched.
+        MethodHandle handle = reached(program.size());
+        int          last   = program.size() - 1;
+
+        for (int i = last; i >= 0; i--) {
+            int          slot = program.slot(i);
+            MethodHandle check;
+
+            switch (program.kind(i)) {
+                case SyntaxProgram.WORD:
+                    check = MethodHandles.insertArguments(WORD, 0, program.name(i), i, slot);
+                    break;
+                case SyntaxProgram.SELECTIVE:
+                    check = MethodHandles.insertArguments(SELECTIVE, 0, lookup(Objects.requireNonNull(program.values(i))), i, slot);
+                    break;
+                case SyntaxProgram.REGEX:
+                    check = MethodHandles.insertArguments(REGEX, 0, program.pattern(i), i, slot);
+                    break;
+                case SyntaxProgram.EAGER:
+                    check = MethodHandles.insertArguments(EAGER, 0, i, slot);
+                    break;
+                case SyntaxProgram.FILLING:
+                    check = MethodHandles.insertArguments(i == last ? FILLING : EAGER, 0, i, slot);
+                    break;
+                case SyntaxProgram.ALTERNATION:
+                    check = MethodHandles.insertArguments(SELECTIVE, 0, Objects.requireNonNull(program.alternation(i)).getLookup(), i, slot);
+                    break;
+                case SyntaxProgram.NUMERIC:
+                    check = MethodHandles.insertArguments(NUMERIC, 0, program.numeric(i), i, slot);
+                    break;
+                default:
+                    check = MethodHandles.insertArguments(CUSTOM, 0, program.syntax(i), i, slot);
+                    break;
+            }
+
+            handle = MethodHandles.guardWithTest(check, handle, reached(i));
+        }
+
+        return new GeneratedMatcher(define(handle), program, program.size() > 0 && program.isFilling(last));
+    }
+
+    /**
+     * Define a hidden class from the {@link GeneratedTree} template, holding the provided tree as a constant. Hidden
+     * classes aren't strongly bound to their class loader, so they are unloaded along with their matcher.
+     *
+     * @param handle The {@link MethodHandle} tree of the container.
+     *
+     * @return The {@link Tree} invoking the provided tree.
+     */
+    private static Tree define(MethodHandle handle) {
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(TEMPLATE, handle, true);
+            return (Tree) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to define the generated matcher", e);
+        }
+    }
+
+    /**
+     * Create the handle ending the tree, returning the provided index whatever the tokens.
+     *
+     * @param index The index of the rejected token, or the amount of tokens if every token matched.
+     *
+     * @return A {@link MethodHandle} taking the tokens and the {@link Parameters}.
+     */
+    private static MethodHandle reached(int index) {
+
+        return MethodHandles.dropArguments(MethodHandles.constant(int.class, index), 0, String[].class, Parameters.class);
+    }
+
+    /**
+     * Check if the provided tokens match the {@link SyntaxContainer} for which this matcher has been generated.
+     *
+     * @param userData The prepared user's input.
+     * @param tokens   The prepared user's input, as an array.
+     *
+     * @return The {@link Parameters} if the tokens matched, null otherwise.
+     *
+     * @see ISyntaxContainer#isMatching(List)
+     * @see ISyntaxContainer#getMatches()
+     */
+    @Nullable Parameters match(List<String> userData, String[] tokens) {
+
+        return this.match(userData, tokens, null);
+    }
+
+    /**
+     * Same as {@link #match(List, String[])}, but adding the amount of regex evaluations to the provided counter.
+     *
+     * @param userData The prepared user's input.
+     * @param tokens   The prepared user's input, as an array.
+     * @param regex    The counter receiving the amount of regex evaluations, as counted by
+     *                 {@link ISyntaxContainer#getRegexEvaluations()}, may be null.
+     *
+     * @return The {@link Parameters} if the tokens matched, null otherwise.
+     *
+     * @see ISyntaxContainer#isMatching(List)
+     * @see ISyntaxContainer#getMatches()
+     */
+    @Nullable Parameters match(List<String> userData, String[] tokens, @Nullable LongAdder regex) {
+
+        int size = this.program.size();
+
+        if (tokens.length < size || (tokens.length > size && !this.filling)) {
+            return null;
+        }
+
+        // Checked before calling the tree, so most containers of a large registry are rejected without any call.
+        if (this.leading != null && !this.leading.equals(tokens[0])) {
+            return null;
+        }
+
+        // The tokens are checked first, so the parameters are only created and filled if every token matched.
+        int reached = this.tree.match(tokens, null);
+
+        if (regex != null) {
+            // The rejected token has been evaluated too.
+            regex.add(this.program.regexCount(Math.min(reached + 1, size)));
+        }
+
+        if (reached != size) {
+            return null;
+        }
+
+        Parameters parameters = this.program.createParameters();
+        parameters.reset(userData, null);
+        this.tree.match(tokens, parameters);
+        return parameters;
+    }
+
+    /**
+     * The matching method of a hidden class defined from the {@link GeneratedTree} template.
+     */
+    interface Tree {
+
+        /**
+         * Run the tree of the container against the provided tokens.
+         *
+         * @param tokens     The prepared user's input, as an array.
+         * @param parameters The {@link Parameters} receiving the matched values, or null to only check the tokens.
+         *
+         * @return The index of the rejected token, or the amount of tokens of the container if every token matched.
+         */
+        int match(String[] tokens, @Nullable Parameters parameters);
+
+    }
+
+    private static boolean word(String literal, int index, int slot, String[] tokens, @Nullable Parameters parameters) {
+
+        if (!literal.equals(tokens[index])) {
+            return false;
+        }
+
+        if (parameters != null) {
+            parameters.token(slot, index);
+        }
+        return true;
+    }
+
+    /**
+     * Retrieve the collection in which the provided possible values are looked up: an {@link IOptionSource} is used
+     * directly, other lists are copied into an immutable hash set.
+     */
+    private static Collection<String> lookup(List<String> values) {
+
+        return values instanceof IOptionSource ? values : Set.copyOf(values);
+    }
+
+    private static boolean selective(Collection<String> options, int index, int slot, String[] tokens, @Nullable Parameters parameters) {
+
+        if (!options.contains(tokens[index])) {
+            return false;
+        }
+
+        if (parameters != null) {
+            parameters.token(slot, index);
+        }
+        return true;
+    }
+
+    private static boolean regex(Pattern pattern, int index, int slot, String[] tokens, @Nullable Parameters parameters) {
+
+        Matcher matcher = pattern.matcher(tokens[index]);
+
+        if (!matcher.matches()) {
+            return false;
+        }
+
+        String value = matcher.group(matcher.groupCount());
+
+        if (parameters != null && value != null) {
+            parameters.value(slot, value);
+        }
+        return true;
+    }
+
+    private static boolean eager(int index, int slot, String[] tokens, @Nullable Parameters parameters) {
+
+        if (parameters != null) {
+            parameters.token(slot, index);
+        }
+        return true;
+    }
+
+    /**
+     * Capture every remaining token, as done by a {@link FillingSyntax} ending a container.
+     */
+    private static boolean filling(int index, int slot, String[] tokens, @Nullable Parameters parameters) {
+
+        if (parameters != null) {
+            parameters.range(slot, index, tokens.length);
+        }
+        return true;
+    }
+
+    private static boolean numeric(NumericSyntax syntax, int index, int slot, String[] tokens, @Nullable Parameters parameters) {
+
+        long number = syntax.parse(tokens[index]);
+
+        if (number == NumericSyntax.INVALID) {
+            return false;
+        }
+
+        if (parameters != null) {
+            parameters.number(slot, index, number);
+        }
+        return true;
+    }
+
+    private static boolean custom(ISyntax syntax, int index, int slot, String[] tokens, @Nullable Parameters parameters) {
+
+        // Custom syntaxes are stateful, as the last match is read back after the check.
+        synchronized (syntax) {
+            if (!syntax.isMatching(tokens[index])) {
+                return false;
+            }
+
+            if (parameters != null) {
+                syntax.getLastMatch().ifPresent(value -> parameters.value(slot, value));
+            }
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package fr.alexpado.syntaxic;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * The GeneratedTree is the template of the hidden classes defined by {@link GeneratedMatcher}. It is never loaded as
+ * is: its bytecode is defined once per {@link SyntaxContainer} as a hidden class, along with the {@link MethodHandle}
+ * tree of the container as class data.
+ * <p>
+ * As the tree is held by a static final field of a hidden class, the JIT trusts it as a constant and inlines the whole
+ * tree into {@link #match(String[], Parameters)}, giving each container its own compiled matching method.
+ */
+final class GeneratedTree implements GeneratedMatcher.Tree {
+
+    private static final MethodHandle TREE;
+
+    static {
+        try {
+            TREE = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public int match(String[] tokens, @Nullable Parameters parameters) {
+
+        try {
+            return (int) TREE.invokeExact(tokens, parameters);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
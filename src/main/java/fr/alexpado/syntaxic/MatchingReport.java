@@ -0,0 +1,175 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingReport;
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The {@link IMatchingReport} created by a {@link SyntaxService}. Its content is collected while containers are
+ * evaluated, so reporting how far the user's input went doesn't need a second evaluation.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+final class MatchingReport<T> implements IMatchingReport<T> {
+
+    private final @Nullable IMatchingResult<T>          result;
+    private final           boolean                     ambiguous;
+    private final           int                         failedIndex;
+    private final           Map<T, Map<String, String>> captured;
+
+    /**
+     * Create a new {@link MatchingReport}.
+     *
+     * @param result      The {@link IMatchingResult} of the user's input, if any.
+     * @param ambiguous   True if several identifiers with the same order matched the user's input.
+     * @param failedIndex The index of the rejected token, or <code>-1</code> if the user's input matched.
+     * @param captured    The values captured by each deepest identifier, in evaluation order.
+     */
+    MatchingReport(@Nullable IMatchingResult<T> result, boolean ambiguous, int failedIndex, Map<T, Map<String, String>> captured) {
+
+        this.result      = result;
+        this.ambiguous   = ambiguous;
+        this.failedIndex = failedIndex;
+        this.captured    = captured;
+    }
+
+    @Override
+    public @NotNull Optional<IMatchingResult<T>> getResult() {
+
+        return Optional.ofNullable(this.result);
+    }
+
+    @Override
+    public boolean isAmbiguous() {
+
+        return this.ambiguous;
+    }
+
+    @Override
+    public @NotNull List<T> getDeepestIdentifiers() {
+
+        return new ArrayList<>(this.captured.keySet());
+    }
+
+    @Override
+    public int getFailedIndex() {
+
+        return this.failedIndex;
+    }
+
+    @Override
+    public @NotNull Map<String, String> getCaptured(@NotNull T identifier) {
+
+        return this.captured.getOrDefault(identifier, Collections.emptyMap());
+    }
+
+    /**
+     * A Collector keeps the containers that accepted the most leading tokens while a {@link SyntaxService} evaluates
+     * them. It is used by a single evaluation, from a single thread.
+     */
+    static final class Collector {
+
+        private final List<Candidate> candidates;
+        private       int             reached;
+        private       int             matched;
+
+        Collector() {
+
+            this.candidates = new ArrayList<>();
+            this.reached    = 0;
+            this.matched    = 0;
+        }
+
+        /**
+         * Record the amount of leading tokens accepted by the provided container, keeping a copy of its values if no
+         * other container went further.
+         *
+         * @param container  The {@link ISyntaxContainer} that has been evaluated.
+         * @param reached    The amount of leading tokens accepted.
+         * @param parameters The values captured by the container. If they hold an identifier, it is reported instead
+         *                   of the identifier of the container.
+         */
+        void reached(ISyntaxContainer container, int reached, Parameters parameters) {
+
+            if (reached == 0 || reached < this.reached) {
+                return;
+            }
+
+            if (reached > this.reached) {
+                this.candidates.clear();
+                this.reached = reached;
+            }
+
+            this.candidates.add(new Candidate(container, parameters.copy()));
+        }
+
+        /**
+         * Record that a container matched the whole user's input.
+         *
+         * @param container  The {@link ISyntaxContainer} that matched.
+         * @param tokenCount The amount of tokens of the user's input.
+         * @param parameters The values matched by the container.
+         */
+        void matched(ISyntaxContainer container, int tokenCount, Parameters parameters) {
+
+            this.matched++;
+            this.reached(container, tokenCount, parameters);
+        }
+
+        /**
+         * Create the {@link MatchingReport} of an evaluation that didn't return any {@link IMatchingResult}.
+         *
+         * @param identifierMap The map associating each identifier to its {@link ISyntaxContainer}.
+         * @param <T>           Type of the identifier.
+         *
+         * @return A {@link MatchingReport}.
+         */
+        @SuppressWarnings("unchecked")
+        <T> MatchingReport<T> report(Map<T, ISyntaxContainer> identifierMap) {
+
+            Map<ISyntaxContainer, T> owners = new IdentityHashMap<>();
+
+            for (Candidate candidate : this.candidates) {
+                owners.put(candidate.container, null);
+            }
+
+            identifierMap.forEach((identifier, container) -> owners.replace(container, identifier));
+
+            Map<T, Map<String, String>> captured = new LinkedHashMap<>();
+
+            for (Candidate candidate : this.candidates) {
+                Object nested     = candidate.parameters.getIdentifier();
+                T      identifier = nested == null ? owners.get(candidate.container) : (T) nested;
+
+                if (identifier != null) {
+                    captured.putIfAbsent(identifier, candidate.parameters.toMap());
+                }
+            }
+
+            return new MatchingReport<>(null, this.matched > 1, this.reached, captured);
+        }
+
+    }
+
+    /**
+     * A container that accepted the most leading tokens, with the values it captured.
+     */
+    private static final class Candidate {
+
+        private final ISyntaxContainer container;
+        private final Parameters       parameters;
+
+        private Candidate(ISyntaxContainer container, Parameters parameters) {
+
+            this.container  = container;
+            this.parameters = parameters;
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * The {@link IMatchingResult} created by a {@link SyntaxService}, reading its values from the {@link Parameters} of the
+ * matching {@link ISyntaxContainer}.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+final class MatchingResult<T> implements IMatchingResult<T> {
+
+    private final T          identifier;
+    private final Parameters parameters;
+
+    /**
+     * Create a new {@link MatchingResult}.
+     *
+     * @param identifier The identifier of the matching {@link ISyntaxContainer}.
+     * @param parameters The {@link Parameters} of the matching {@link ISyntaxContainer}.
+     */
+    MatchingResult(T identifier, Parameters parameters) {
+
+        this.identifier = identifier;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Retrieve the {@link Parameters} holding the values of this {@link MatchingResult}.
+     *
+     * @return The {@link Parameters}.
+     */
+    Parameters getParameters() {
+
+        return this.parameters;
+    }
+
+    /**
+     * Retrieve the completion identifier {@link T} of this {@link IMatchingResult}.
+     *
+     * @return A completion identifier {@link T}.
+     */
+    @Override
+    public @NotNull T getIdentifier() {
+
+        return this.identifier;
+    }
+
+    /**
+     * Retrieve the completion argument matching the provided name.
+     *
+     * @param name The argument name.
+     *
+     * @return An optional value of the argument.
+     *
+     * @see ISyntax#getName()
+     */
+    @Override
+    public @NotNull Optional<String> getParameter(@NotNull String name) {
+
+        return Optional.ofNullable(this.parameters.get(name));
+    }
+
+    @Override
+    public @NotNull OptionalInt getInt(@NotNull String name) {
+
+        return this.parameters.getInt(name);
+    }
+
+    @Override
+    public @NotNull OptionalLong getLong(@NotNull String name) {
+
+        return this.parameters.getLong(name);
+    }
+
+    @Override
+    public <E extends Enum<E>> @NotNull Optional<E> getEnum(@NotNull String name, @NotNull Class<E> type) {
+
+        return this.parameters.getEnum(name, type);
+    }
+
+}
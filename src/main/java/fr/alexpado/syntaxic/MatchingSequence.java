@@ -0,0 +1,66 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingReport;
+import fr.alexpado.syntaxic.interfaces.IMatchingSequence;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * The {@link IMatchingSequence} created by a {@link SyntaxService}.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+final class MatchingSequence<T> implements IMatchingSequence<T> {
+
+    private final List<IMatchingReport<T>> reports;
+    private final int                      failedCommand;
+    private final int                      failedOffset;
+
+    /**
+     * Create a new {@link MatchingSequence}.
+     *
+     * @param sequence The tokenized message.
+     * @param reports  The {@link IMatchingReport} of each command of the message.
+     */
+    MatchingSequence(CommandSequence sequence, List<IMatchingReport<T>> reports) {
+
+        int failed = -1;
+
+        for (int i = 0; i < reports.size() && failed < 0; i++) {
+            if (reports.get(i).getResult().isEmpty()) {
+                failed = i;
+            }
+        }
+
+        this.reports       = List.copyOf(reports);
+        this.failedCommand = failed;
+        this.failedOffset  = failed < 0 ? -1 : sequence.offset(failed, reports.get(failed).getFailedIndex());
+    }
+
+    @Override
+    public @NotNull List<IMatchingReport<T>> getReports() {
+
+        return this.reports;
+    }
+
+    @Override
+    public boolean isMatching() {
+
+        return this.failedCommand < 0;
+    }
+
+    @Override
+    public int getFailedCommand() {
+
+        return this.failedCommand;
+    }
+
+    @Override
+    public int getFailedOffset() {
+
+        return this.failedOffset;
+    }
+
+}
@@ -0,0 +1,81 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.events.IndexBuildEvent;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * The OrderedIndex keeps an evaluation array of every {@link ISyntaxContainer} sorted by order (priority).
+ * <p>
+ * Every container having an order lower than or equal to the matching one must be evaluated to detect a better or an
+ * ambiguous match, so the evaluation order within the same order doesn't change the amount of evaluations. The gain
+ * comes from stopping the evaluation once no remaining container can change the result.
+ *
+ * @param <T> Type of the identifier.
+ */
+final class OrderedIndex<T> {
+
+    private static final Comparator<Entry<?>> ORDERING = Comparator.comparingInt(entry -> entry.order);
+
+    private final Entry<T>[] entries;
+
+    /**
+     * Create a new {@link OrderedIndex} for the provided identifier map.
+     *
+     * @param identifierMap A map associating the identifier to its {@link ISyntaxContainer}.
+     */
+    @SuppressWarnings("unchecked")
+    OrderedIndex(Map<T, ISyntaxContainer> identifierMap) {
+
+        IndexBuildEvent event = new IndexBuildEvent();
+        event.begin();
+
+        this.entries = identifierMap.entrySet()
+                .stream()
+                .map(entry -> new Entry<>(entry.getKey(), entry.getValue()))
+                .toArray(Entry[]::new);
+
+        Arrays.sort(this.entries, ORDERING);
+
+        if (event.shouldCommit()) {
+            event.index          = "OrderedIndex";
+            event.reason         = "INITIAL";
+            event.containerCount = this.entries.length;
+            event.commit();
+        }
+    }
+
+    /**
+     * Retrieve the evaluation array. The returned array must not be modified.
+     *
+     * @return The evaluation array.
+     */
+    Entry<T>[] entries() {
+
+        return this.entries;
+    }
+
+    /**
+     * A container of the {@link OrderedIndex} along with its identifier.
+     *
+     * @param <T> Type of the identifier.
+     */
+    static final class Entry<T> {
+
+        final T                identifier;
+        final ISyntaxContainer container;
+        final int              order;
+
+        Entry(T identifier, ISyntaxContainer container) {
+
+            this.identifier = identifier;
+            this.container  = container;
+            this.order      = container.getOrder();
+        }
+
+    }
+
+}
@@ -0,0 +1,192 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An OverlayMap is a view of a shared base identifier map, with additions and removals layered over it. Added
+ * identifiers replace identifiers of the base with the same value, and are iterated first. The base map is never
+ * modified nor copied, so an OverlayMap only holds its additions and removals.
+ * <p>
+ * Additions and removals may be changed while the view is being iterated, iterators being weakly consistent.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+final class OverlayMap<T> extends AbstractMap<T, ISyntaxContainer> {
+
+    private final Map<T, ISyntaxContainer> base;
+    private final Map<T, ISyntaxContainer> additions;
+    private final Set<T>                   removals;
+
+    /**
+     * Create an OverlayMap without any addition nor removal.
+     *
+     * @param base The shared base identifier map.
+     */
+    OverlayMap(Map<T, ISyntaxContainer> base) {
+
+        this.base      = base;
+        this.additions = new ConcurrentHashMap<>();
+        this.removals  = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Add the provided identifier, replacing the identifier of the base with the same value, if any.
+     *
+     * @param identifier The identifier to add.
+     * @param container  The {@link ISyntaxContainer} of the identifier.
+     */
+    void add(T identifier, ISyntaxContainer container) {
+
+        this.additions.put(identifier, container);
+        this.removals.remove(identifier);
+    }
+
+    /**
+     * Hide the provided identifier, whether it has been added or belongs to the base.
+     *
+     * @param identifier The identifier to hide.
+     */
+    void hide(T identifier) {
+
+        this.additions.remove(identifier);
+
+        if (this.base.containsKey(identifier)) {
+            this.removals.add(identifier);
+        }
+    }
+
+    /**
+     * Retrieve the identifiers added over the base.
+     *
+     * @return An unmodifiable view of the additions.
+     */
+    Map<T, ISyntaxContainer> getAdditions() {
+
+        return Collections.unmodifiableMap(this.additions);
+    }
+
+    /**
+     * Retrieve the identifiers of the base hidden by this view.
+     *
+     * @return An unmodifiable view of the removals.
+     */
+    Set<T> getRemovals() {
+
+        return Collections.unmodifiableSet(this.removals);
+    }
+
+    /**
+     * Check if the provided identifier of the base is hidden by this view, being either removed or replaced.
+     *
+     * @param identifier The identifier of the base.
+     *
+     * @return True if the identifier of the base is hidden.
+     */
+    boolean isHidden(T identifier) {
+
+        return this.removals.contains(identifier) || this.additions.containsKey(identifier);
+    }
+
+    @Override
+    public ISyntaxContainer get(Object key) {
+
+        ISyntaxContainer container = this.additions.get(key);
+
+        if (container != null || this.removals.contains(key)) {
+            return container;
+        }
+        return this.base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+
+        return this.get(key) != null;
+    }
+
+    @Override
+    public @NotNull Set<Entry<T, ISyntaxContainer>> entrySet() {
+
+        return new AbstractSet<>() {
+
+            @Override
+            public @NotNull Iterator<Entry<T, ISyntaxContainer>> iterator() {
+
+                return OverlayMap.this.iterator();
+            }
+
+            @Override
+            public int size() {
+
+                return OverlayMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+
+        int hidden = this.removals.size();
+
+        for (T identifier : this.additions.keySet()) {
+            if (this.base.containsKey(identifier)) {
+                hidden++;
+            }
+        }
+        return this.base.size() + this.additions.size() - hidden;
+    }
+
+    /**
+     * Iterate over the additions, then over the identifiers of the base that are neither removed nor replaced.
+     */
+    private Iterator<Entry<T, ISyntaxContainer>> iterator() {
+
+        Iterator<Entry<T, ISyntaxContainer>> added = this.additions.entrySet().iterator();
+        Iterator<Entry<T, ISyntaxContainer>> base  = this.base.entrySet().iterator();
+
+        return new Iterator<>() {
+
+            private Entry<T, ISyntaxContainer> next = this.advance();
+
+            private Entry<T, ISyntaxContainer> advance() {
+
+                if (added.hasNext()) {
+                    return added.next();
+                }
+
+                while (base.hasNext()) {
+                    Entry<T, ISyntaxContainer> entry = base.next();
+
+                    if (!OverlayMap.this.isHidden(entry.getKey())) {
+                        return entry;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+
+                return this.next != null;
+            }
+
+            @Override
+            public Entry<T, ISyntaxContainer> next() {
+
+                if (this.next == null) {
+                    throw new NoSuchElementException();
+                }
+
+                Entry<T, ISyntaxContainer> current = this.next;
+                this.next = this.advance();
+                return current;
+            }
+        };
+    }
+
+}
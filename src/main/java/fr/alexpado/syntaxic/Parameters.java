@@ -0,0 +1,557 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Parameters hold the values matched by each {@link ISyntax} of a container, in a flat array indexed by a slot number
+ * precomputed for each parameter name.
+ * <p>
+ * Most values are whole tokens of the user's input, so they are stored as a range of token indexes and only turned
+ * into strings when they are requested. Typed accessors parse tokens directly, which for UTF-8 encoded inputs means
+ * without decoding them at all. Values that aren't whole tokens, such as regex groups, are stored as strings.
+ * <p>
+ * Strings created from token ranges are cached apart from the stored values, so reading a value never changes what
+ * has been matched: concurrent reads of the same {@link Parameters} may at worst create the same string twice. Copies
+ * hold their own copy of a UTF-8 encoded input, so the array provided by the caller is never retained.
+ */
+final class Parameters {
+
+    private static final int ABSENT   = -1;
+    private static final int EXPLICIT = -2;
+
+    private static final ClassValue<byte[][]> ENCODED_CONSTANTS = new ClassValue<>() {
+
+        @Override
+        protected byte[][] computeValue(@NotNull Class<?> type) {
+
+            Object[] constants = type.getEnumConstants();
+            byte[][] encoded   = new byte[constants.length][];
+
+            for (int i = 0; i < constants.length; i++) {
+                encoded[i] = ((Enum<?>) constants[i]).name().getBytes(StandardCharsets.UTF_8);
+            }
+
+            return encoded;
+        }
+    };
+
+    private final     Map<String, Integer> slots;
+    private final     int[]                ranges;
+    private @Nullable String[]             values;
+    private @Nullable String[]             decoded;
+    private @Nullable long[]               numbers;
+    private @Nullable boolean[]            parsed;
+    private           List<String>         tokens;
+    private @Nullable Utf8Tokens           bytes;
+    private @Nullable Object               identifier;
+
+    /**
+     * Create empty {@link Parameters}.
+     *
+     * @param slots A map associating each parameter name to its slot.
+     */
+    Parameters(Map<String, Integer> slots) {
+
+        this.slots      = slots;
+        this.ranges     = new int[slots.size() * 2];
+        this.values     = null;
+        this.decoded    = null;
+        this.numbers    = null;
+        this.parsed     = null;
+        this.tokens     = Collections.emptyList();
+        this.bytes      = null;
+        this.identifier = null;
+
+        Arrays.fill(this.ranges, ABSENT);
+    }
+
+    private Parameters(Parameters other) {
+
+        this.slots      = other.slots;
+        this.ranges     = other.ranges.clone();
+        this.values     = other.values == null ? null : other.values.clone();
+        this.decoded    = other.decoded == null ? null : other.decoded.clone();
+        this.numbers    = other.numbers == null ? null : other.numbers.clone();
+        this.parsed     = other.parsed == null ? null : other.parsed.clone();
+        this.bytes      = other.bytes == null ? null : other.bytes.copy();
+        this.tokens     = this.bytes == null ? other.tokens : this.bytes.toList();
+        this.identifier = other.identifier;
+    }
+
+    /**
+     * Create {@link Parameters} holding the provided values.
+     *
+     * @param matches A map associating each parameter name to its value.
+     *
+     * @return The {@link Parameters}.
+     */
+    static Parameters of(Map<String, String> matches) {
+
+        Map<String, Integer> slots = new HashMap<>();
+
+        for (String name : matches.keySet()) {
+            slots.put(name, slots.size());
+        }
+
+        Parameters parameters = new Parameters(slots);
+        matches.forEach((name, value) -> parameters.value(slots.get(name), value));
+        return parameters;
+    }
+
+    /**
+     * Create {@link Parameters} holding the values of both provided {@link Parameters}. Values of the second one take
+     * precedence over the values of the first one having the same name. Values are turned into strings, but numeric
+     * values already parsed are kept, so typed accessors still don't need to parse them again.
+     *
+     * @param first  The {@link Parameters} of lower precedence.
+     * @param second The {@link Parameters} of higher precedence.
+     *
+     * @return The merged {@link Parameters}.
+     */
+    static Parameters merge(Parameters first, Parameters second) {
+
+        Map<String, Integer> slots = new HashMap<>(first.slots);
+
+        for (String name : second.slots.keySet()) {
+            slots.putIfAbsent(name, slots.size());
+        }
+
+        Parameters parameters = new Parameters(slots);
+        parameters.putAll(first);
+        parameters.putAll(second);
+        return parameters;
+    }
+
+    /**
+     * Store every value of the provided {@link Parameters} into the slot having the same name, along with its parsed
+     * numeric value if it has one.
+     *
+     * @param other The {@link Parameters} to copy the values from.
+     */
+    private void putAll(Parameters other) {
+
+        other.slots.forEach((name, slot) -> {
+            if (!other.has(slot)) {
+                return;
+            }
+
+            int target = this.slots.get(name);
+            this.value(target, Objects.requireNonNull(other.get(slot)));
+
+            if (other.parsed != null && other.parsed[slot]) {
+                if (this.parsed == null) {
+                    this.numbers = new long[this.slots.size()];
+                    this.parsed  = new boolean[this.slots.size()];
+                }
+
+                this.numbers[target] = other.numbers[slot];
+                this.parsed[target]  = true;
+            }
+        });
+    }
+
+    /**
+     * Remove every value and define the user's input from which token ranges are read.
+     *
+     * @param tokens The prepared user's input.
+     * @param bytes  The UTF-8 encoded user's input, if the tokens come from one.
+     */
+    void reset(List<String> tokens, @Nullable Utf8Tokens bytes) {
+
+        this.clear();
+        this.tokens = tokens;
+        this.bytes  = bytes;
+    }
+
+    /**
+     * Remove every value.
+     */
+    void clear() {
+
+        Arrays.fill(this.ranges, ABSENT);
+        this.values  = null;
+        this.decoded = null;
+
+        if (this.parsed != null) {
+            Arrays.fill(this.parsed, false);
+        }
+    }
+
+    /**
+     * Store the token at the provided index as the value of the provided slot.
+     *
+     * @param slot  The slot of the parameter.
+     * @param index The index of the token.
+     */
+    void token(int slot, int index) {
+
+        this.range(slot, index, index + 1);
+    }
+
+    /**
+     * Store the tokens of the provided range, joined with spaces, as the value of the provided slot.
+     *
+     * @param slot The slot of the parameter.
+     * @param from The index of the first token.
+     * @param to   The index after the last token.
+     */
+    void range(int slot, int from, int to) {
+
+        this.ranges[slot * 2]     = from;
+        this.ranges[slot * 2 + 1] = to;
+
+        if (this.values != null) {
+            this.values[slot] = null;
+        }
+
+        if (this.decoded != null) {
+            this.decoded[slot] = null;
+        }
+
+        if (this.parsed != null) {
+            this.parsed[slot] = false;
+        }
+    }
+
+    /**
+     * Extend the range of tokens of the provided slot with the token at the provided index, if it directly follows the
+     * range.
+     *
+     * @param slot  The slot of the parameter.
+     * @param index The index of the token.
+     *
+     * @return True if the range has been extended, false if the slot doesn't hold a range ending at this token.
+     */
+    boolean append(int slot, int index) {
+
+        int from = this.ranges[slot * 2];
+
+        if (from < 0 || this.ranges[slot * 2 + 1] != index) {
+            return false;
+        }
+
+        this.range(slot, from, index + 1);
+        return true;
+    }
+
+    /**
+     * Store the token at the provided index as the value of the provided slot, along with its already parsed numeric
+     * value, which typed accessors will return without parsing the token again.
+     *
+     * @param slot   The slot of the parameter.
+     * @param index  The index of the token.
+     * @param number The numeric value of the token.
+     */
+    void number(int slot, int index, long number) {
+
+        this.token(slot, index);
+
+        if (this.parsed == null) {
+            this.numbers = new long[this.slots.size()];
+            this.parsed  = new boolean[this.slots.size()];
+        }
+
+        this.numbers[slot] = number;
+        this.parsed[slot]  = true;
+    }
+
+    /**
+     * Store the provided string as the value of the provided slot.
+     *
+     * @param slot  The slot of the parameter.
+     * @param value The value of the parameter.
+     */
+    void value(int slot, String value) {
+
+        if (this.values == null) {
+            this.values = new String[this.slots.size()];
+        }
+
+        this.ranges[slot * 2] = EXPLICIT;
+        this.values[slot]     = value;
+
+        if (this.parsed != null) {
+            this.parsed[slot] = false;
+        }
+    }
+
+    /**
+     * Define the identifier found by a nested {@link SyntaxService}, which replaces the identifier of the container
+     * these {@link Parameters} come from.
+     *
+     * @param identifier The identifier of the command matched by the nested {@link SyntaxService}.
+     *
+     * @see DelegatingContainer
+     */
+    void identify(Object identifier) {
+
+        this.identifier = identifier;
+    }
+
+    /**
+     * Retrieve the identifier found by a nested {@link SyntaxService}, if these {@link Parameters} come from a
+     * {@link DelegatingContainer}.
+     *
+     * @return The identifier, or null if the identifier of the container should be used.
+     */
+    @Nullable Object getIdentifier() {
+
+        return this.identifier;
+    }
+
+    /**
+     * Create a copy of these {@link Parameters}, which won't be affected by further changes, neither of these
+     * {@link Parameters} nor of the array holding the UTF-8 encoded user's input.
+     *
+     * @return A copy of these {@link Parameters}.
+     */
+    Parameters copy() {
+
+        return new Parameters(this);
+    }
+
+    /**
+     * Retrieve the map associating each parameter name to its slot. It is shared by every {@link Parameters} created
+     * for the same container.
+     *
+     * @return The map associating each parameter name to its slot.
+     */
+    Map<String, Integer> getSlots() {
+
+        return this.slots;
+    }
+
+    /**
+     * Retrieve the slot of the provided parameter.
+     *
+     * @param name The name of the parameter.
+     *
+     * @return The slot of the parameter, or a negative value if there is no parameter with this name.
+     */
+    int slotOf(String name) {
+
+        return this.slots.getOrDefault(name, ABSENT);
+    }
+
+    /**
+     * Check if the provided slot has a value.
+     *
+     * @param slot The slot of the parameter, may be negative.
+     *
+     * @return True if the slot has a value.
+     */
+    boolean has(int slot) {
+
+        return slot >= 0 && this.ranges[slot * 2] != ABSENT;
+    }
+
+    /**
+     * Retrieve the value of the provided parameter, turning it into a string if needed.
+     *
+     * @param name The name of the parameter.
+     *
+     * @return The value, or null if the parameter has no value.
+     */
+    @Nullable String get(String name) {
+
+        return this.get(this.slotOf(name));
+    }
+
+    /**
+     * Retrieve the value of the provided slot, turning it into a string if needed.
+     *
+     * @param slot The slot of the parameter, may be negative.
+     *
+     * @return The value, or null if the slot has no value.
+     */
+    @Nullable String get(int slot) {
+
+        if (!this.has(slot)) {
+            return null;
+        }
+
+        int from = this.ranges[slot * 2];
+
+        if (from == EXPLICIT) {
+            return this.values[slot];
+        }
+
+        String[] decoded = this.decoded;
+
+        if (decoded != null && decoded[slot] != null) {
+            return decoded[slot];
+        }
+
+        int    to    = this.ranges[slot * 2 + 1];
+        String value = to - from == 1 ? this.tokens.get(from) : String.join(" ", this.tokens.subList(from, to));
+
+        // Cache the string apart from the ranges, so it is created only once without changing the matched values.
+        if (decoded == null) {
+            decoded      = new String[this.slots.size()];
+            this.decoded = decoded;
+        }
+
+        decoded[slot] = value;
+        return value;
+    }
+
+    /**
+     * Retrieve the index of the token which is the whole value of the provided slot.
+     *
+     * @param slot The slot of the parameter.
+     *
+     * @return The index of the token, or a negative value if the value isn't a single token.
+     */
+    private int singleToken(int slot) {
+
+        int from = this.ranges[slot * 2];
+        return from >= 0 && this.ranges[slot * 2 + 1] - from == 1 ? from : ABSENT;
+    }
+
+    /**
+     * Retrieve the value of the provided parameter as a <code>long</code>.
+     *
+     * @param name The name of the parameter.
+     *
+     * @return The parsed value, or an empty optional if the parameter has no value.
+     *
+     * @throws NumberFormatException Thrown if the value isn't a valid <code>long</code>.
+     */
+    OptionalLong getLong(String name) {
+
+        int slot = this.slotOf(name);
+        return this.has(slot) ? OptionalLong.of(this.longValue(slot)) : OptionalLong.empty();
+    }
+
+    /**
+     * Retrieve the value of the provided slot as a <code>long</code>. The slot must have a value.
+     *
+     * @param slot The slot of the parameter.
+     *
+     * @return The parsed value.
+     *
+     * @throws NumberFormatException Thrown if the value isn't a valid <code>long</code>.
+     */
+    long longValue(int slot) {
+
+        if (this.parsed != null && this.parsed[slot]) {
+            return this.numbers[slot];
+        }
+
+        int token = this.singleToken(slot);
+
+        if (token >= 0 && this.bytes != null) {
+            return this.bytes.parseLong(token);
+        }
+
+        return Long.parseLong(Objects.requireNonNull(this.get(slot)));
+    }
+
+    /**
+     * Retrieve the value of the provided parameter as an <code>int</code>.
+     *
+     * @param name The name of the parameter.
+     *
+     * @return The parsed value, or an empty optional if the parameter has no value.
+     *
+     * @throws NumberFormatException Thrown if the value isn't a valid <code>int</code>.
+     */
+    OptionalInt getInt(String name) {
+
+        int slot = this.slotOf(name);
+        return this.has(slot) ? OptionalInt.of(this.intValue(slot)) : OptionalInt.empty();
+    }
+
+    /**
+     * Retrieve the value of the provided slot as an <code>int</code>. The slot must have a value.
+     *
+     * @param slot The slot of the parameter.
+     *
+     * @return The parsed value.
+     *
+     * @throws NumberFormatException Thrown if the value isn't a valid <code>int</code>.
+     */
+    int intValue(int slot) {
+
+        long parsed = this.longValue(slot);
+
+        if (parsed < Integer.MIN_VALUE || parsed > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of range for int: " + parsed);
+        }
+
+        return (int) parsed;
+    }
+
+    /**
+     * Retrieve the value of the provided parameter as the enum constant having the same name.
+     *
+     * @param name The name of the parameter.
+     * @param type The class of the enum.
+     * @param <E>  The type of the enum.
+     *
+     * @return The enum constant, or an empty optional if the parameter has no value.
+     *
+     * @throws IllegalArgumentException Thrown if the enum has no constant with the value as name.
+     * @see IMatchingResult#getEnum(String, Class)
+     */
+    <E extends Enum<E>> Optional<E> getEnum(String name, Class<E> type) {
+
+        int slot = this.slotOf(name);
+        return this.has(slot) ? Optional.of(this.enumValue(slot, type)) : Optional.empty();
+    }
+
+    /**
+     * Retrieve the value of the provided slot as the enum constant having the same name. The slot must have a value.
+     *
+     * @param slot The slot of the parameter.
+     * @param type The class of the enum.
+     * @param <E>  The type of the enum.
+     *
+     * @return The enum constant.
+     *
+     * @throws IllegalArgumentException Thrown if the enum has no constant with the value as name.
+     */
+    <E extends Enum<E>> E enumValue(int slot, Class<E> type) {
+
+        int token = this.singleToken(slot);
+
+        if (token >= 0 && this.bytes != null) {
+            byte[][] encoded = ENCODED_CONSTANTS.get(type);
+
+            for (int i = 0; i < encoded.length; i++) {
+                if (this.bytes.equals(token, encoded[i])) {
+                    return type.getEnumConstants()[i];
+                }
+            }
+        }
+
+        return Enum.valueOf(type, Objects.requireNonNull(this.get(slot)));
+    }
+
+    /**
+     * Turn every value into a string and put them into a new {@link Map}.
+     *
+     * @return A map associating each parameter name to its value.
+     */
+    Map<String, String> toMap() {
+
+        Map<String, String> map = new HashMap<>();
+
+        this.slots.forEach((name, slot) -> {
+            String value = this.get(slot);
+
+            if (value != null) {
+                map.put(name, value);
+            }
+        });
+
+        return map;
+    }
+
+}
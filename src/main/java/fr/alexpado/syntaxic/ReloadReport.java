@@ -0,0 +1,67 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IReloadReport;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The {@link IReloadReport} created by a {@link ReloadableSyntaxService}.
+ */
+final class ReloadReport implements IReloadReport {
+
+    private final Duration            duration;
+    private final int                 identifierCount;
+    private final Map<String, String> failures;
+    private final boolean             swapped;
+
+    /**
+     * Create a new {@link ReloadReport}.
+     *
+     * @param duration        The time spent by the rebuild.
+     * @param identifierCount The amount of identifiers in use once the rebuild is done.
+     * @param failures        The reason of the failure of each failing definition, by location.
+     * @param swapped         True if the rebuilt service has been swapped in.
+     */
+    ReloadReport(Duration duration, int identifierCount, Map<String, String> failures, boolean swapped) {
+
+        this.duration        = duration;
+        this.identifierCount = identifierCount;
+        this.failures        = Collections.unmodifiableMap(failures);
+        this.swapped         = swapped;
+    }
+
+    @Override
+    public @NotNull Duration getDuration() {
+
+        return this.duration;
+    }
+
+    @Override
+    public int getIdentifierCount() {
+
+        return this.identifierCount;
+    }
+
+    @Override
+    public @NotNull Map<String, String> getFailures() {
+
+        return this.failures;
+    }
+
+    @Override
+    public boolean isSwapped() {
+
+        return this.swapped;
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("ReloadReport{duration=%s, identifiers=%d, failures=%d, swapped=%s}",
+                this.duration, this.identifierCount, this.failures.size(), this.swapped);
+    }
+
+}
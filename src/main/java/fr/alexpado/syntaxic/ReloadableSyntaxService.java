@@ -0,0 +1,379 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.events.IndexBuildEvent;
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.IReloadReport;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The ReloadableSyntaxService is an {@link ISyntaxService} whose commands are defined in a file, or in the
+ * {@link #EXTENSION} files of a directory, and rebuilt without restarting the process when they change.
+ * <p>
+ * Each line of a definition file defines a command as its identifier, its order and its representation, separated by
+ * spaces (ex: <code>ban 1 mod ban [user] &lt;days:int 1..30&gt;</code>). Empty lines and lines starting with
+ * <code>#</code> are ignored.
+ * <p>
+ * Rebuilds run on a background thread, either when {@link #reload()} is called or, once {@link #watch()} has been
+ * called, shortly after the definitions changed. The new {@link SyntaxService} is swapped in atomically once built:
+ * calls in progress finish against the previous one, and matching never pauses. Definitions that fail to parse are
+ * reported, and the previous version of their identifier, if any, is kept.
+ */
+public class ReloadableSyntaxService implements ISyntaxService<String>, AutoCloseable {
+
+    /**
+     * The extension of the definition files read from a directory.
+     */
+    public static final String EXTENSION = ".syntax";
+
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    private final     Path                                                           source;
+    private final     Map<String, List<String>>                                      options;
+    private final     Function<Map<String, ISyntaxContainer>, SyntaxService<String>> factory;
+    private final     ScheduledExecutorService                                       rebuilder;
+    private final     List<Consumer<IReloadReport>>                                  listeners;
+    private volatile  SyntaxService<String>                                          service;
+    private volatile  IReloadReport                                                  lastReport;
+    private volatile  Map<String, String>                                            definitions;
+    private @Nullable ScheduledFuture<?>                                             pending;
+    private @Nullable WatchService                                                   watcher;
+
+    /**
+     * Create a new {@link ReloadableSyntaxService} building a {@link SyntaxService} with the default settings.
+     *
+     * @param source  The definition file, or a directory holding {@link #EXTENSION} definition files.
+     * @param options The {@link Map} containing the list of parameters available for each <code>{option}</code>.
+     *
+     * @throws IOException Thrown if the definitions can't be read.
+     */
+    public ReloadableSyntaxService(@NotNull Path source, @NotNull Map<String, List<String>> options) throws IOException {
+
+        this(source, options, SyntaxService::new);
+    }
+
+    /**
+     * Create a new {@link ReloadableSyntaxService}, reading the definitions once before returning.
+     *
+     * @param source  The definition file, or a directory holding {@link #EXTENSION} definition files.
+     * @param options The {@link Map} containing the list of parameters available for each <code>{option}</code>.
+     * @param factory The function creating a {@link SyntaxService} from the identifier map, allowing to use a
+     *                {@link SyntaxServiceBuilder}.
+     *
+     * @throws IOException Thrown if the definitions can't be read.
+     */
+    public ReloadableSyntaxService(@NotNull Path source, @NotNull Map<String, List<String>> options, @NotNull Function<Map<String, ISyntaxContainer>, SyntaxService<String>> factory) throws IOException {
+
+        this.source      = source;
+        this.options     = options;
+        this.factory     = factory;
+        this.listeners   = new CopyOnWriteArrayList<>();
+        this.definitions = Collections.emptyMap();
+        this.rebuilder   = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "syntaxic-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long                          start       = System.nanoTime();
+        Map<String, String>           definitions = new HashMap<>();
+        Map<String, String>           failures    = new TreeMap<>();
+        Map<String, ISyntaxContainer> containers  = this.read(Collections.emptyMap(), definitions, failures);
+
+        this.service     = this.build(containers, "INITIAL");
+        this.definitions = definitions;
+        this.lastReport  = new ReloadReport(Duration.ofNanos(System.nanoTime() - start), containers.size(), failures, true);
+    }
+
+    /**
+     * Retrieve the {@link SyntaxService} currently in use. It may be replaced at any time by a rebuild, so it should
+     * be retrieved again for each user's input.
+     *
+     * @return The current {@link SyntaxService}.
+     */
+    public @NotNull SyntaxService<String> getService() {
+
+        return this.service;
+    }
+
+    /**
+     * Retrieve the {@link IReloadReport} of the last rebuild, or of the initial build.
+     *
+     * @return The last {@link IReloadReport}.
+     */
+    public @NotNull IReloadReport getLastReport() {
+
+        return this.lastReport;
+    }
+
+    /**
+     * Register a listener called, on the background thread, with the {@link IReloadReport} of every rebuild.
+     *
+     * @param listener The listener to register.
+     */
+    public void onReload(@NotNull Consumer<IReloadReport> listener) {
+
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Rebuild the {@link SyntaxService} from the definitions on the background thread.
+     *
+     * @return A {@link CompletableFuture} completed with the {@link IReloadReport} once the rebuild is done.
+     */
+    public @NotNull CompletableFuture<IReloadReport> reload() {
+
+        return CompletableFuture.supplyAsync(this::rebuild, this.rebuilder);
+    }
+
+    /**
+     * Start watching the definitions, rebuilding the {@link SyntaxService} on the background thread shortly after they
+     * changed. Several changes made at once lead to a single rebuild.
+     *
+     * @throws IOException Thrown if the definitions can't be watched.
+     */
+    public synchronized void watch() throws IOException {
+
+        if (this.watcher != null) {
+            return;
+        }
+
+        boolean directory = Files.isDirectory(this.source);
+        Path    folder    = directory ? this.source : this.source.toAbsolutePath().getParent();
+        Path    name      = this.source.getFileName();
+
+        WatchService watcher = folder.getFileSystem().newWatchService();
+        folder.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        this.watcher = watcher;
+
+        Thread thread = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey key     = watcher.take();
+                    boolean  changed = false;
+
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        Object context = event.context();
+
+                        changed |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                                || directory && context.toString().endsWith(EXTENSION)
+                                || !directory && name.equals(context);
+                    }
+
+                    if (changed) {
+                        this.schedule();
+                    }
+
+                    if (!key.reset()) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException ignored) {
+                // The service has been closed.
+            }
+        }, "syntaxic-watch");
+
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stop watching the definitions and the background thread. The current {@link SyntaxService} can still be used.
+     *
+     * @throws IOException Thrown if the watcher can't be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+
+        this.rebuilder.shutdownNow();
+
+        if (this.watcher != null) {
+            this.watcher.close();
+        }
+    }
+
+    /**
+     * Schedule a rebuild, replacing the one already scheduled if it didn't start yet.
+     */
+    private synchronized void schedule() {
+
+        if (this.pending != null) {
+            this.pending.cancel(false);
+        }
+
+        if (!this.rebuilder.isShutdown()) {
+            this.pending = this.rebuilder.schedule(this::rebuild, DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Read the definitions, build the new {@link SyntaxService} and swap it in, then notify the listeners.
+     *
+     * @return The {@link IReloadReport} of the rebuild.
+     */
+    private IReloadReport rebuild() {
+
+        long                start       = System.nanoTime();
+        Map<String, String> definitions = new HashMap<>();
+        Map<String, String> failures    = new TreeMap<>();
+        IReloadReport       report;
+
+        try {
+            Map<String, ISyntaxContainer> containers = this.read(this.service.getIdentifierMap(), definitions, failures);
+
+            this.service     = this.build(containers, "RELOAD");
+            this.definitions = definitions;
+            report           = new ReloadReport(Duration.ofNanos(System.nanoTime() - start), containers.size(), failures, true);
+        } catch (IOException | RuntimeException e) {
+            failures.put(this.source.toString(), String.valueOf(e.getMessage()));
+            report = new ReloadReport(Duration.ofNanos(System.nanoTime() - start), this.service.getIdentifierMap().size(), failures, false);
+        }
+
+        this.lastReport = report;
+
+        for (Consumer<IReloadReport> listener : this.listeners) {
+            listener.accept(report);
+        }
+        return report;
+    }
+
+    /**
+     * Create the {@link SyntaxService} of the provided identifier map, emitting an {@link IndexBuildEvent}.
+     */
+    private SyntaxService<String> build(Map<String, ISyntaxContainer> containers, String reason) {
+
+        IndexBuildEvent event = new IndexBuildEvent();
+        event.begin();
+
+        SyntaxService<String> service = this.factory.apply(containers);
+
+        if (event.shouldCommit()) {
+            event.index          = "RELOADABLE";
+            event.reason         = reason;
+            event.containerCount = containers.size();
+            event.commit();
+        }
+        return service;
+    }
+
+    /**
+     * Read every definition, keeping the previous container of the identifiers whose definition failed to parse. The
+     * container of a definition that didn't change is reused.
+     *
+     * @param previous    The identifier map currently in use.
+     * @param definitions The map receiving the definition of each identifier of the new identifier map.
+     * @param failures    The map receiving the reason of each failure, by location.
+     *
+     * @return The new identifier map.
+     *
+     * @throws IOException Thrown if the definitions can't be read.
+     */
+    private Map<String, ISyntaxContainer> read(Map<String, ISyntaxContainer> previous, Map<String, String> definitions, Map<String, String> failures) throws IOException {
+
+        Map<String, ISyntaxContainer> containers = new HashMap<>();
+
+        for (Path file : this.files()) {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+
+            for (int i = 0; i < lines.size(); i++) {
+                String line     = lines.get(i).trim();
+                String location = file.getFileName() + ":" + (i + 1);
+
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] parts      = line.split("\\s+", 3);
+                String   identifier = parts[0];
+
+                try {
+                    if (parts.length < 3) {
+                        throw new IllegalArgumentException("Expected an identifier, an order and a representation");
+                    }
+
+                    if (definitions.containsKey(identifier)) {
+                        throw new IllegalArgumentException("Duplicated identifier " + identifier);
+                    }
+
+                    int              order     = Integer.parseInt(parts[1]);
+                    ISyntaxContainer unchanged = line.equals(this.definitions.get(identifier)) ? previous.get(identifier) : null;
+                    ISyntaxContainer container = unchanged == null ? SyntaxUtils.toContainer(this.options, parts[2], order) : unchanged;
+
+                    containers.put(identifier, container);
+                    definitions.put(identifier, line);
+                } catch (RuntimeException e) {
+                    failures.put(location, e instanceof NumberFormatException ? "Invalid order " + parts[1] : String.valueOf(e.getMessage()));
+
+                    if (!definitions.containsKey(identifier) && previous.containsKey(identifier)) {
+                        containers.put(identifier, previous.get(identifier));
+                        definitions.put(identifier, this.definitions.get(identifier));
+                    }
+                }
+            }
+        }
+
+        return containers;
+    }
+
+    /**
+     * Retrieve the definition files, sorted by name.
+     */
+    private List<Path> files() throws IOException {
+
+        if (!Files.isDirectory(this.source)) {
+            return Collections.singletonList(this.source);
+        }
+
+        try (Stream<Path> files = Files.list(this.source)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public @NotNull List<String> prepareUserData(@NotNull String data) {
+
+        return this.service.prepareUserData(data);
+    }
+
+    @Override
+    public @NotNull List<String> complete(@NotNull String data) {
+
+        return this.service.complete(data);
+    }
+
+    @Override
+    public Optional<IMatchingResult<String>> getMatchingResult(@NotNull String data) {
+
+        return this.service.getMatchingResult(data);
+    }
+
+    @Override
+    public Optional<IMatchingResult<String>> getMatchingResult(byte @NotNull [] data) {
+
+        return this.service.getMatchingResult(data);
+    }
+
+    @Override
+    public Optional<IMatchingResult<String>> getMatchingResult(@NotNull ByteBuffer data) {
+
+        return this.service.getMatchingResult(data);
+    }
+
+}
@@ -0,0 +1,340 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A ResultBinder turns an {@link IMatchingResult} into an object, by calling a record constructor or a handler method
+ * with the values of the result as arguments.
+ * <p>
+ * Each argument is associated to the name of an {@link ISyntax}. For each {@link ISyntaxContainer} layout, the
+ * ResultBinder compiles once a {@link MethodHandle} reading every argument straight from the slot of its value and
+ * converting it, so binding a result doesn't use reflection nor look up any name.
+ * <p>
+ * Supported argument types are {@link String}, <code>int</code>, <code>long</code>, their wrapper and enums. Reference
+ * arguments without value are bound to <code>null</code>, while primitive arguments without value make the binding
+ * fail.
+ * <p>
+ * A ResultBinder is thread-safe.
+ *
+ * @param <R> Type of the object created by the ResultBinder.
+ */
+public final class ResultBinder<R> {
+
+    private static final MethodHandle STRING;
+    private static final MethodHandle INT;
+    private static final MethodHandle LONG;
+    private static final MethodHandle BOXED_INT;
+    private static final MethodHandle BOXED_LONG;
+    private static final MethodHandle ENUM;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodType           read   = MethodType.methodType(Object.class, String.class, int.class, Parameters.class);
+
+        try {
+            STRING     = lookup.findStatic(ResultBinder.class, "readString", read.changeReturnType(String.class));
+            INT        = lookup.findStatic(ResultBinder.class, "readInt", read.changeReturnType(int.class));
+            LONG       = lookup.findStatic(ResultBinder.class, "readLong", read.changeReturnType(long.class));
+            BOXED_INT  = lookup.findStatic(ResultBinder.class, "readBoxedInt", read.changeReturnType(Integer.class));
+            BOXED_LONG = lookup.findStatic(ResultBinder.class, "readBoxedLong", read.changeReturnType(Long.class));
+            ENUM       = lookup.findStatic(ResultBinder.class, "readEnum", read.changeReturnType(Enum.class).insertParameterTypes(0, Class.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final              MethodHandle                            target;
+    private final              String[]                                names;
+    private final              Map<String, Integer>                    fallbackSlots;
+    private final              Map<Map<String, Integer>, MethodHandle> compiled;
+    private volatile @Nullable Layout                                  last;
+
+    private ResultBinder(MethodHandle target, String[] names) {
+
+        MethodType type = target.type();
+
+        if (type.parameterCount() != names.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Expected %s names for %s, got %s.",
+                    type.parameterCount(),
+                    type,
+                    names.length
+            ));
+        }
+
+        for (Class<?> parameter : type.parameterList()) {
+            if (!isSupported(parameter)) {
+                throw new IllegalArgumentException("Unsupported argument type: " + parameter.getName());
+            }
+        }
+
+        // Handlers returning nothing are bound to null.
+        MethodHandle generic = type.returnType() == void.class
+                ? MethodHandles.filterReturnValue(target, MethodHandles.constant(Object.class, null))
+                : target;
+
+        this.target        = generic.asType(type.changeReturnType(Object.class));
+        this.names         = names.clone();
+        this.fallbackSlots = new HashMap<>();
+        this.compiled      = new ConcurrentHashMap<>();
+        this.last          = null;
+
+        for (String name : this.names) {
+            this.fallbackSlots.putIfAbsent(name, this.fallbackSlots.size());
+        }
+    }
+
+    /**
+     * Create a {@link ResultBinder} calling the canonical constructor of the provided record. Each component is bound
+     * to the value of the {@link ISyntax} having the same name.
+     *
+     * @param lookup The {@link MethodHandles.Lookup} having access to the record constructor.
+     * @param type   The class of the record.
+     * @param <R>    The type of the record.
+     *
+     * @return A new {@link ResultBinder}.
+     *
+     * @throws IllegalArgumentException Thrown if the constructor isn't accessible, or if a component type isn't
+     *                                  supported.
+     */
+    public static <R extends Record> @NotNull ResultBinder<R> ofRecord(@NotNull MethodHandles.Lookup lookup, @NotNull Class<R> type) {
+
+        RecordComponent[] components = type.getRecordComponents();
+        String[]          names      = new String[components.length];
+        Class<?>[]        types      = new Class<?>[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            names[i] = components[i].getName();
+            types[i] = components[i].getType();
+        }
+
+        try {
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class, types));
+            return new ResultBinder<>(constructor, names);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Unable to access the canonical constructor of " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Create a {@link ResultBinder} calling the provided {@link MethodHandle}, such as a handler method bound to its
+     * instance. Each argument is bound to the value of the {@link ISyntax} having the name at the same position.
+     *
+     * @param handle The {@link MethodHandle} to call.
+     * @param names  The name of the {@link ISyntax} bound to each argument.
+     * @param <R>    The type returned by the {@link MethodHandle}. Handlers returning nothing always return
+     *               <code>null</code>.
+     *
+     * @return A new {@link ResultBinder}.
+     *
+     * @throws IllegalArgumentException Thrown if the amount of names doesn't match the amount of arguments, or if an
+     *                                  argument type isn't supported.
+     */
+    public static <R> @NotNull ResultBinder<R> of(@NotNull MethodHandle handle, @NotNull String @NotNull ... names) {
+
+        return new ResultBinder<>(handle, names);
+    }
+
+    /**
+     * Create the object for the provided {@link IMatchingResult}.
+     *
+     * @param result The {@link IMatchingResult} to bind.
+     *
+     * @return The object created by the record constructor or handler method.
+     *
+     * @throws IllegalArgumentException Thrown if the container has no parameter or no value for a primitive argument,
+     *                                  or if a value can't be converted to its argument type.
+     */
+    @SuppressWarnings("unchecked")
+    public R bind(@NotNull IMatchingResult<?> result) {
+
+        Parameters parameters = this.parameters(result);
+
+        try {
+            return (R) this.handle(parameters.getSlots()).invokeExact(parameters);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Retrieve the {@link Parameters} of the provided {@link IMatchingResult}, copying its values if it hasn't been
+     * created by a {@link SyntaxService}.
+     *
+     * @param result The {@link IMatchingResult}.
+     *
+     * @return The {@link Parameters} of the result.
+     */
+    private Parameters parameters(IMatchingResult<?> result) {
+
+        //noinspection InstanceofConcreteClass
+        if (result instanceof MatchingResult) {
+            return ((MatchingResult<?>) result).getParameters();
+        }
+
+        // Uses a single layout for every foreign result, so it is compiled only once.
+        Parameters parameters = new Parameters(this.fallbackSlots);
+
+        this.fallbackSlots.forEach((name, slot) -> result.getParameter(name).ifPresent(value -> parameters.value(slot, value)));
+        return parameters;
+    }
+
+    /**
+     * Retrieve the {@link MethodHandle} compiled for the provided layout, compiling it if needed.
+     *
+     * @param slots The map associating each parameter name to its slot.
+     *
+     * @return A {@link MethodHandle} of type <code>(Parameters)Object</code>.
+     */
+    private MethodHandle handle(Map<String, Integer> slots) {
+
+        // Most binders are used with a single container, whose layout is shared by all of its parameters.
+        Layout layout = this.last;
+
+        if (layout != null && layout.slots == slots) {
+            return layout.handle;
+        }
+
+        MethodHandle handle = this.compiled.computeIfAbsent(slots, this::compile);
+        this.last = new Layout(slots, handle);
+        return handle;
+    }
+
+    /**
+     * Compile the {@link MethodHandle} reading every argument from the provided layout.
+     *
+     * @param slots The map associating each parameter name to its slot.
+     *
+     * @return A {@link MethodHandle} of type <code>(Parameters)Object</code>.
+     *
+     * @throws IllegalArgumentException Thrown if the layout has no slot for a primitive argument.
+     */
+    private MethodHandle compile(Map<String, Integer> slots) {
+
+        MethodType     type    = this.target.type();
+        MethodHandle[] readers = new MethodHandle[this.names.length];
+
+        for (int i = 0; i < readers.length; i++) {
+            String   name      = this.names[i];
+            Class<?> parameter = type.parameterType(i);
+            int      slot      = slots.getOrDefault(name, -1);
+
+            if (slot < 0) {
+                if (parameter.isPrimitive()) {
+                    throw new IllegalArgumentException("No parameter named '" + name + "' to bind to a " + parameter.getName());
+                }
+                readers[i] = MethodHandles.dropArguments(MethodHandles.constant(parameter, null), 0, Parameters.class);
+                continue;
+            }
+
+            readers[i] = MethodHandles.insertArguments(reader(parameter), 0, name, slot).asType(MethodType.methodType(parameter, Parameters.class));
+        }
+
+        // Every reader gets the same Parameters, which becomes the only argument.
+        MethodHandle filtered = MethodHandles.filterArguments(this.target, 0, readers);
+        return MethodHandles.permuteArguments(
+                filtered,
+                MethodType.methodType(Object.class, Parameters.class),
+                new int[readers.length]
+        );
+    }
+
+    private static boolean isSupported(Class<?> type) {
+
+        return type == String.class || type == int.class || type == long.class || type == Integer.class || type == Long.class || type.isEnum();
+    }
+
+    /**
+     * Retrieve the reader converting a value to the provided type.
+     *
+     * @param type The type of the argument.
+     *
+     * @return A {@link MethodHandle} of type <code>(String, int, Parameters)</code> returning the converted value.
+     */
+    private static MethodHandle reader(Class<?> type) {
+
+        if (type == String.class) {
+            return STRING;
+        } else if (type == int.class) {
+            return INT;
+        } else if (type == long.class) {
+            return LONG;
+        } else if (type == Integer.class) {
+            return BOXED_INT;
+        } else if (type == Long.class) {
+            return BOXED_LONG;
+        }
+        return MethodHandles.insertArguments(ENUM, 0, type);
+    }
+
+    private static @Nullable String readString(String name, int slot, Parameters parameters) {
+
+        return parameters.get(slot);
+    }
+
+    private static int readInt(String name, int slot, Parameters parameters) {
+
+        requireValue(name, slot, parameters);
+        return parameters.intValue(slot);
+    }
+
+    private static long readLong(String name, int slot, Parameters parameters) {
+
+        requireValue(name, slot, parameters);
+        return parameters.longValue(slot);
+    }
+
+    private static @Nullable Integer readBoxedInt(String name, int slot, Parameters parameters) {
+
+        return parameters.has(slot) ? parameters.intValue(slot) : null;
+    }
+
+    private static @Nullable Long readBoxedLong(String name, int slot, Parameters parameters) {
+
+        return parameters.has(slot) ? parameters.longValue(slot) : null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @Nullable Enum<?> readEnum(Class type, String name, int slot, Parameters parameters) {
+
+        return parameters.has(slot) ? parameters.enumValue(slot, type) : null;
+    }
+
+    private static void requireValue(String name, int slot, Parameters parameters) {
+
+        if (!parameters.has(slot)) {
+            throw new IllegalArgumentException("No value for the parameter '" + name + "'");
+        }
+    }
+
+    /**
+     * A compiled {@link MethodHandle} and the layout for which it has been compiled.
+     */
+    private static final class Layout {
+
+        private final Map<String, Integer> slots;
+        private final MethodHandle         handle;
+
+        private Layout(Map<String, Integer> slots, MethodHandle handle) {
+
+            this.slots  = slots;
+            this.handle = handle;
+        }
+
+    }
+
+}
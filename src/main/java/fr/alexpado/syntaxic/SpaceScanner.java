@@ -0,0 +1,166 @@
+package fr.alexpado.syntaxic;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * SpaceScanner locates spaces in a byte array, and is used to split user's inputs into tokens.
+ * <p>
+ * {@link #WORDS} reads the input eight bytes at a time as a <code>long</code> and finds space bytes using bitwise
+ * operations (SWAR), which is much faster than {@link #SCALAR} on long inputs with long tokens, such as payloads
+ * captured by a filling syntax. Both implementations always give the same results.
+ */
+enum SpaceScanner {
+
+    /**
+     * Scan the input one byte at a time.
+     */
+    SCALAR {
+        @Override
+        int indexOfSpace(byte[] data, int from, int to) {
+
+            while (from < to && data[from] != SPACE) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        int indexOfNonSpace(byte[] data, int from, int to) {
+
+            while (from < to && data[from] == SPACE) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        int count(byte[] data, int from, int to) {
+
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (data[i] == SPACE) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    },
+
+    /**
+     * Scan the input eight bytes at a time, using {@link #SCALAR} for the remaining bytes.
+     */
+    WORDS {
+        @Override
+        int indexOfSpace(byte[] data, int from, int to) {
+
+            while (from + Long.BYTES <= to) {
+                long spaces = spaces((long) LONGS.get(data, from));
+
+                if (spaces != 0) {
+                    return from + (Long.numberOfTrailingZeros(spaces) >>> 3);
+                }
+                from += Long.BYTES;
+            }
+            return SCALAR.indexOfSpace(data, from, to);
+        }
+
+        @Override
+        int indexOfNonSpace(byte[] data, int from, int to) {
+
+            while (from + Long.BYTES <= to) {
+                long others = (long) LONGS.get(data, from) ^ SPACES;
+
+                if (others != 0) {
+                    return from + (Long.numberOfTrailingZeros(others) >>> 3);
+                }
+                from += Long.BYTES;
+            }
+            return SCALAR.indexOfNonSpace(data, from, to);
+        }
+
+        @Override
+        int count(byte[] data, int from, int to) {
+
+            int count = 0;
+            while (from + Long.BYTES <= to) {
+                count += Long.bitCount(spaces((long) LONGS.get(data, from)));
+                from += Long.BYTES;
+            }
+            return count + SCALAR.count(data, from, to);
+        }
+    };
+
+    /**
+     * Inputs shorter than this amount of bytes are scanned with {@link #SCALAR}, as they contain too few words to
+     * amortize the word reads.
+     */
+    static final int WORD_THRESHOLD = 32;
+
+    private static final byte      SPACE  = ' ';
+    private static final long      SPACES = 0x2020202020202020L;
+    private static final long      LOW    = 0x7F7F7F7F7F7F7F7FL;
+    private static final VarHandle LONGS  = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Retrieve the {@link SpaceScanner} best suited to scan an input of the provided length.
+     *
+     * @param length The length of the input, in bytes.
+     *
+     * @return A {@link SpaceScanner}.
+     */
+    static SpaceScanner select(int length) {
+
+        return length >= WORD_THRESHOLD ? WORDS : SCALAR;
+    }
+
+    /**
+     * Compute a mask with the highest bit of each space byte of the provided word set, and every other bit cleared.
+     * This is exact: unlike the usual <code>(x - 0x01..) &amp; ~x</code> trick, no borrow can flag a byte that is not a
+     * space.
+     *
+     * @param word Eight bytes read in little endian order.
+     *
+     * @return The mask of space bytes.
+     */
+    private static long spaces(long word) {
+
+        long zeroes = word ^ SPACES;
+        return ~(((zeroes & LOW) + LOW) | zeroes | LOW);
+    }
+
+    /**
+     * Retrieve the index of the first space in the provided range.
+     *
+     * @param data The bytes to scan.
+     * @param from The index of the first byte to scan.
+     * @param to   The index after the last byte to scan.
+     *
+     * @return The index of the first space, or <code>to</code> if there is none.
+     */
+    abstract int indexOfSpace(byte[] data, int from, int to);
+
+    /**
+     * Retrieve the index of the first byte that is not a space in the provided range.
+     *
+     * @param data The bytes to scan.
+     * @param from The index of the first byte to scan.
+     * @param to   The index after the last byte to scan.
+     *
+     * @return The index of the first byte that is not a space, or <code>to</code> if there is none.
+     */
+    abstract int indexOfNonSpace(byte[] data, int from, int to);
+
+    /**
+     * Count the spaces in the provided range.
+     *
+     * @param data The bytes to scan.
+     * @param from The index of the first byte to scan.
+     * @param to   The index after the last byte to scan.
+     *
+     * @return The amount of spaces.
+     */
+    abstract int count(byte[] data, int from, int to);
+
+}
@@ -4,9 +4,12 @@ import fr.alexpado.syntaxic.interfaces.ISyntax;
 import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
 import fr.alexpado.syntaxic.interfaces.ISyntaxService;
 import fr.alexpado.syntaxic.rules.FillingSyntax;
+import fr.alexpado.syntaxic.rules.RegexSyntax;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.ObjLongConsumer;
 
 /**
  * A SyntaxContainer is a class handling a group of {@link ISyntax} representing a command. It can check if the group
@@ -14,10 +17,14 @@ import java.util.*;
  */
 public class SyntaxContainer implements ISyntaxContainer {
 
-    private final List<ISyntax>       syntaxList;
-    private final Map<String, String> matches;
-    private final List<String>        completion;
-    private final Integer             order;
+    private final           SyntaxProgram       program;
+    private final @Nullable SyntaxGrammar       grammar;
+    private final           Parameters          parameters;
+    private final           List<String>        completion;
+    private final           Integer             order;
+    private @Nullable       Map<String, String> matches;
+    private                 int                 evaluated;
+    private                 int                 reached;
 
     /**
      * Create a new instance of this {@link ISyntaxContainer} implementation.
@@ -27,10 +34,48 @@ public class SyntaxContainer implements ISyntaxContainer {
      */
     public SyntaxContainer(List<ISyntax> syntaxList, int order) {
 
-        this.syntaxList = syntaxList;
-        this.matches    = new HashMap<>();
+        this(syntaxList, Collections.emptyList(), order);
+    }
+
+    /**
+     * Create a new instance of this {@link ISyntaxContainer} implementation, in which some groups of {@link ISyntax}
+     * may be optional or repeated. A {@link FillingSyntax} followed by other {@link ISyntax} consumes as many tokens as
+     * possible while still letting them match.
+     *
+     * @param syntaxList A {@link List} of {@link ISyntax}
+     * @param groups     The groups of consecutive {@link ISyntax} that may be optional or repeated.
+     * @param order      The order (priority) of the {@link ISyntaxContainer}.
+     *
+     * @see SyntaxGrammar
+     */
+    SyntaxContainer(List<ISyntax> syntaxList, List<SyntaxGrammar.Group> groups, int order) {
+
+        this.program    = new SyntaxProgram(syntaxList);
+        this.grammar    = groups.isEmpty() && !hasInnerFilling(this.program) ? null : new SyntaxGrammar(this.program, groups);
+        this.parameters = this.program.createParameters();
         this.completion = new ArrayList<>();
         this.order      = order;
+        this.matches    = null;
+        this.evaluated  = 0;
+        this.reached    = 0;
+    }
+
+    /**
+     * Check if the provided {@link SyntaxProgram} has a {@link FillingSyntax} which isn't the last {@link ISyntax}, in
+     * which case the amount of tokens it consumes depends on the following {@link ISyntax}.
+     *
+     * @param program The {@link SyntaxProgram} to check.
+     *
+     * @return True if a {@link FillingSyntax} is followed by other {@link ISyntax}.
+     */
+    private static boolean hasInnerFilling(SyntaxProgram program) {
+
+        for (int i = 0; i < program.size() - 1; i++) {
+            if (program.isFilling(i)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -52,9 +97,25 @@ public class SyntaxContainer implements ISyntaxContainer {
     @Override
     public @NotNull Map<String, String> getMatches() {
 
+        // Values are stored as token ranges while matching, and only turned into strings when requested.
+        if (this.matches == null) {
+            this.matches = this.parameters.toMap();
+        }
+
         return this.matches;
     }
 
+    /**
+     * Retrieve the {@link Parameters} matched during the last call to {@link #isMatching(List)}. They are reused by the
+     * next evaluation, so they should be copied to be kept.
+     *
+     * @return The {@link Parameters} of the last evaluation.
+     */
+    Parameters getParameters() {
+
+        return this.parameters;
+    }
+
     /**
      * Check if the provided {@link List} of strings, which should be each part of the user's input, can be completed by
      * this {@link ISyntaxContainer}.
@@ -72,23 +133,53 @@ public class SyntaxContainer implements ISyntaxContainer {
     @Override
     public boolean isCompletable(@NotNull List<String> data) {
 
+        return this.isCompletable(data, null);
+    }
+
+    /**
+     * Same as {@link #isCompletable(List)}, but reports the time spent in each {@link ISyntax} to the provided
+     * consumer.
+     *
+     * @param data    The data to check against this {@link ISyntaxContainer}.
+     * @param timings The consumer receiving each evaluated {@link ISyntax} with the time spent in it, in nanoseconds.
+     *
+     * @return True if the provided {@link List} is a valid candidate for completion, false otherwise.
+     */
+    @Override
+    public boolean isCompletable(@NotNull List<String> data, @Nullable ObjLongConsumer<ISyntax> timings) {
+
         this.completion.clear();
+        this.evaluated = 0;
+
+        if (this.grammar != null) {
+            return this.grammar.complete(data, this.completion, timings);
+        }
+
+        SyntaxProgram program = this.program;
+        FoldedTokens  folded  = data instanceof FoldedTokens ? (FoldedTokens) data : null;
 
-        if (data.size() > this.syntaxList.size()) {
+        if (data.size() > program.size()) {
             return false;
         }
 
         for (int i = 0; i < data.size(); i++) {
-            ISyntax syntax   = this.syntaxList.get(i);
-            String  argument = data.get(i);
-            boolean isLast   = i == data.size() - 1;
+            boolean isLast = i == data.size() - 1;
 
-            if ((isLast && !syntax.isCompletable(argument)) || (!isLast && !syntax.isMatching(argument))) {
-                return false;
+            this.evaluated = isLast ? i : i + 1;
+            long start = timings == null ? 0L : System.nanoTime();
+
+            boolean valid;
+
+            if (folded != null) {
+                valid = isLast ? program.complete(i, i, folded, this.completion) : program.match(i, i, folded, null);
+            } else {
+                valid = isLast ? program.complete(i, data.get(i), this.completion) : program.match(i, data.get(i), null);
             }
 
-            if (isLast) {
-                this.completion.addAll(syntax.complete(argument));
+            report(timings, program, i, start);
+
+            if (!valid) {
+                return false;
             }
         }
 
@@ -112,44 +203,245 @@ public class SyntaxContainer implements ISyntaxContainer {
     @Override
     public boolean isMatching(@NotNull List<String> data) {
 
-        this.matches.clear();
+        return this.isMatching(data, null);
+    }
+
+    /**
+     * Same as {@link #isMatching(List)}, but reports the time spent in each {@link ISyntax} to the provided consumer.
+     *
+     * @param data    The data to check against this {@link ISyntaxContainer}.
+     * @param timings The consumer receiving each evaluated {@link ISyntax} with the time spent in it, in nanoseconds.
+     *
+     * @return True if the provided {@link List} matches this {@link ISyntaxContainer}.
+     */
+    @Override
+    public boolean isMatching(@NotNull List<String> data, @Nullable ObjLongConsumer<ISyntax> timings) {
+
+        return this.match(data, timings, false);
+    }
+
+    /**
+     * Same as {@link #isMatching(List)}, but keeps evaluating the tokens when their amount can't match, and keeps the
+     * values captured before the first rejected token. After a failure, {@link #getReached()} tells how far the input
+     * went, and {@link #getParameters()} holds the values captured up to that point.
+     *
+     * @param data The data to check against this {@link ISyntaxContainer}.
+     *
+     * @return True if the provided {@link List} matches this {@link ISyntaxContainer}.
+     */
+    boolean explore(List<String> data) {
+
+        return this.match(data, null, true);
+    }
+
+    /**
+     * Retrieve the amount of leading tokens accepted during the last call to {@link #explore(List)}, which is also the
+     * index of the token that has been rejected. It is equal to the amount of tokens if every token has been accepted
+     * but more were expected.
+     *
+     * @return The amount of leading tokens accepted.
+     */
+    int getReached() {
 
-        if (data.size() < this.syntaxList.size()) {
+        return this.reached;
+    }
+
+    /**
+     * Check if the provided tokens match this container.
+     *
+     * @param data       The data to check against this {@link ISyntaxContainer}.
+     * @param timings    The consumer receiving each evaluated {@link ISyntax} with the time spent in it, may be null.
+     * @param exploring  True to evaluate every token that may be accepted and keep the values captured on failure.
+     *
+     * @return True if the provided {@link List} matches this {@link ISyntaxContainer}.
+     */
+    private boolean match(List<String> data, @Nullable ObjLongConsumer<ISyntax> timings, boolean exploring) {
+
+        this.parameters.reset(data, null);
+        this.matches   = null;
+        this.evaluated = 0;
+        this.reached   = 0;
+
+        if (this.grammar != null) {
+            if (this.grammar.match(data, null, this.parameters, timings, exploring)) {
+                return true;
+            }
+
+            this.reached = this.grammar.getReached();
+
+            if (!exploring) {
+                this.parameters.clear();
+            }
+            return false;
+        }
+
+        SyntaxProgram program = this.program;
+        FoldedTokens  folded  = data instanceof FoldedTokens ? (FoldedTokens) data : null;
+
+        if (data.size() < program.size() && !exploring) {
             return false;
         }
 
         for (int i = 0; i < data.size(); i++) {
-            ISyntax syntax   = this.syntaxList.get(i);
-            String  argument = data.get(i);
+            if (i == program.size() - 1 && data.size() > program.size()) {
+
+                if (program.isFilling(i)) {
+                    this.parameters.range(program.slot(i), i, data.size());
+                    return true;
+                }
+
+                if (!exploring) {
+                    this.parameters.clear();
+                    return false;
+                }
+            }
+
+            if (i == program.size()) {
+                // Every expected token has been accepted, this one is extra.
+                return false;
+            }
+
+            this.evaluated = i + 1;
+            long start = timings == null ? 0L : System.nanoTime();
+
+            boolean valid = folded == null
+                    ? program.match(i, data.get(i), this.parameters)
+                    : program.match(i, i, folded, this.parameters);
+            report(timings, program, i, start);
+
+            if (!valid) {
+                if (!exploring) {
+                    this.parameters.clear();
+                }
+                return false;
+            }
 
-            if (i == this.syntaxList.size() - 1 && data.size() > this.syntaxList.size()) {
+            this.reached = i + 1;
+        }
 
-                //noinspection InstanceofConcreteClass
-                if (syntax instanceof FillingSyntax) {
+        return data.size() == program.size();
+    }
 
-                    Collection<String> contents = new ArrayList<>();
+    /**
+     * Same as {@link #isMatching(List)}, but using a UTF-8 encoded user's input. Tokens are only decoded by the
+     * {@link ISyntax} that need them.
+     *
+     * @param tokens The UTF-8 encoded user's input to check against this {@link ISyntaxContainer}.
+     *
+     * @return True if the provided {@link Utf8Tokens} matches this {@link ISyntaxContainer}.
+     */
+    @Override
+    public boolean isMatching(@NotNull Utf8Tokens tokens) {
 
-                    for (int j = i; j < data.size(); j++) {
-                        contents.add(data.get(j));
-                    }
+        this.parameters.reset(tokens.toList(), tokens);
+        this.matches   = null;
+        this.evaluated = 0;
 
-                    this.matches.put(syntax.getName(), String.join(" ", contents));
+        if (this.grammar != null) {
+            return this.matchGrammar(tokens.toList(), tokens, null);
+        }
+
+        SyntaxProgram program = this.program;
+
+        if (tokens.size() < program.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < tokens.size(); i++) {
+            if (i == program.size() - 1 && tokens.size() > program.size()) {
+
+                if (program.isFilling(i)) {
+                    this.parameters.range(program.slot(i), i, tokens.size());
                     return true;
                 }
 
+                this.parameters.clear();
                 return false;
             }
 
-            if (!syntax.isMatching(argument)) {
+            this.evaluated = i + 1;
+
+            if (!program.match(i, tokens, this.parameters)) {
+                this.parameters.clear();
                 return false;
             }
-
-            syntax.getLastMatch().ifPresent(value -> this.matches.put(syntax.getName(), value));
         }
 
         return true;
     }
 
+    /**
+     * Check if the provided tokens match the {@link SyntaxGrammar} of this container.
+     *
+     * @param data    The prepared user's input.
+     * @param bytes   The UTF-8 encoded user's input, if the tokens come from one.
+     * @param timings The consumer receiving each evaluated {@link ISyntax} with the time spent in it, may be null.
+     *
+     * @return True if the tokens matched.
+     */
+    private boolean matchGrammar(List<String> data, @Nullable Utf8Tokens bytes, @Nullable ObjLongConsumer<ISyntax> timings) {
+
+        if (this.grammar.match(data, bytes, this.parameters, timings)) {
+            return true;
+        }
+
+        this.parameters.clear();
+        return false;
+    }
+
+    /**
+     * Report the time spent in the {@link ISyntax} at the provided index since <code>start</code>, if timings are
+     * requested.
+     *
+     * @param timings The consumer receiving the timing, may be null.
+     * @param program The {@link SyntaxProgram} that has been evaluated.
+     * @param index   The index of the {@link ISyntax} that has been evaluated.
+     * @param start   The {@link System#nanoTime()} value read before the evaluation.
+     */
+    private static void report(@Nullable ObjLongConsumer<ISyntax> timings, SyntaxProgram program, int index, long start) {
+
+        if (timings != null) {
+            timings.accept(program.syntax(index), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Retrieve the amount of {@link RegexSyntax} that have been evaluated during the last call to
+     * {@link #isMatching(List)} or {@link #isCompletable(List)}.
+     *
+     * @return The amount of regex evaluations.
+     */
+    @Override
+    public int getRegexEvaluations() {
+
+        if (this.grammar != null) {
+            return this.grammar.getRegexEvaluations();
+        }
+
+        return this.program.regexCount(this.evaluated);
+    }
+
+    /**
+     * Check if some {@link ISyntax} of this container are optional or repeatable, in which case the amount of tokens
+     * matched isn't fixed.
+     *
+     * @return True if this container has a {@link SyntaxGrammar}.
+     */
+    boolean hasGrammar() {
+
+        return this.grammar != null;
+    }
+
+    /**
+     * Retrieve the {@link SyntaxProgram} compiled from the {@link ISyntax} list of this {@link SyntaxContainer}.
+     *
+     * @return The {@link SyntaxProgram}.
+     */
+    SyntaxProgram getProgram() {
+
+        return this.program;
+    }
+
     /**
      * Retrieve this {@link ISyntaxContainer} order among all other {@link ISyntaxContainer} that may be created by
      * {@link ISyntaxService}.
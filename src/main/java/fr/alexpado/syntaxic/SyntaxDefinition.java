@@ -0,0 +1,100 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A SyntaxDefinition holds everything needed to create the {@link ISyntaxContainer} of an identifier, as accepted by
+ * {@link SyntaxUtils#toContainer(Map, String, int)}. Definitions are consumed in bulk by a {@link SyntaxRegistryBuilder}.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public final class SyntaxDefinition<T> {
+
+    private final T                         identifier;
+    private final String                    representation;
+    private final int                       order;
+    private final Map<String, List<String>> options;
+
+    /**
+     * Create a new {@link SyntaxDefinition} without any option.
+     *
+     * @param identifier     The identifier of the definition.
+     * @param representation The representation of the {@link ISyntaxContainer}.
+     * @param order          The order (priority) of the {@link ISyntaxContainer}.
+     */
+    public SyntaxDefinition(@NotNull T identifier, @NotNull String representation, int order) {
+
+        this(identifier, representation, order, Collections.emptyMap());
+    }
+
+    /**
+     * Create a new {@link SyntaxDefinition}.
+     *
+     * @param identifier     The identifier of the definition.
+     * @param representation The representation of the {@link ISyntaxContainer}.
+     * @param order          The order (priority) of the {@link ISyntaxContainer}.
+     * @param options        The {@link Map} containing the options possible for each selective argument. Definitions
+     *                       sharing their options should share the same {@link Map} instance.
+     */
+    public SyntaxDefinition(@NotNull T identifier, @NotNull String representation, int order, @NotNull Map<String, List<String>> options) {
+
+        this.identifier     = identifier;
+        this.representation = representation;
+        this.order          = order;
+        this.options        = options;
+    }
+
+    /**
+     * Retrieve the identifier of this {@link SyntaxDefinition}.
+     *
+     * @return The identifier.
+     */
+    public @NotNull T getIdentifier() {
+
+        return this.identifier;
+    }
+
+    /**
+     * Retrieve the representation of the {@link ISyntaxContainer} of this {@link SyntaxDefinition}.
+     *
+     * @return The representation.
+     */
+    public @NotNull String getRepresentation() {
+
+        return this.representation;
+    }
+
+    /**
+     * Retrieve the order (priority) of the {@link ISyntaxContainer} of this {@link SyntaxDefinition}.
+     *
+     * @return The order.
+     */
+    public int getOrder() {
+
+        return this.order;
+    }
+
+    /**
+     * Retrieve the options possible for each selective argument of this {@link SyntaxDefinition}.
+     *
+     * @return A {@link Map} associating the name of each selective argument to its options.
+     */
+    public @NotNull Map<String, List<String>> getOptions() {
+
+        return this.options;
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("SyntaxDefinition{identifier=%s, representation=%s, order=%d}",
+                this.identifier, this.representation, this.order);
+    }
+
+}
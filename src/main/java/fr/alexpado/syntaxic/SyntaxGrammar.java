@@ -0,0 +1,623 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.rules.FillingSyntax;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A SyntaxGrammar compiles the optional and repeatable groups of a {@link SyntaxContainer} into a nondeterministic
+ * state machine over its {@link SyntaxProgram}, so every variant of a command is matched in a single pass over the
+ * tokens instead of being expanded into separate containers.
+ * <p>
+ * Each {@link ISyntax} becomes a state consuming one token, and each group only adds branching states: entering or
+ * skipping an optional group, repeating or leaving a repeatable one. A {@link FillingSyntax} gets an extra state
+ * consuming any amount of additional tokens.
+ * <p>
+ * As syntaxes may match the same tokens (ex: an {@link ISyntax} matching anything), the machine can't be turned into a
+ * deterministic one ahead of time. It is instead simulated on the fly, keeping every active state in priority order.
+ * Each token is then checked at most once per {@link ISyntax}, whatever the amount of variants. Matching is greedy:
+ * groups are entered and repeated as long as the input allows it. Values are only stored for the accepted path;
+ * a name matched more than once gets every value, joined with spaces.
+ */
+final class SyntaxGrammar {
+
+    /**
+     * A group is optional, its tokens may be skipped.
+     */
+    static final char OPTIONAL = '?';
+
+    /**
+     * A group is repeatable, its tokens may be skipped or repeated.
+     */
+    static final char ANY = '*';
+
+    /**
+     * A group is repeatable, its tokens must be present at least once.
+     */
+    static final char SOME = '+';
+
+    /**
+     * A group is required, its tokens must be present exactly once.
+     */
+    static final char ONCE = ' ';
+
+    private static final byte CONSUME = 0;
+    private static final byte FILL    = 1;
+    private static final byte SPLIT   = 2;
+    private static final byte ACCEPT  = 3;
+
+    private final     SyntaxProgram program;
+    private final     byte[]        kinds;
+    private final     int[]         syntaxes;
+    private final     int[]         targets;
+    private final     int[][]       branches;
+    private final     int           start;
+    private final     int           minimum;
+    private final     int           maximum;
+    private           int           regexEvaluations;
+    private           int           reached;
+    private @Nullable Capture       partial;
+
+    /**
+     * Compile the provided groups over the provided {@link SyntaxProgram}.
+     *
+     * @param program The {@link SyntaxProgram} of the container.
+     * @param groups  The groups of {@link ISyntax} of the container, inner groups being before the groups containing
+     *                them.
+     *
+     * @throws IllegalArgumentException Thrown if a group is empty, out of the program or overlaps another group.
+     */
+    SyntaxGrammar(SyntaxProgram program, List<Group> groups) {
+
+        int size = program.size();
+
+        for (Group group : groups) {
+            if (group.from < 0 || group.to > size || group.from >= group.to) {
+                throw new IllegalArgumentException("Invalid group: " + group.from + ".." + group.to);
+            }
+
+            for (Group other : groups) {
+                if (group.from < other.from && other.from < group.to && group.to < other.to) {
+                    throw new IllegalArgumentException("Overlapping groups: " + group.from + ".." + group.to + " and " + other.from + ".." + other.to);
+                }
+            }
+        }
+
+        Builder builder = new Builder(program, groups);
+        int     accept  = builder.node(ACCEPT, -1, -1);
+
+        this.program          = program;
+        this.start            = builder.sequence(0, size, accept, groups.size());
+        this.kinds            = builder.kinds();
+        this.syntaxes         = builder.syntaxes.stream().mapToInt(Integer::intValue).toArray();
+        this.targets          = builder.targets.stream().mapToInt(Integer::intValue).toArray();
+        this.branches         = builder.branches.toArray(new int[0][]);
+        this.minimum          = this.minimum();
+        this.maximum          = builder.unbounded ? Integer.MAX_VALUE : size;
+        this.regexEvaluations = 0;
+        this.reached          = 0;
+        this.partial          = null;
+    }
+
+    /**
+     * Compute the minimum amount of tokens needed to reach the accepting state, by a breadth first search in which
+     * branching states are free.
+     */
+    private int minimum() {
+
+        int[]          distances = new int[this.kinds.length];
+        Deque<Integer> queue     = new ArrayDeque<>();
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distances[this.start] = 0;
+        queue.add(this.start);
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+
+            switch (this.kinds[node]) {
+                case ACCEPT:
+                    return distances[node];
+                case SPLIT:
+                    for (int branch : this.branches[node]) {
+                        if (distances[branch] > distances[node]) {
+                            distances[branch] = distances[node];
+                            queue.addFirst(branch);
+                        }
+                    }
+                    break;
+                default:
+                    int target = this.targets[node];
+
+                    if (distances[target] > distances[node] + 1) {
+                        distances[target] = distances[node] + 1;
+                        queue.addLast(target);
+                    }
+                    break;
+            }
+        }
+
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Retrieve the amount of {@link ISyntax} that have been evaluated during the last call to
+     * {@link #match(List, Utf8Tokens, Parameters, ObjLongConsumer)} or
+     * {@link #complete(List, Collection, ObjLongConsumer)} and were regex based.
+     *
+     * @return The amount of regex evaluations.
+     */
+    int getRegexEvaluations() {
+
+        return this.regexEvaluations;
+    }
+
+    /**
+     * Check if the provided tokens match this grammar, storing the values of the accepted path into the provided
+     * {@link Parameters}.
+     *
+     * @param data       The prepared user's input.
+     * @param bytes      The UTF-8 encoded user's input, if the tokens come from one.
+     * @param parameters The {@link Parameters} receiving the values, already reset for this input.
+     * @param timings    The consumer receiving each evaluated {@link ISyntax} with the time spent in it, may be null.
+     *
+     * @return True if the tokens matched.
+     */
+    boolean match(List<String> data, @Nullable Utf8Tokens bytes, Parameters parameters, @Nullable ObjLongConsumer<ISyntax> timings) {
+
+        return this.match(data, bytes, parameters, timings, false);
+    }
+
+    /**
+     * Same as {@link #match(List, Utf8Tokens, Parameters, ObjLongConsumer)}, but may keep running the state machine
+     * when the amount of tokens can't match, and store the values captured by the path that went the furthest if the
+     * tokens didn't match.
+     *
+     * @param data       The prepared user's input.
+     * @param bytes      The UTF-8 encoded user's input, if the tokens come from one.
+     * @param parameters The {@link Parameters} receiving the values, already reset for this input.
+     * @param timings    The consumer receiving each evaluated {@link ISyntax} with the time spent in it, may be null.
+     * @param exploring  True to run the state machine whatever the amount of tokens, and keep the partial values.
+     *
+     * @return True if the tokens matched.
+     *
+     * @see #getReached()
+     */
+    boolean match(List<String> data, @Nullable Utf8Tokens bytes, Parameters parameters, @Nullable ObjLongConsumer<ISyntax> timings, boolean exploring) {
+
+        this.regexEvaluations = 0;
+        this.reached          = 0;
+        this.partial          = null;
+
+        if (!exploring && (data.size() < this.minimum || data.size() > this.maximum)) {
+            return false;
+        }
+
+        int     count   = Math.min(data.size(), this.maximum);
+        Threads threads = this.run(data, bytes, count, timings);
+
+        for (int i = 0; i < threads.size && count == data.size(); i++) {
+            if (this.kinds[threads.states[i]] == ACCEPT) {
+                this.replay(threads.captures[i], data, bytes, parameters);
+                return true;
+            }
+        }
+
+        if (exploring) {
+            this.replay(this.partial, data, bytes, parameters);
+        }
+
+        return false;
+    }
+
+    /**
+     * Retrieve the amount of leading tokens accepted by at least one path during the last call to
+     * {@link #match(List, Utf8Tokens, Parameters, ObjLongConsumer, boolean)}.
+     *
+     * @return The amount of leading tokens accepted.
+     */
+    int getReached() {
+
+        return this.reached;
+    }
+
+    /**
+     * Check if the provided tokens can be completed by this grammar, adding every completion of the last token to the
+     * provided collection.
+     *
+     * @param data       The prepared user's input.
+     * @param completion The collection receiving the completions.
+     * @param timings    The consumer receiving each evaluated {@link ISyntax} with the time spent in it, may be null.
+     *
+     * @return True if the last token can be completed.
+     */
+    boolean complete(List<String> data, Collection<String> completion, @Nullable ObjLongConsumer<ISyntax> timings) {
+
+        this.regexEvaluations = 0;
+
+        if (data.isEmpty() || data.size() > this.maximum) {
+            return false;
+        }
+
+        int          last        = data.size() - 1;
+        Threads      threads     = this.run(data, null, last, timings);
+        Set<String>  completions = new LinkedHashSet<>();
+        boolean      completable = false;
+        FoldedTokens folded      = data instanceof FoldedTokens ? (FoldedTokens) data : null;
+
+        for (int i = 0; i < threads.size; i++) {
+            int node = threads.states[i];
+
+            if (this.kinds[node] == CONSUME) {
+                int  syntax = this.syntaxes[node];
+                long start  = timings == null ? 0L : System.nanoTime();
+
+                completable |= folded == null
+                        ? this.program.complete(syntax, data.get(last), completions)
+                        : this.program.complete(syntax, last, folded, completions);
+                this.report(timings, syntax, start);
+            }
+        }
+
+        completion.addAll(completions);
+        return completable;
+    }
+
+    /**
+     * Run the state machine over the first <code>count</code> tokens.
+     *
+     * @param data    The prepared user's input.
+     * @param bytes   The UTF-8 encoded user's input, if the tokens come from one.
+     * @param count   The amount of tokens to consume.
+     * @param timings The consumer receiving each evaluated {@link ISyntax} with the time spent in it, may be null.
+     *
+     * @return The active states, in priority order, after consuming the tokens.
+     */
+    private Threads run(List<String> data, @Nullable Utf8Tokens bytes, int count, @Nullable ObjLongConsumer<ISyntax> timings) {
+
+        boolean[] visited = new boolean[this.kinds.length];
+        Threads   current = new Threads(this.kinds.length);
+        Threads   next    = new Threads(this.kinds.length);
+
+        this.add(current, visited, this.start, null);
+
+        for (int position = 0; position < count && current.size > 0; position++) {
+            Arrays.fill(visited, false);
+            next.size = 0;
+
+            for (int i = 0; i < current.size; i++) {
+                int node   = current.states[i];
+                int syntax = this.syntaxes[node];
+
+                switch (this.kinds[node]) {
+                    case FILL:
+                        this.add(next, visited, this.targets[node], new Capture(syntax, position, current.captures[i]));
+                        break;
+                    case CONSUME:
+                        long    start = timings == null ? 0L : System.nanoTime();
+                        boolean valid = this.match(syntax, position, data, bytes, null);
+
+                        this.report(timings, syntax, start);
+
+                        if (this.program.kind(syntax) == SyntaxProgram.REGEX) {
+                            this.regexEvaluations++;
+                        }
+
+                        if (valid) {
+                            this.add(next, visited, this.targets[node], new Capture(syntax, position, current.captures[i]));
+                        }
+                        break;
+                    default:
+                        // The accepting state can't consume more tokens.
+                        break;
+                }
+            }
+
+            Threads swap = current;
+            current = next;
+            next    = swap;
+
+            if (current.size > 0) {
+                // Threads are in priority order, so the first one is the path a match would have taken.
+                this.reached = position + 1;
+                this.partial = current.captures[0];
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Add the provided state to the provided threads, following every branch in priority order.
+     */
+    private void add(Threads threads, boolean[] visited, int node, @Nullable Capture capture) {
+
+        if (visited[node]) {
+            return;
+        }
+
+        visited[node] = true;
+
+        if (this.kinds[node] == SPLIT) {
+            for (int branch : this.branches[node]) {
+                this.add(threads, visited, branch, capture);
+            }
+            return;
+        }
+
+        threads.push(node, capture);
+    }
+
+    /**
+     * Store the values of the accepted path into the provided {@link Parameters}.
+     */
+    private void replay(@Nullable Capture last, List<String> data, @Nullable Utf8Tokens bytes, Parameters parameters) {
+
+        Deque<Capture> captures = new ArrayDeque<>();
+
+        for (Capture capture = last; capture != null; capture = capture.previous) {
+            captures.push(capture);
+        }
+
+        Parameters scratch = null;
+
+        for (Capture capture : captures) {
+            int syntax = capture.syntax;
+            int slot   = this.program.slot(syntax);
+
+            if (!parameters.has(slot)) {
+                this.store(syntax, capture.position, data, bytes, parameters);
+                continue;
+            }
+
+            if (this.program.isWholeToken(syntax) && parameters.append(slot, capture.position)) {
+                continue;
+            }
+
+            if (scratch == null) {
+                scratch = this.program.createParameters();
+            }
+
+            scratch.reset(data, bytes);
+            this.store(syntax, capture.position, data, bytes, scratch);
+
+            String value = scratch.get(slot);
+
+            if (value != null) {
+                parameters.value(slot, parameters.get(slot) + " " + value);
+            }
+        }
+    }
+
+    private void store(int syntax, int position, List<String> data, @Nullable Utf8Tokens bytes, Parameters parameters) {
+
+        this.match(syntax, position, data, bytes, parameters);
+    }
+
+    /**
+     * Check if the token at the provided position matches the provided {@link ISyntax}, reading it from the UTF-8
+     * encoded user's input or from the {@link FoldedTokens} when the tokens come from one.
+     */
+    private boolean match(int syntax, int position, List<String> data, @Nullable Utf8Tokens bytes, @Nullable Parameters parameters) {
+
+        if (bytes != null) {
+            return this.program.match(syntax, position, bytes, parameters);
+        }
+
+        //noinspection InstanceofConcreteClass
+        if (data instanceof FoldedTokens) {
+            return this.program.match(syntax, position, (FoldedTokens) data, parameters);
+        }
+
+        return this.program.match(syntax, position, data.get(position), parameters);
+    }
+
+    private void report(@Nullable ObjLongConsumer<ISyntax> timings, int syntax, long start) {
+
+        if (timings != null) {
+            timings.accept(this.program.syntax(syntax), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Build the states of a {@link SyntaxGrammar}, from the last {@link ISyntax} to the first one, so each state is
+     * created after the states it leads to.
+     */
+    private static final class Builder {
+
+        private final SyntaxProgram program;
+        private final List<Group>   groups;
+        private final List<Byte>    kinds;
+        private final List<Integer> syntaxes;
+        private final List<Integer> targets;
+        private final List<int[]>   branches;
+        private       boolean       unbounded;
+
+        private Builder(SyntaxProgram program, List<Group> groups) {
+
+            this.program   = program;
+            this.groups    = groups;
+            this.kinds     = new ArrayList<>();
+            this.syntaxes  = new ArrayList<>();
+            this.targets   = new ArrayList<>();
+            this.branches  = new ArrayList<>();
+            this.unbounded = false;
+        }
+
+        private int node(byte kind, int syntax, int target) {
+
+            this.kinds.add(kind);
+            this.syntaxes.add(syntax);
+            this.targets.add(target);
+            this.branches.add(null);
+            return this.kinds.size() - 1;
+        }
+
+        private int split() {
+
+            return this.node(SPLIT, -1, -1);
+        }
+
+        private byte[] kinds() {
+
+            byte[] kinds = new byte[this.kinds.size()];
+
+            for (int i = 0; i < kinds.length; i++) {
+                kinds[i] = this.kinds.get(i);
+            }
+
+            return kinds;
+        }
+
+        /**
+         * Build the states of the {@link ISyntax} between <code>from</code> and <code>to</code>, considering only the
+         * groups before <code>limit</code> in the list of groups.
+         *
+         * @return The first state of the sequence.
+         */
+        private int sequence(int from, int to, int next, int limit) {
+
+            int entry    = next;
+            int position = to;
+
+            while (position > from) {
+                int outer = -1;
+
+                // The outermost group ending here, inner groups being before the groups containing them.
+                for (int i = 0; i < limit; i++) {
+                    Group group = this.groups.get(i);
+
+                    if (group.to == position && group.from >= from && (outer < 0 || group.from <= this.groups.get(outer).from)) {
+                        outer = i;
+                    }
+                }
+
+                if (outer < 0) {
+                    entry = this.consume(position - 1, entry);
+                    position--;
+                } else {
+                    entry    = this.group(outer, entry);
+                    position = this.groups.get(outer).from;
+                }
+            }
+
+            return entry;
+        }
+
+        private int group(int index, int next) {
+
+            Group group = this.groups.get(index);
+            int   split;
+            int   body;
+
+            switch (group.quantifier) {
+                case OPTIONAL:
+                    split = this.split();
+                    body  = this.sequence(group.from, group.to, next, index);
+                    this.branches.set(split, new int[]{body, next});
+                    return split;
+                case ANY:
+                    this.unbounded = true;
+                    split          = this.split();
+                    body           = this.sequence(group.from, group.to, split, index);
+                    this.branches.set(split, new int[]{body, next});
+                    return split;
+                case SOME:
+                    this.unbounded = true;
+                    split          = this.split();
+                    body           = this.sequence(group.from, group.to, split, index);
+                    this.branches.set(split, new int[]{body, next});
+                    return body;
+                default:
+                    return this.sequence(group.from, group.to, next, index);
+            }
+        }
+
+        private int consume(int syntax, int next) {
+
+            if (!this.program.isFilling(syntax)) {
+                return this.node(CONSUME, syntax, next);
+            }
+
+            // Greedy: consuming more tokens first, then leaving the loop.
+            this.unbounded = true;
+            int loop = this.split();
+            int fill = this.node(FILL, syntax, loop);
+            this.branches.set(loop, new int[]{fill, next});
+            return this.node(CONSUME, syntax, loop);
+        }
+
+    }
+
+    /**
+     * A group of consecutive {@link ISyntax} and how many times it may appear.
+     */
+    static final class Group {
+
+        private final int  from;
+        private final int  to;
+        private final char quantifier;
+
+        /**
+         * Create a new {@link Group}.
+         *
+         * @param from       The index of the first {@link ISyntax} of the group.
+         * @param to         The index after the last {@link ISyntax} of the group.
+         * @param quantifier One of {@link #OPTIONAL}, {@link #ANY}, {@link #SOME} or {@link #ONCE}.
+         */
+        Group(int from, int to, char quantifier) {
+
+            this.from       = from;
+            this.to         = to;
+            this.quantifier = quantifier;
+        }
+
+    }
+
+    /**
+     * A matched token, linked to the previous one of the same path. Paths sharing a prefix share its captures.
+     */
+    private static final class Capture {
+
+        private final           int     syntax;
+        private final           int     position;
+        private final @Nullable Capture previous;
+
+        private Capture(int syntax, int position, @Nullable Capture previous) {
+
+            this.syntax   = syntax;
+            this.position = position;
+            this.previous = previous;
+        }
+
+    }
+
+    /**
+     * The active states of the state machine, in priority order.
+     */
+    private static final class Threads {
+
+        private final int[]     states;
+        private final Capture[] captures;
+        private       int       size;
+
+        private Threads(int capacity) {
+
+            this.states   = new int[capacity];
+            this.captures = new Capture[capacity];
+            this.size     = 0;
+        }
+
+        private void push(int state, @Nullable Capture capture) {
+
+            this.states[this.size]   = state;
+            this.captures[this.size] = capture;
+            this.size++;
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A SyntaxOverlay is an {@link ISyntaxService} layering the identifiers of a tenant (ex: the custom commands of a
+ * server) over a shared base {@link SyntaxService}. Identifiers can be added, replacing an identifier of the base with
+ * the same value, or removed from the view, without modifying nor copying the base.
+ * <p>
+ * Added identifiers are evaluated first, then the identifiers of the base that are neither removed nor replaced. The
+ * result is the same as the one of a {@link SyntaxService} holding every visible identifier, but the memory used by a
+ * SyntaxOverlay grows with its additions and removals instead of the size of the base.
+ * <p>
+ * The settings of the base are used, and its generated matchers are shared: added containers are interpreted. When
+ * the base uses the ordered evaluation, its {@link OrderedIndex} is shared too, skipping the removed and replaced
+ * identifiers. The base identifier map shouldn't be changed once overlays have been created, while additions and
+ * removals can be changed at any time, even while matching.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public class SyntaxOverlay<T> extends SyntaxService<T> {
+
+    private final SyntaxService<T> base;
+    private final OverlayMap<T>    overlay;
+
+    /**
+     * Create a new {@link SyntaxOverlay} without any addition nor removal.
+     *
+     * @param base The shared base {@link SyntaxService}.
+     */
+    public SyntaxOverlay(@NotNull SyntaxService<T> base) {
+
+        this(base, new OverlayMap<>(base.getIdentifierMap()));
+    }
+
+    private SyntaxOverlay(SyntaxService<T> base, OverlayMap<T> overlay) {
+
+        super(base, overlay);
+        this.base    = base;
+        this.overlay = overlay;
+    }
+
+    /**
+     * Add the provided identifier to this {@link SyntaxOverlay}, replacing the identifier of the base with the same
+     * value, if any.
+     *
+     * @param identifier The identifier to add.
+     * @param container  The {@link ISyntaxContainer} of the identifier.
+     *
+     * @return This {@link SyntaxOverlay}.
+     */
+    public @NotNull SyntaxOverlay<T> add(@NotNull T identifier, @NotNull ISyntaxContainer container) {
+
+        this.overlay.add(identifier, container);
+        return this;
+    }
+
+    /**
+     * Remove the provided identifier from this {@link SyntaxOverlay}, whether it has been added or belongs to the base.
+     * The base isn't modified.
+     *
+     * @param identifier The identifier to remove.
+     *
+     * @return This {@link SyntaxOverlay}.
+     */
+    public @NotNull SyntaxOverlay<T> remove(@NotNull T identifier) {
+
+        this.overlay.hide(identifier);
+        return this;
+    }
+
+    /**
+     * Retrieve the shared base {@link SyntaxService} of this {@link SyntaxOverlay}.
+     *
+     * @return The base {@link SyntaxService}.
+     */
+    public @NotNull SyntaxService<T> getBase() {
+
+        return this.base;
+    }
+
+    /**
+     * Retrieve the identifiers added to this {@link SyntaxOverlay}.
+     *
+     * @return An unmodifiable {@link Map} associating each added identifier to its {@link ISyntaxContainer}.
+     */
+    public @NotNull Map<T, ISyntaxContainer> getAdditions() {
+
+        return this.overlay.getAdditions();
+    }
+
+    /**
+     * Retrieve the identifiers of the base hidden by this {@link SyntaxOverlay}.
+     *
+     * @return An unmodifiable {@link Set} of identifiers.
+     */
+    public @NotNull Set<T> getRemovals() {
+
+        return this.overlay.getRemovals();
+    }
+
+}
@@ -0,0 +1,313 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The SyntaxProcessor is a {@link Flow.Processor} matching a stream of {@link Message} against an
+ * {@link ISyntaxService} and publishing a {@link Result} for each one of them.
+ * <p>
+ * Messages are dispatched to a fixed amount of lanes depending on their channel, each lane being drained by at most one
+ * worker at a time, by batches. This keeps the results of a given channel in the same order as their messages while
+ * different channels are matched in parallel. A message whose matching fails is published as a failed {@link Result},
+ * so that a single bad message doesn't stop the stream.
+ * <p>
+ * Backpressure is propagated in both directions: no more than <code>bufferSize</code> messages are requested from the
+ * upstream publisher until their results have been handed to the downstream subscriber, and workers wait for the
+ * downstream subscriber to request more results before publishing them. The memory used by this processor is then
+ * bounded whatever the rate of the upstream publisher. As workers may wait for the downstream subscriber, the provided
+ * {@link Executor} should be able to run deliveries while they do (ex: a {@link ForkJoinPool} or virtual threads).
+ *
+ * @param <C> Type of the channel from which messages are coming.
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public class SyntaxProcessor<C, T> implements Flow.Processor<SyntaxProcessor.Message<C>, SyntaxProcessor.Result<C, T>> {
+
+    private final ISyntaxService<T>                 service;
+    private final Executor                          executor;
+    private final SubmissionPublisher<Result<C, T>> publisher;
+    private final List<Lane>                        lanes;
+    private final int                               bufferSize;
+    private final int                               batchSize;
+    private final AtomicLong                        pending;
+    private final AtomicBoolean                     upstreamDone;
+    private final AtomicBoolean                     closed;
+    private       Flow.Subscription                 subscription;
+
+    /**
+     * Create a new {@link SyntaxProcessor} running on the common {@link ForkJoinPool}, with one lane per available
+     * processor.
+     *
+     * @param service The {@link ISyntaxService} to use for matching.
+     */
+    public SyntaxProcessor(@NotNull ISyntaxService<T> service) {
+
+        this(service, ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors(), Flow.defaultBufferSize(), 16);
+    }
+
+    /**
+     * Create a new {@link SyntaxProcessor}.
+     *
+     * @param service    The {@link ISyntaxService} to use for matching.
+     * @param executor   The {@link Executor} on which messages will be matched and results published.
+     * @param lanes      The amount of lanes, which is the maximum amount of messages matched in parallel.
+     * @param bufferSize The maximum amount of messages requested upstream and not yet delivered downstream.
+     * @param batchSize  The maximum amount of messages a lane handles before giving its thread back to the executor.
+     */
+    public SyntaxProcessor(@NotNull ISyntaxService<T> service, @NotNull Executor executor, int lanes, int bufferSize, int batchSize) {
+
+        if (lanes <= 0 || bufferSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Lanes, buffer size and batch size must be positive.");
+        }
+
+        this.service      = service;
+        this.executor     = executor;
+        this.publisher    = new SubmissionPublisher<>(executor, bufferSize);
+        this.lanes        = new ArrayList<>(lanes);
+        this.bufferSize   = bufferSize;
+        this.batchSize    = batchSize;
+        this.pending      = new AtomicLong();
+        this.upstreamDone = new AtomicBoolean();
+        this.closed       = new AtomicBoolean();
+
+        for (int i = 0; i < lanes; i++) {
+            this.lanes.add(new Lane());
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Result<C, T>> subscriber) {
+
+        this.publisher.subscribe(subscriber);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+
+        this.subscription = subscription;
+        subscription.request(this.bufferSize);
+    }
+
+    @Override
+    public void onNext(Message<C> item) {
+
+        this.pending.incrementAndGet();
+        Lane lane = this.lanes.get(Math.floorMod(Objects.hashCode(item.getChannel()), this.lanes.size()));
+        lane.queue.add(item);
+        lane.schedule();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+
+        if (this.closed.compareAndSet(false, true)) {
+            this.publisher.closeExceptionally(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+
+        this.upstreamDone.set(true);
+        this.closeIfDone();
+    }
+
+    /**
+     * Close the downstream publisher once the upstream publisher completed and every message has been published.
+     */
+    private void closeIfDone() {
+
+        if (this.upstreamDone.get() && this.pending.get() == 0 && this.closed.compareAndSet(false, true)) {
+            this.publisher.close();
+        }
+    }
+
+    /**
+     * Match the provided {@link Message} and publish its {@link Result}, waiting for downstream demand if needed.
+     *
+     * @param message The {@link Message} to handle.
+     */
+    private void handle(Message<C> message) {
+
+        try {
+            Result<C, T> result;
+
+            try {
+                result = new Result<>(message, this.service.getMatchingResult(message.getContent()), null);
+            } catch (RuntimeException e) {
+                result = new Result<>(message, Optional.empty(), e);
+            }
+
+            if (!this.closed.get()) {
+                // Blocks while the downstream subscriber buffer is full.
+                this.publisher.submit(result);
+            }
+        } catch (IllegalStateException e) {
+            // The publisher has been closed while submitting, the result can be dropped.
+        } finally {
+            this.pending.decrementAndGet();
+
+            if (!this.closed.get()) {
+                this.subscription.request(1);
+            }
+            this.closeIfDone();
+        }
+    }
+
+    /**
+     * A queue of messages drained by at most one worker at a time.
+     */
+    private final class Lane implements Runnable {
+
+        private final Queue<Message<C>> queue     = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean     scheduled = new AtomicBoolean();
+
+        private void schedule() {
+
+            if (this.scheduled.compareAndSet(false, true)) {
+                SyntaxProcessor.this.executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+
+            for (int i = 0; i < SyntaxProcessor.this.batchSize; i++) {
+                Message<C> message = this.queue.poll();
+
+                if (message == null) {
+                    break;
+                }
+
+                SyntaxProcessor.this.handle(message);
+            }
+
+            this.scheduled.set(false);
+
+            // A message may have been added after the last poll, or the batch was full.
+            if (!this.queue.isEmpty()) {
+                this.schedule();
+            }
+        }
+
+    }
+
+    /**
+     * A raw user's input coming from a channel.
+     *
+     * @param <C> Type of the channel.
+     */
+    public static final class Message<C> {
+
+        private final C      channel;
+        private final String content;
+
+        /**
+         * Create a new {@link Message}.
+         *
+         * @param channel The channel from which the message is coming. Results of a channel are published in order.
+         * @param content The raw user's input.
+         */
+        public Message(C channel, @NotNull String content) {
+
+            this.channel = channel;
+            this.content = content;
+        }
+
+        /**
+         * Retrieve the channel from which this {@link Message} is coming.
+         *
+         * @return The channel.
+         */
+        public C getChannel() {
+
+            return this.channel;
+        }
+
+        /**
+         * Retrieve the raw user's input.
+         *
+         * @return The user's input.
+         */
+        public @NotNull String getContent() {
+
+            return this.content;
+        }
+
+    }
+
+    /**
+     * The result of the matching of a {@link Message}.
+     *
+     * @param <C> Type of the channel.
+     * @param <T> Type of the identifier.
+     */
+    public static final class Result<C, T> {
+
+        private final           Message<C>                   message;
+        private final           Optional<IMatchingResult<T>> result;
+        private final @Nullable RuntimeException             error;
+
+        private Result(Message<C> message, Optional<IMatchingResult<T>> result, @Nullable RuntimeException error) {
+
+            this.message = message;
+            this.result  = result;
+            this.error   = error;
+        }
+
+        /**
+         * Retrieve the {@link Message} that has been matched.
+         *
+         * @return The {@link Message}.
+         */
+        public @NotNull Message<C> getMessage() {
+
+            return this.message;
+        }
+
+        /**
+         * Retrieve the optional {@link IMatchingResult} of the {@link Message}, which is empty if the matching failed.
+         *
+         * @return An optional {@link IMatchingResult}.
+         *
+         * @see ISyntaxService#getMatchingResult(String)
+         */
+        public @NotNull Optional<IMatchingResult<T>> getResult() {
+
+            return this.result;
+        }
+
+        /**
+         * Retrieve the exception thrown while matching the {@link Message}, if any.
+         *
+         * @return An optional {@link RuntimeException}, present if the matching failed.
+         */
+        public @NotNull Optional<RuntimeException> getError() {
+
+            return Optional.ofNullable(this.error);
+        }
+
+    }
+
+}
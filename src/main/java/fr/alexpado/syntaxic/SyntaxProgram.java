@@ -0,0 +1,774 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IOptionSource;
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.rules.*;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A SyntaxProgram is the compiled execution form of the {@link ISyntax} list of a {@link SyntaxContainer}.
+ * <p>
+ * Each built-in {@link ISyntax} is turned into a kind tag and its operands, stored in flat arrays, and evaluated by a
+ * <code>switch</code> on the tag instead of an interface call. The call site matching every syntax of every container
+ * then stays monomorphic and can be fully inlined by the JIT. {@link ISyntax} implementations that aren't built-in,
+ * including subclasses of built-in ones, are kept as {@link #CUSTOM} and called through their interface.
+ * <p>
+ * Built-in {@link ISyntax} are only read while compiling: their last match isn't updated by a SyntaxProgram, matched
+ * values being written directly to the {@link ISyntaxContainer} matches.
+ */
+final class SyntaxProgram {
+
+    static final byte WORD        = 0;
+    static final byte SELECTIVE   = 1;
+    static final byte REGEX       = 2;
+    static final byte EAGER       = 3;
+    static final byte FILLING     = 4;
+    static final byte NUMERIC     = 5;
+    static final byte ALTERNATION = 6;
+    static final byte CUSTOM      = 7;
+
+    private static final String[] KIND_NAMES = {"WORD", "SELECTIVE", "REGEX", "EAGER", "FILLING", "NUMERIC", "ALTERNATION", "CUSTOM"};
+
+    private final int                  size;
+    private final byte[]               kinds;
+    private final String[]             names;
+    private final String[]             keys;
+    private final FoldedOptions[]      folded;
+    private final byte[][]             encoded;
+    private final List<String>[]       values;
+    private final Pattern[]            patterns;
+    private final NumericSyntax[]      numerics;
+    private final AlternationSyntax[]  alternations;
+    private final ISyntax[]            syntaxes;
+    private final boolean[]            filling;
+    private final int[]                regexCount;
+    private final int[]                slots;
+    private final Map<String, Integer> slotIndex;
+
+    /**
+     * Compile the provided {@link ISyntax} list.
+     *
+     * @param syntaxList The {@link List} of {@link ISyntax} to compile.
+     */
+    SyntaxProgram(List<ISyntax> syntaxList) {
+
+        this.size         = syntaxList.size();
+        this.kinds        = new byte[this.size];
+        this.names        = new String[this.size];
+        this.keys         = new String[this.size];
+        this.folded       = new FoldedOptions[this.size];
+        this.encoded      = new byte[this.size][];
+        this.values       = listArray(this.size);
+        this.patterns     = new Pattern[this.size];
+        this.numerics     = new NumericSyntax[this.size];
+        this.alternations = new AlternationSyntax[this.size];
+        this.syntaxes     = syntaxList.toArray(new ISyntax[0]);
+        this.filling      = new boolean[this.size];
+        this.regexCount   = new int[this.size + 1];
+        this.slots        = new int[this.size];
+        this.slotIndex    = new HashMap<>();
+
+        for (int i = 0; i < this.size; i++) {
+            ISyntax syntax = this.syntaxes[i];
+
+            this.names[i] = syntax.getName();
+            this.slots[i] = this.slotIndex.computeIfAbsent(this.names[i], name -> this.slotIndex.size());
+
+            //noinspection InstanceofConcreteClass
+            this.filling[i]        = syntax instanceof FillingSyntax;
+            //noinspection InstanceofConcreteClass
+            this.regexCount[i + 1] = this.regexCount[i] + (syntax instanceof RegexSyntax ? 1 : 0);
+
+            this.kinds[i] = kindOf(syntax);
+
+            switch (this.kinds[i]) {
+                case WORD:
+                    this.keys[i]    = FoldedTokens.fold(this.names[i]);
+                    this.encoded[i] = this.names[i].getBytes(StandardCharsets.UTF_8);
+                    break;
+                case SELECTIVE:
+                    this.values[i] = ((SelectiveSyntax) syntax).getValues();
+                    break;
+                case REGEX:
+                    this.patterns[i] = ((RegexSyntax) syntax).getPattern();
+                    break;
+                case NUMERIC:
+                    this.numerics[i] = (NumericSyntax) syntax;
+                    break;
+                case ALTERNATION:
+                    this.alternations[i] = (AlternationSyntax) syntax;
+                    this.folded[i]       = new FoldedOptions(this.alternations[i].getAlternatives());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Retrieve the kind tag the provided {@link ISyntax} is compiled into.
+     *
+     * @param syntax The {@link ISyntax} to check.
+     *
+     * @return The kind tag, {@link #CUSTOM} if the {@link ISyntax} isn't built-in.
+     */
+    static byte kindOf(ISyntax syntax) {
+
+        Class<?> type = syntax.getClass();
+
+        // Exact classes only: a subclass may override any method and must be called through its interface.
+        if (type == WordSyntax.class) {
+            return WORD;
+        } else if (type == SelectiveSyntax.class) {
+            return SELECTIVE;
+        } else if (type == RegexSyntax.class) {
+            return REGEX;
+        } else if (type == EagerSyntax.class) {
+            return EAGER;
+        } else if (type == FillingSyntax.class) {
+            return FILLING;
+        } else if (type == NumericSyntax.class) {
+            return NUMERIC;
+        } else if (type == AlternationSyntax.class) {
+            return ALTERNATION;
+        }
+        return CUSTOM;
+    }
+
+    /**
+     * Create an array of {@link List}, as generic arrays can't be created directly.
+     *
+     * @param size The size of the array.
+     * @param <E>  The type of the elements of each {@link List}.
+     *
+     * @return An array of the provided size, filled with null.
+     */
+    private static <E> List<E>[] listArray(int size) {
+
+        // Safe: the array is created empty, so it can only hold the lists stored through the returned type.
+        @SuppressWarnings("unchecked")
+        List<E>[] array = (List<E>[]) new List<?>[size];
+        return array;
+    }
+
+    /**
+     * Retrieve the name of the provided kind tag (ex: <code>REGEX</code>), which stays the same whatever the class of
+     * the {@link ISyntax}.
+     *
+     * @param kind The kind tag.
+     *
+     * @return The name of the kind.
+     */
+    static String kindName(byte kind) {
+
+        return KIND_NAMES[kind];
+    }
+
+    /**
+     * Retrieve the amount of compiled {@link ISyntax}.
+     *
+     * @return The amount of {@link ISyntax}.
+     */
+    int size() {
+
+        return this.size;
+    }
+
+    /**
+     * Retrieve the {@link ISyntax} that has been compiled at the provided index.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return The {@link ISyntax}.
+     */
+    ISyntax syntax(int index) {
+
+        return this.syntaxes[index];
+    }
+
+    /**
+     * Retrieve the name of the {@link ISyntax} at the provided index.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return The name of the {@link ISyntax}.
+     */
+    String name(int index) {
+
+        return this.names[index];
+    }
+
+    /**
+     * Retrieve the slot, in {@link Parameters}, of the value matched by the {@link ISyntax} at the provided index.
+     * {@link ISyntax} sharing the same name share the same slot.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return The slot of the {@link ISyntax}.
+     */
+    int slot(int index) {
+
+        return this.slots[index];
+    }
+
+    /**
+     * Create empty {@link Parameters} able to hold the values matched by this {@link SyntaxProgram}.
+     *
+     * @return New {@link Parameters}.
+     */
+    Parameters createParameters() {
+
+        return new Parameters(this.slotIndex);
+    }
+
+    /**
+     * Case-fold and NFC-normalize the possible values of every {@link SelectiveSyntax}, so that they can be compared to
+     * the keys of {@link FoldedTokens}. Literals are folded when compiling, while possible values are folded by this
+     * method or the first time they are compared to a key. Changes made to the lists of possible values afterwards
+     * won't be seen when comparing keys.
+     * <p>
+     * Lists of possible values shared by several {@link SyntaxProgram}s, such as an {@link IOptionSource}, are folded
+     * once: the provided map holds the values already folded, by identity of their list.
+     *
+     * @param folded The possible values already folded, by identity of their list.
+     */
+    void fold(Map<List<String>, FoldedOptions> folded) {
+
+        for (int i = 0; i < this.size; i++) {
+            if (this.kinds[i] == SELECTIVE && this.folded[i] == null) {
+                this.folded[i] = folded.computeIfAbsent(this.values[i], FoldedOptions::new);
+            }
+        }
+    }
+
+    /**
+     * Retrieve the folded possible values of the {@link SelectiveSyntax} or {@link AlternationSyntax} at the provided
+     * index, folding them if needed.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return The {@link FoldedOptions}, or null if the {@link ISyntax} has no possible values.
+     */
+    private @Nullable FoldedOptions options(int index) {
+
+        FoldedOptions options = this.folded[index];
+
+        if (options == null && this.kinds[index] == SELECTIVE) {
+            // Immutable, so it can be published without synchronization: racing threads fold the same values.
+            options            = new FoldedOptions(this.values[index]);
+            this.folded[index] = options;
+        }
+
+        return options;
+    }
+
+    /**
+     * Retrieve the kind tag of the {@link ISyntax} at the provided index.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return The kind tag, one of {@link #WORD}, {@link #SELECTIVE}, {@link #REGEX}, {@link #EAGER},
+     *         {@link #FILLING}, {@link #NUMERIC}, {@link #ALTERNATION} or {@link #CUSTOM}.
+     */
+    byte kind(int index) {
+
+        return this.kinds[index];
+    }
+
+    /**
+     * Retrieve the possible values of the {@link SelectiveSyntax} at the provided index.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return The possible values, or null if the {@link ISyntax} isn't a {@link #SELECTIVE}.
+     */
+    @Nullable List<String> values(int index) {
+
+        return this.values[index];
+    }
+
+    /**
+     * Retrieve the {@link Pattern} of the {@link RegexSyntax} at the provided index.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return The {@link Pattern}, or null if the {@link ISyntax} isn't a {@link #REGEX}.
+     */
+    @Nullable Pattern pattern(int index) {
+
+        return this.patterns[index];
+    }
+
+    /**
+     * Retrieve the {@link NumericSyntax} at the provided index.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return The {@link NumericSyntax}, or null if the {@link ISyntax} isn't a {@link #NUMERIC}.
+     */
+    @Nullable NumericSyntax numeric(int index) {
+
+        return this.numerics[index];
+    }
+
+    /**
+     * Retrieve the {@link AlternationSyntax} at the provided index.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return The {@link AlternationSyntax}, or null if the {@link ISyntax} isn't an {@link #ALTERNATION}.
+     */
+    @Nullable AlternationSyntax alternation(int index) {
+
+        return this.alternations[index];
+    }
+
+    /**
+     * Check if the {@link ISyntax} at the provided index is a {@link FillingSyntax}, consuming every remaining token.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return True if the {@link ISyntax} is a {@link FillingSyntax}.
+     */
+    boolean isFilling(int index) {
+
+        return this.filling[index];
+    }
+
+    /**
+     * Retrieve the amount of {@link RegexSyntax} among the first <code>count</code> {@link ISyntax}.
+     *
+     * @param count The amount of {@link ISyntax} to consider.
+     *
+     * @return The amount of {@link RegexSyntax}.
+     */
+    int regexCount(int count) {
+
+        return this.regexCount[count];
+    }
+
+    /**
+     * Check if the provided token perfectly matches the {@link ISyntax} at the provided index, storing the matched value
+     * into the provided {@link Parameters}.
+     *
+     * @param index      The index of the {@link ISyntax} and of the token.
+     * @param token      The token to check.
+     * @param parameters The {@link Parameters} receiving the matched value, may be null if the value isn't needed.
+     *
+     * @return True if the token matched.
+     *
+     * @see ISyntax#isMatching(String)
+     */
+    boolean match(int index, String token, @Nullable Parameters parameters) {
+
+        return this.match(index, index, token, parameters);
+    }
+
+    /**
+     * Check if the provided token perfectly matches the {@link ISyntax} at the provided index, storing the matched value
+     * into the provided {@link Parameters}.
+     *
+     * @param index      The index of the {@link ISyntax}.
+     * @param position   The index of the token in the user's input.
+     * @param token      The token to check.
+     * @param parameters The {@link Parameters} receiving the matched value, may be null if the value isn't needed.
+     *
+     * @return True if the token matched.
+     *
+     * @see ISyntax#isMatching(String)
+     */
+    boolean match(int index, int position, String token, @Nullable Parameters parameters) {
+
+        switch (this.kinds[index]) {
+            case WORD:
+                if (!this.names[index].equals(token)) {
+                    return false;
+                }
+                break;
+            case SELECTIVE:
+                if (!this.values[index].contains(token)) {
+                    return false;
+                }
+                break;
+            case ALTERNATION:
+                if (!this.alternations[index].getLookup().contains(token)) {
+                    return false;
+                }
+                break;
+            case REGEX:
+                Matcher matcher = this.patterns[index].matcher(token);
+
+                if (!matcher.matches()) {
+                    return false;
+                }
+                return store(parameters, this.slots[index], matcher.group(matcher.groupCount()));
+            case EAGER:
+            case FILLING:
+                break;
+            case NUMERIC:
+                return number(parameters, this.slots[index], position, this.numerics[index].parse(token));
+            default:
+                ISyntax syntax = this.syntaxes[index];
+
+                if (!syntax.isMatching(token)) {
+                    return false;
+                }
+                return store(parameters, this.slots[index], syntax.getLastMatch().orElse(null));
+        }
+
+        if (parameters != null) {
+            parameters.token(this.slots[index], position);
+        }
+        return true;
+    }
+
+    /**
+     * Same as {@link #match(int, String, Parameters)}, but using the token at the provided index of a UTF-8 encoded
+     * user's input. Tokens are only decoded if needed.
+     *
+     * @param index      The index of the {@link ISyntax} and of the token.
+     * @param tokens     The UTF-8 encoded user's input.
+     * @param parameters The {@link Parameters} receiving the matched value.
+     *
+     * @return True if the token matched.
+     *
+     * @see ISyntax#isMatching(Utf8Tokens, int)
+     */
+    boolean match(int index, Utf8Tokens tokens, @Nullable Parameters parameters) {
+
+        return this.match(index, index, tokens, parameters);
+    }
+
+    /**
+     * Same as {@link #match(int, int, String, Parameters)}, but using the token at the provided position of a UTF-8
+     * encoded user's input. Tokens are only decoded if needed.
+     *
+     * @param index      The index of the {@link ISyntax}.
+     * @param position   The index of the token in the user's input.
+     * @param tokens     The UTF-8 encoded user's input.
+     * @param parameters The {@link Parameters} receiving the matched value, may be null if the value isn't needed.
+     *
+     * @return True if the token matched.
+     *
+     * @see ISyntax#isMatching(Utf8Tokens, int)
+     */
+    boolean match(int index, int position, Utf8Tokens tokens, @Nullable Parameters parameters) {
+
+        switch (this.kinds[index]) {
+            case WORD:
+                if (!tokens.equals(position, this.encoded[index])) {
+                    return false;
+                }
+                break;
+            case SELECTIVE:
+                // Selective syntaxes keep their own lookup table of encoded values, or ask their IOptionSource.
+                if (!this.syntaxes[index].isMatching(tokens, position)) {
+                    return false;
+                }
+                break;
+            case ALTERNATION:
+                if (this.alternations[index].find(tokens, position) == null) {
+                    return false;
+                }
+                break;
+            case EAGER:
+            case FILLING:
+                break;
+            case NUMERIC:
+                return number(parameters, this.slots[index], position, this.numerics[index].parse(tokens, position));
+            case CUSTOM:
+                ISyntax syntax = this.syntaxes[index];
+
+                if (!syntax.isMatching(tokens, position)) {
+                    return false;
+                }
+                return store(parameters, this.slots[index], syntax.getLastMatch().orElse(null));
+            default:
+                return this.match(index, position, tokens.get(position), parameters);
+        }
+
+        if (parameters != null) {
+            parameters.token(this.slots[index], position);
+        }
+        return true;
+    }
+
+    /**
+     * Same as {@link #match(int, int, String, Parameters)}, but using the token at the provided position of
+     * {@link FoldedTokens}. Literals and possible values are compared to the key of the token, while other
+     * {@link ISyntax} get the token as typed by the user.
+     *
+     * @param index      The index of the {@link ISyntax}.
+     * @param position   The index of the token in the user's input.
+     * @param tokens     The tokens of the user's input, with their keys.
+     * @param parameters The {@link Parameters} receiving the matched value, may be null if the value isn't needed.
+     *
+     * @return True if the token matched.
+     */
+    boolean match(int index, int position, FoldedTokens tokens, @Nullable Parameters parameters) {
+
+        switch (this.kinds[index]) {
+            case WORD:
+                if (!this.keys[index].equals(tokens.key(position))) {
+                    return false;
+                }
+                break;
+            case SELECTIVE:
+            case ALTERNATION:
+                if (!this.options(index).contains(tokens.key(position))) {
+                    return false;
+                }
+                break;
+            case EAGER:
+            case FILLING:
+                break;
+            default:
+                return this.match(index, position, tokens.get(position), parameters);
+        }
+
+        if (parameters != null) {
+            parameters.token(this.slots[index], position);
+        }
+        return true;
+    }
+
+    /**
+     * Check if the {@link ISyntax} at the provided index stores the whole matched token as its value, which allows
+     * consecutive values to be stored as a single range of tokens.
+     *
+     * @param index The index of the {@link ISyntax}.
+     *
+     * @return True if the value is always the whole token.
+     */
+    boolean isWholeToken(int index) {
+
+        byte kind = this.kinds[index];
+        return kind != REGEX && kind != CUSTOM;
+    }
+
+    /**
+     * Store the provided value into the provided {@link Parameters}, if both exist.
+     *
+     * @param parameters The {@link Parameters} receiving the value, may be null.
+     * @param slot       The slot of the parameter.
+     * @param value      The value to store, may be null.
+     *
+     * @return Always true, as the value is only stored when matching.
+     */
+    private static boolean store(@Nullable Parameters parameters, int slot, @Nullable String value) {
+
+        if (parameters != null && value != null) {
+            parameters.value(slot, value);
+        }
+        return true;
+    }
+
+    /**
+     * Store the provided parsed number into the provided {@link Parameters}, if it is valid and they exist.
+     *
+     * @param parameters The {@link Parameters} receiving the value, may be null.
+     * @param slot       The slot of the parameter.
+     * @param index      The index of the token.
+     * @param number     The parsed number, or {@link NumericSyntax#INVALID}.
+     *
+     * @return True if the number is valid.
+     */
+    private static boolean number(@Nullable Parameters parameters, int slot, int index, long number) {
+
+        if (number == NumericSyntax.INVALID) {
+            return false;
+        }
+
+        if (parameters != null) {
+            parameters.number(slot, index, number);
+        }
+        return true;
+    }
+
+    /**
+     * Check if the provided token partially matches the {@link ISyntax} at the provided index, adding every completion
+     * to the provided collection.
+     *
+     * @param index      The index of the {@link ISyntax}.
+     * @param token      The token to complete.
+     * @param completion The collection receiving the completions.
+     *
+     * @return True if the token can be completed.
+     *
+     * @see ISyntax#isCompletable(String)
+     * @see ISyntax#complete(String)
+     */
+    boolean complete(int index, String token, Collection<String> completion) {
+
+        switch (this.kinds[index]) {
+            case WORD:
+                if (!this.names[index].startsWith(token)) {
+                    return false;
+                }
+                completion.add(this.names[index]);
+                return true;
+            case SELECTIVE:
+                return complete(this.values[index], token, completion);
+            case REGEX:
+            case EAGER:
+                return true;
+            case FILLING:
+                return false;
+            case NUMERIC:
+                return this.numerics[index].isCompletable(token);
+            case ALTERNATION:
+                return complete(this.alternations[index].getAlternatives(), token, completion);
+            default:
+                ISyntax syntax = this.syntaxes[index];
+
+                if (!syntax.isCompletable(token)) {
+                    return false;
+                }
+                completion.addAll(syntax.complete(token));
+                return true;
+        }
+    }
+
+    /**
+     * Same as {@link #complete(int, String, Collection)}, but using the token at the provided position of
+     * {@link FoldedTokens}. Literals and possible values are compared to the key of the token, and completed as
+     * declared.
+     *
+     * @param index      The index of the {@link ISyntax}.
+     * @param position   The index of the token in the user's input.
+     * @param tokens     The tokens of the user's input, with their keys.
+     * @param completion The collection receiving the completions.
+     *
+     * @return True if the token can be completed.
+     */
+    boolean complete(int index, int position, FoldedTokens tokens, Collection<String> completion) {
+
+        switch (this.kinds[index]) {
+            case WORD:
+                if (!this.keys[index].startsWith(tokens.key(position))) {
+                    return false;
+                }
+                completion.add(this.names[index]);
+                return true;
+            case SELECTIVE:
+            case ALTERNATION:
+                return this.options(index).complete(tokens.key(position), completion);
+            default:
+                return this.complete(index, tokens.get(position), completion);
+        }
+    }
+
+    /**
+     * Add every value starting with the provided token to the provided collection. An {@link IOptionSource} completes
+     * the token itself.
+     *
+     * @param values     The possible values.
+     * @param token      The token to complete.
+     * @param completion The collection receiving the completions.
+     *
+     * @return True if at least one value starts with the token.
+     */
+    private static boolean complete(List<String> values, String token, Collection<String> completion) {
+
+        if (values instanceof IOptionSource) {
+            return ((IOptionSource) values).complete(token, completion);
+        }
+
+        boolean completable = false;
+
+        for (String value : values) {
+            if (value.startsWith(token)) {
+                completion.add(value);
+                completable = true;
+            }
+        }
+        return completable;
+    }
+
+    /**
+     * The possible values of a {@link SelectiveSyntax} or {@link AlternationSyntax}, along with their case-folded and
+     * NFC-normalized keys. Keys of an {@link IOptionSource} are sorted along with their values, so that they can be
+     * looked up and completed without going through every value.
+     */
+    static final class FoldedOptions {
+
+        private final           String[]    values;
+        private final           String[]    keys;
+        private final @Nullable Set<String> lookup;
+
+        private FoldedOptions(List<String> values) {
+
+            String[] folded = new String[values.size()];
+            String[] keys   = new String[folded.length];
+            int      i      = 0;
+
+            for (String value : values) {
+                folded[i] = value;
+                keys[i]   = FoldedTokens.fold(value);
+                i++;
+            }
+
+            if (values instanceof IOptionSource) {
+                // Sorted by key, so that the original values are found back with a binary search.
+                Integer[] order = new Integer[keys.length];
+                Arrays.setAll(order, index -> index);
+                Arrays.sort(order, Comparator.comparing(index -> keys[index]));
+
+                this.values = new String[order.length];
+                this.keys   = new String[order.length];
+                this.lookup = null;
+
+                for (int j = 0; j < order.length; j++) {
+                    this.values[j] = folded[order[j]];
+                    this.keys[j]   = keys[order[j]];
+                }
+            } else {
+                this.values = folded;
+                this.keys   = keys;
+                this.lookup = Set.of(Arrays.stream(keys).distinct().toArray(String[]::new));
+            }
+        }
+
+        private boolean contains(String key) {
+
+            return this.lookup == null ? Arrays.binarySearch(this.keys, key) >= 0 : this.lookup.contains(key);
+        }
+
+        private boolean complete(String key, Collection<String> completion) {
+
+            boolean completable = false;
+
+            if (this.lookup == null) {
+                int position = Arrays.binarySearch(this.keys, key);
+                position = position < 0 ? -position - 1 : position;
+
+                // Equal keys may precede the one found by the binary search.
+                while (position > 0 && this.keys[position - 1].startsWith(key)) {
+                    position--;
+                }
+
+                for (; position < this.keys.length && this.keys[position].startsWith(key); position++) {
+                    completion.add(this.values[position]);
+                    completable = true;
+                }
+                return completable;
+            }
+
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i].startsWith(key)) {
+                    completion.add(this.values[i]);
+                    completable = true;
+                }
+            }
+            return completable;
+        }
+
+    }
+
+}
@@ -0,0 +1,197 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Builder allowing to create the identifier map of a {@link SyntaxService} from a large amount of
+ * {@link SyntaxDefinition}s at once.
+ * <p>
+ * Definitions are parsed and compiled in parallel, in a single pass over the provided {@link Stream}. Identical
+ * {@link ISyntax}es (the same representation, and the same options for a selective argument) are created once and
+ * shared by every {@link ISyntaxContainer} using them, including across successive calls to {@link #build(Stream)}.
+ * Built-in {@link ISyntax}es only hold settings read while compiling, so sharing them is safe, even while matching.
+ * <p>
+ * Every definition is checked before failing: invalid representations, identifiers defined more than once and
+ * distinct identifiers sharing the exact same definition (which would make the matching result undefined) are all
+ * reported by the same {@link IllegalArgumentException}.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public class SyntaxRegistryBuilder<T> {
+
+    private final ConcurrentMap<SyntaxKey, ISyntax> syntaxes;
+    private       boolean                           parallel;
+
+    /**
+     * Create a new {@link SyntaxRegistryBuilder}.
+     */
+    public SyntaxRegistryBuilder() {
+
+        this.syntaxes = new ConcurrentHashMap<>();
+        this.parallel = true;
+    }
+
+    /**
+     * Parse the definitions on the calling thread only. This is useful when the common pool is already busy, or when
+     * the amount of definitions is too low to benefit from parallelism.
+     *
+     * @return This {@link SyntaxRegistryBuilder}.
+     */
+    public @NotNull SyntaxRegistryBuilder<T> withSequentialParsing() {
+
+        this.parallel = false;
+        return this;
+    }
+
+    /**
+     * Parse and compile the provided {@link SyntaxDefinition}s into an identifier map.
+     *
+     * @param definitions The {@link SyntaxDefinition}s to compile.
+     *
+     * @return A map associating each identifier to its {@link ISyntaxContainer}, ready to be used by a
+     *         {@link SyntaxServiceBuilder}.
+     *
+     * @throws IllegalArgumentException Thrown if a definition is invalid, if an identifier is defined more than once
+     *                                  or if distinct identifiers have the same definition.
+     */
+    public @NotNull Map<T, ISyntaxContainer> build(@NotNull Stream<SyntaxDefinition<T>> definitions) {
+
+        ConcurrentMap<T, ISyntaxContainer> containers  = new ConcurrentHashMap<>();
+        ConcurrentMap<DefinitionKey, T>    identifiers = new ConcurrentHashMap<>();
+        Queue<String>                      failures    = new ConcurrentLinkedQueue<>();
+
+        Stream<SyntaxDefinition<T>> stream = this.parallel ? definitions.parallel() : definitions.sequential();
+
+        stream.forEach(definition -> {
+            T                identifier = definition.getIdentifier();
+            ISyntaxContainer container;
+
+            try {
+                container = SyntaxUtils.toContainer(definition.getRepresentation(), definition.getOrder(), value -> this.intern(definition.getOptions(), value));
+            } catch (IllegalArgumentException e) {
+                failures.add(String.format("%s: %s", identifier, e.getMessage()));
+                return;
+            }
+
+            if (containers.putIfAbsent(identifier, container) != null) {
+                failures.add(String.format("%s: Defined more than once", identifier));
+                return;
+            }
+
+            T other = identifiers.putIfAbsent(new DefinitionKey(definition), identifier);
+
+            if (other != null) {
+                failures.add(String.format("%s: Same definition as %s", identifier, other));
+            }
+        });
+
+        if (!failures.isEmpty()) {
+            List<String> sorted = new ArrayList<>(failures);
+            Collections.sort(sorted);
+            throw new IllegalArgumentException("Invalid definitions: " + String.join(", ", sorted));
+        }
+
+        return containers;
+    }
+
+    /**
+     * Retrieve the amount of distinct {@link ISyntax}es created by this {@link SyntaxRegistryBuilder} so far.
+     *
+     * @return The amount of shared {@link ISyntax}es.
+     */
+    public int getSyntaxCount() {
+
+        return this.syntaxes.size();
+    }
+
+    private ISyntax intern(Map<String, List<String>> options, String value) {
+
+        List<String> values = null;
+
+        if (SyntaxService.isEncapsulated(value, "{", "}")) {
+            values = options.getOrDefault(SyntaxService.getName(value, "{", "}"), Collections.emptyList());
+        }
+
+        return this.syntaxes.computeIfAbsent(new SyntaxKey(value, values), key -> SyntaxUtils.toSyntax(options, value));
+    }
+
+    /**
+     * Key of a shared {@link ISyntax}. Options are compared by identity, as comparing their content would cost more
+     * than the {@link ISyntax} itself.
+     */
+    private static final class SyntaxKey {
+
+        private final           String       value;
+        private final @Nullable List<String> options;
+
+        private SyntaxKey(String value, @Nullable List<String> options) {
+
+            this.value   = value;
+            this.options = options;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+
+            if (!(other instanceof SyntaxKey)) {
+                return false;
+            }
+
+            SyntaxKey key = (SyntaxKey) other;
+            return this.value.equals(key.value) && this.options == key.options;
+        }
+
+        @Override
+        public int hashCode() {
+
+            return 31 * this.value.hashCode() + System.identityHashCode(this.options);
+        }
+
+    }
+
+    /**
+     * Key of a {@link SyntaxDefinition}, ignoring its identifier. Options are compared by identity.
+     */
+    private static final class DefinitionKey {
+
+        private final String                    representation;
+        private final int                       order;
+        private final Map<String, List<String>> options;
+
+        private DefinitionKey(SyntaxDefinition<?> definition) {
+
+            this.representation = definition.getRepresentation();
+            this.order          = definition.getOrder();
+            this.options        = definition.getOptions();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+
+            if (!(other instanceof DefinitionKey)) {
+                return false;
+            }
+
+            DefinitionKey key = (DefinitionKey) other;
+            return this.order == key.order && this.representation.equals(key.representation) && this.options == key.options;
+        }
+
+        @Override
+        public int hashCode() {
+
+            return 31 * (31 * this.representation.hashCode() + this.order) + System.identityHashCode(this.options);
+        }
+
+    }
+
+}
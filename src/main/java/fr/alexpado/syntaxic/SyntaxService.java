@@ -1,14 +1,29 @@
 package fr.alexpado.syntaxic;
 
+import fr.alexpado.syntaxic.events.CompletionEvent;
+import fr.alexpado.syntaxic.events.MatchEvent;
+import fr.alexpado.syntaxic.events.TokenizeEvent;
+import fr.alexpado.syntaxic.interfaces.IMatchingReport;
 import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.IMatchingSequence;
 import fr.alexpado.syntaxic.interfaces.ISyntax;
 import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxMetrics;
 import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import fr.alexpado.syntaxic.metrics.SlowInput;
+import fr.alexpado.syntaxic.metrics.SlowInputLog;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Main class of interest within the Syntaxic library.
@@ -20,8 +35,19 @@ import java.util.stream.Collectors;
  */
 public class SyntaxService<T> implements ISyntaxService<T> {
 
-    private static final Pattern                  MULTIPLE_SPACES = Pattern.compile(" +");
-    private final        Map<T, ISyntaxContainer> identifierMap;
+    /**
+     * The amount of commands from which {@link #getMatchingSequence(String, String)} matches them in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 16;
+
+    private static final    Pattern                                 MULTIPLE_SPACES = Pattern.compile(" +");
+    private final           Map<T, ISyntaxContainer>                identifierMap;
+    private final           ISyntaxMetrics<T>                       metrics;
+    private final @Nullable SlowInputLog<T>                         slowInputLog;
+    private final @Nullable OrderedIndex<T>                         orderedIndex;
+    private final @Nullable OverlayMap<T>                           overlay;
+    private final @Nullable Map<ISyntaxContainer, GeneratedMatcher> generatedMatchers;
+    private final           boolean                                 normalizing;
 
     /**
      * Create a new instance of this {@link ISyntaxService} implementation.
@@ -30,7 +56,115 @@ public class SyntaxService<T> implements ISyntaxService<T> {
      */
     public SyntaxService(Map<T, ISyntaxContainer> identifierMap) {
 
-        this.identifierMap = identifierMap;
+        this(identifierMap, ISyntaxMetrics.noop());
+    }
+
+    /**
+     * Create a new instance of this {@link ISyntaxService} implementation reporting to the provided
+     * {@link ISyntaxMetrics}.
+     *
+     * @param identifierMap A map associating the identifier to its {@link ISyntaxContainer}.
+     * @param metrics       The {@link ISyntaxMetrics} to which every matching and completion will be reported.
+     */
+    public SyntaxService(Map<T, ISyntaxContainer> identifierMap, ISyntaxMetrics<T> metrics) {
+
+        this(identifierMap, metrics, null);
+    }
+
+    /**
+     * Create a new instance of this {@link ISyntaxService} implementation reporting to the provided
+     * {@link ISyntaxMetrics} and keeping user's inputs slower than the {@link SlowInputLog} threshold.
+     *
+     * @param identifierMap A map associating the identifier to its {@link ISyntaxContainer}.
+     * @param metrics       The {@link ISyntaxMetrics} to which every matching and completion will be reported.
+     * @param slowInputLog  The {@link SlowInputLog} in which slow user's inputs will be explained, may be null.
+     */
+    public SyntaxService(Map<T, ISyntaxContainer> identifierMap, ISyntaxMetrics<T> metrics, @Nullable SlowInputLog<T> slowInputLog) {
+
+        this(new SyntaxServiceBuilder<>(identifierMap).withMetrics(metrics).withSlowInputLog(slowInputLog));
+    }
+
+    /**
+     * Create a new instance of this {@link ISyntaxService} implementation using the settings of the provided
+     * {@link SyntaxServiceBuilder}.
+     *
+     * @param builder The {@link SyntaxServiceBuilder} holding the settings.
+     */
+    protected SyntaxService(SyntaxServiceBuilder<T> builder) {
+
+        this.identifierMap     = builder.getIdentifierMap();
+        this.metrics           = builder.getMetrics();
+        this.slowInputLog      = builder.getSlowInputLog();
+        this.orderedIndex      = builder.isOrdering() ? new OrderedIndex<>(this.identifierMap) : null;
+        this.overlay           = null;
+        this.normalizing       = builder.isNormalizing();
+        this.generatedMatchers = builder.isGeneratingMatchers() && !this.normalizing
+                ? generateMatchers(this.identifierMap.values())
+                : null;
+
+        if (this.normalizing) {
+            fold(this.identifierMap.values());
+        }
+    }
+
+    /**
+     * Create a new instance of this {@link ISyntaxService} implementation matching the provided {@link OverlayMap} with
+     * the settings of the provided {@link SyntaxService}. The generated matchers and the {@link OrderedIndex} of the
+     * provided {@link SyntaxService} are shared: the additions of the {@link OverlayMap} are evaluated first, then the
+     * entries of the {@link OrderedIndex} that are neither removed nor replaced.
+     *
+     * @param base    The {@link SyntaxService} whose settings are used.
+     * @param overlay The {@link OverlayMap} layering identifiers over the identifier map of the base.
+     */
+    SyntaxService(SyntaxService<T> base, OverlayMap<T> overlay) {
+
+        this.identifierMap     = overlay;
+        this.metrics           = base.metrics;
+        this.slowInputLog      = base.slowInputLog;
+        this.orderedIndex      = base.orderedIndex;
+        this.overlay           = overlay;
+        this.generatedMatchers = base.generatedMatchers;
+        this.normalizing       = base.normalizing;
+    }
+
+    /**
+     * Fold the possible values of each one of the provided {@link ISyntaxContainer} supporting it, so that they aren't
+     * folded while matching. Lists of possible values used by several containers are folded only once.
+     *
+     * @param containers The {@link ISyntaxContainer}s to fold.
+     */
+    private static void fold(Collection<ISyntaxContainer> containers) {
+
+        Map<List<String>, SyntaxProgram.FoldedOptions> folded = new IdentityHashMap<>();
+
+        for (ISyntaxContainer container : containers) {
+            //noinspection InstanceofConcreteClass
+            if (container instanceof SyntaxContainer) {
+                ((SyntaxContainer) container).getProgram().fold(folded);
+            }
+        }
+    }
+
+    /**
+     * Generate a {@link GeneratedMatcher} for each one of the provided {@link ISyntaxContainer} supporting it.
+     *
+     * @param containers The {@link ISyntaxContainer}s for which matchers will be generated.
+     *
+     * @return A map associating each {@link ISyntaxContainer} instance to its {@link GeneratedMatcher}.
+     */
+    private static Map<ISyntaxContainer, GeneratedMatcher> generateMatchers(Collection<ISyntaxContainer> containers) {
+
+        Map<ISyntaxContainer, GeneratedMatcher> matchers = new IdentityHashMap<>();
+
+        for (ISyntaxContainer container : containers) {
+            GeneratedMatcher matcher = GeneratedMatcher.generate(container);
+
+            if (matcher != null) {
+                matchers.put(container, matcher);
+            }
+        }
+
+        return matchers;
     }
 
     /**
@@ -68,20 +202,67 @@ public class SyntaxService<T> implements ISyntaxService<T> {
 
     /**
      * Prepare the given user's input for matching or completion handling.
+     * <p>
+     * When the normalization is enabled, the returned list also holds the folded tokens, which are used when passing
+     * it to an {@link ISyntaxContainer}. Its content is the text typed by the user.
      *
      * @param data The user's input to prepare
      *
      * @return A {@link List} of strings containing the sanitized user's input
+     *
+     * @see SyntaxServiceBuilder#withNormalization()
      */
     @Override
     public @NotNull List<String> prepareUserData(@NotNull String data) {
 
-        List<String> input = new ArrayList<>(Arrays.asList(MULTIPLE_SPACES.matcher(data.trim())
-                .replaceAll(" ")
-                .split(" ")));
+        TokenizeEvent event = new TokenizeEvent();
+        event.begin();
+
+        List<String> input = this.normalizing ? FoldedTokens.of(data) : split(data);
+
+        if (event.shouldCommit()) {
+            event.inputLength = data.length();
+            event.tokenCount  = input.size();
+            event.commit();
+        }
+
+        return input;
+    }
+
+    /**
+     * Split the given user's input on spaces, ignoring leading and trailing whitespaces, and add an empty token if it
+     * ends with a space.
+     * <p>
+     * Each character is projected to a single ISO-8859-1 byte, in which only spaces are encoded as spaces, so that
+     * spaces can be located by a {@link SpaceScanner} and tokens extracted from the original string. Surrogate pairs
+     * are encoded as a single byte, so inputs containing them are split using a regular expression instead.
+     *
+     * @param data The user's input to split.
+     *
+     * @return A {@link List} of strings containing the sanitized user's input
+     */
+    private static List<String> split(String data) {
+
+        byte[] bytes = data.getBytes(StandardCharsets.ISO_8859_1);
+
+        if (bytes.length != data.length()) {
+            List<String> input = new ArrayList<>(Arrays.asList(MULTIPLE_SPACES.matcher(data.trim())
+                    .replaceAll(" ")
+                    .split(" ")));
+
+            if (data.endsWith(" ")) {
+                input.add("");
+            }
+
+            return input;
+        }
+
+        Utf8Tokens   tokens = Utf8Tokens.of(bytes);
+        List<String> input  = new ArrayList<>(tokens.size());
 
-        if (data.endsWith(" ")) {
-            input.add("");
+        for (int i = 0; i < tokens.size(); i++) {
+            int start = tokens.start(i);
+            input.add(data.substring(start, start + tokens.length(i)));
         }
 
         return input;
@@ -97,13 +278,62 @@ public class SyntaxService<T> implements ISyntaxService<T> {
     @Override
     public @NotNull List<String> complete(@NotNull String data) {
 
-        List<String> userData = this.prepareUserData(data);
+        CompletionEvent event = new CompletionEvent();
+        event.begin();
+
+        boolean timed = this.metrics.isEnabled() || this.slowInputLog != null;
+        long    start = timed ? System.nanoTime() : 0L;
+
+        LongAdder    regex      = event.isEnabled() ? new LongAdder() : null;
+        List<String> userData   = this.tokenize(data);
+        List<String> completion = this.complete(userData, regex);
+
+        if (timed) {
+            long elapsed = System.nanoTime() - start;
+            this.metrics.recordCompleteLatency(elapsed);
+            this.explainIfSlow(SlowInput.Operation.COMPLETE, data, elapsed);
+        }
+
+        if (event.shouldCommit()) {
+            event.tokenCount          = userData.size();
+            event.containersEvaluated = this.identifierMap.size();
+            event.regexEvaluations    = regex == null ? 0 : regex.intValue();
+            event.completionCount     = completion.size();
+            event.outcome             = completion.isEmpty() ? "EMPTY" : "COMPLETED";
+            event.commit();
+        }
+
+        return completion;
+    }
 
+    /**
+     * Retrieve a {@link List} of strings completing the prepared user's input.
+     *
+     * @param userData The prepared user's input to complete.
+     *
+     * @return A {@link List} of strings.
+     *
+     * @see DelegatingContainer#isCompletable(List)
+     */
+    List<String> complete(List<String> userData) {
+
+        return this.complete(userData, null);
+    }
+
+    /**
+     * Same as {@link #complete(List)}, but adding the amount of regex evaluations of each {@link ISyntaxContainer} to
+     * the provided counter.
+     *
+     * @param userData The prepared user's input to complete.
+     * @param regex    The counter of regex evaluations, may be null.
+     *
+     * @return A {@link List} of strings.
+     */
+    private List<String> complete(List<String> userData, @Nullable LongAdder regex) {
 
         return this.identifierMap.values()
                 .stream()
-                .filter(container -> container.isCompletable(userData))
-                .map(ISyntaxContainer::getCompletion)
+                .map(container -> completion(container, userData, regex))
                 .flatMap(List::stream)
                 .distinct()
                 .collect(Collectors.toList());
@@ -122,21 +352,433 @@ public class SyntaxService<T> implements ISyntaxService<T> {
     @Override
     public Optional<IMatchingResult<T>> getMatchingResult(@NotNull String data) {
 
-        List<String> userData = this.prepareUserData(data);
+        MatchEvent event = new MatchEvent();
+        event.begin();
 
-        List<T> identifiers = this.identifierMap.keySet()
-                .stream()
-                .filter(id -> this.identifierMap.get(id).isMatching(userData))
+        boolean timed = this.metrics.isEnabled() || this.slowInputLog != null;
+        long    start = timed ? System.nanoTime() : 0L;
+
+        LongAdder                    regex    = event.isEnabled() ? new LongAdder() : null;
+        List<String>                 userData = this.tokenize(data);
+        Optional<IMatchingResult<T>> result   = this.findMatchingResult(this.matcher(userData, regex), userData.size(), event, regex);
+
+        if (timed) {
+            long elapsed = System.nanoTime() - start;
+            this.metrics.recordMatchLatency(elapsed);
+            this.explainIfSlow(SlowInput.Operation.MATCH, data, elapsed);
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieve an {@link IMatchingReport} for the given user's input. It holds the same {@link IMatchingResult} as
+     * {@link #getMatchingResult(String)}, and when nothing matched, tells which identifiers accepted the most leading
+     * tokens, which token has been rejected and the values captured before it. This is collected while containers are
+     * evaluated, so the user's input is tokenized and evaluated only once.
+     * <p>
+     * As it has to evaluate every token that may be accepted, this method doesn't use generated matchers and is slower
+     * than {@link #getMatchingResult(String)} when nothing matches.
+     *
+     * @param data The user's input to match.
+     *
+     * @return An {@link IMatchingReport} for the given user's input.
+     */
+    public @NotNull IMatchingReport<T> getMatchingReport(@NotNull String data) {
+
+        boolean timed = this.metrics.isEnabled() || this.slowInputLog != null;
+        long    start = timed ? System.nanoTime() : 0L;
+
+        List<String>       userData = this.tokenize(data);
+        IMatchingReport<T> report   = this.getMatchingReport(userData);
+
+        if (timed) {
+            long elapsed = System.nanoTime() - start;
+            this.metrics.recordMatchLatency(elapsed);
+            this.explainIfSlow(SlowInput.Operation.MATCH, data, elapsed);
+        }
+
+        return report;
+    }
+
+    /**
+     * Retrieve an {@link IMatchingReport} for the given prepared user's input.
+     *
+     * @param userData The prepared user's input to match.
+     *
+     * @return An {@link IMatchingReport} for the given user's input.
+     *
+     * @see #getMatchingReport(String)
+     */
+    IMatchingReport<T> getMatchingReport(List<String> userData) {
+
+        MatchEvent event = new MatchEvent();
+        event.begin();
+
+        LongAdder                    regex     = event.isEnabled() ? new LongAdder() : null;
+        MatchingReport.Collector     collector = new MatchingReport.Collector();
+        Optional<IMatchingResult<T>> result    = this.findMatchingResult(
+                container -> explore(container, userData, collector, regex),
+                userData.size(),
+                event,
+                regex
+        );
+
+        if (result.isPresent()) {
+            return new MatchingReport<>(result.get(), false, -1, Collections.emptyMap());
+        }
+
+        return collector.report(this.identifierMap);
+    }
+
+    /**
+     * Retrieve an {@link IMatchingSequence} for the given message, holding several commands separated by the provided
+     * separator (ex: <code>cmd a; cmd b</code> with <code>;</code>, or one command per line with a line break). The
+     * whole message is tokenized in a single pass, and each command is then matched as if it was passed to
+     * {@link #getMatchingReport(String)}. Empty commands are ignored.
+     * <p>
+     * When the message holds at least {@link #PARALLEL_THRESHOLD} commands, they are matched in parallel on the common
+     * fork-join pool. Reports are always returned in the order of the message.
+     *
+     * @param data      The message to match.
+     * @param separator The string separating two commands. It can't contain spaces.
+     *
+     * @return An {@link IMatchingSequence} for the given message.
+     *
+     * @throws IllegalArgumentException Thrown if the separator is empty or contains a space.
+     */
+    public @NotNull IMatchingSequence<T> getMatchingSequence(@NotNull String data, @NotNull String separator) {
+
+        boolean timed = this.metrics.isEnabled();
+        long    start = timed ? System.nanoTime() : 0L;
+
+        CommandSequence sequence = new CommandSequence(data, separator, this.normalizing);
+
+        if (timed) {
+            this.metrics.recordTokenizeLatency(System.nanoTime() - start);
+        }
+
+        IntStream commands = IntStream.range(0, sequence.size());
+
+        if (sequence.size() >= PARALLEL_THRESHOLD) {
+            commands = commands.parallel();
+        }
+
+        List<IMatchingReport<T>> reports = commands
+                .mapToObj(command -> this.getMatchingReport(sequence.get(command)))
                 .collect(Collectors.toList());
 
-        if (identifiers.isEmpty()) {
+        if (timed) {
+            // Slow messages aren't explained, as the slow input log evaluates a single command.
+            this.metrics.recordMatchLatency(System.nanoTime() - start);
+        }
+
+        return new MatchingSequence<>(sequence, reports);
+    }
+
+    /**
+     * Retrieve an optional {@link IMatchingResult} for the given prepared user's input, such as the tokens following
+     * the prefix of a {@link DelegatingContainer}.
+     *
+     * @param userData The prepared user's input to match.
+     *
+     * @return An optional {@link IMatchingResult} for the given user's input.
+     */
+    Optional<IMatchingResult<T>> getMatchingResult(List<String> userData) {
+
+        MatchEvent event = new MatchEvent();
+        event.begin();
+
+        LongAdder regex = event.isEnabled() ? new LongAdder() : null;
+        return this.findMatchingResult(this.matcher(userData, regex), userData.size(), event, regex);
+    }
+
+    /**
+     * Retrieve an optional {@link IMatchingResult} for the given UTF-8 encoded user's input. The input is split without
+     * being decoded, and tokens are only decoded by {@link ISyntax} that need them. The array isn't retained: the
+     * result holds its own copy of the input, so the array can be reused as soon as this method returns.
+     *
+     * @param data The UTF-8 encoded user's input to match.
+     *
+     * @return An optional {@link IMatchingResult} for the given user's input.
+     *
+     * @see #getMatchingResult(String)
+     */
+    @Override
+    public Optional<IMatchingResult<T>> getMatchingResult(byte @NotNull [] data) {
+
+        return this.getMatchingResult(data, 0, data.length);
+    }
+
+    /**
+     * Retrieve an optional {@link IMatchingResult} for the given range of a UTF-8 encoded user's input.
+     *
+     * @param data   The UTF-8 encoded user's input to match.
+     * @param offset The index of the first byte of the input.
+     * @param length The amount of bytes of the input.
+     *
+     * @return An optional {@link IMatchingResult} for the given user's input.
+     *
+     * @see #getMatchingResult(byte[])
+     */
+    public Optional<IMatchingResult<T>> getMatchingResult(byte @NotNull [] data, int offset, int length) {
+
+        if (this.normalizing) {
+            // Folding needs the decoded characters.
+            return this.getMatchingResult(new String(data, offset, length, StandardCharsets.UTF_8));
+        }
+
+        MatchEvent event = new MatchEvent();
+        event.begin();
+
+        boolean timed = this.metrics.isEnabled() || this.slowInputLog != null;
+        long    start = timed ? System.nanoTime() : 0L;
+
+        LongAdder                    regex  = event.isEnabled() ? new LongAdder() : null;
+        Utf8Tokens                   tokens = Utf8Tokens.of(data, offset, length);
+        Optional<IMatchingResult<T>> result = this.findMatchingResult(container -> match(container, tokens, regex), tokens.size(), event, regex);
+
+        if (timed) {
+            long elapsed = System.nanoTime() - start;
+            this.metrics.recordMatchLatency(elapsed);
+
+            if (this.slowInputLog != null && this.slowInputLog.isSlow(elapsed)) {
+                String input = new String(data, offset, length, StandardCharsets.UTF_8);
+                this.explainIfSlow(SlowInput.Operation.MATCH, input, elapsed);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieve an optional {@link IMatchingResult} for the remaining bytes of the provided {@link ByteBuffer}
+     * containing a UTF-8 encoded user's input. The position of the buffer is not modified.
+     *
+     * @param data The {@link ByteBuffer} containing the UTF-8 encoded user's input to match.
+     *
+     * @return An optional {@link IMatchingResult} for the given user's input.
+     *
+     * @see #getMatchingResult(byte[])
+     */
+    @Override
+    public Optional<IMatchingResult<T>> getMatchingResult(@NotNull ByteBuffer data) {
+
+        if (data.hasArray()) {
+            return this.getMatchingResult(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        }
+
+        byte[] copy = new byte[data.remaining()];
+        data.duplicate().get(copy);
+        return this.getMatchingResult(copy);
+    }
+
+    /**
+     * Prepare the given user's input using {@link #prepareUserData(String)}, reporting the time spent to the
+     * {@link ISyntaxMetrics}.
+     *
+     * @param data The user's input to prepare
+     *
+     * @return A {@link List} of strings containing the sanitized user's input
+     */
+    List<String> tokenize(String data) {
+
+        if (!this.metrics.isEnabled()) {
+            return this.prepareUserData(data);
+        }
+
+        long         start    = System.nanoTime();
+        List<String> userData = this.prepareUserData(data);
+        this.metrics.recordTokenizeLatency(System.nanoTime() - start);
+        return userData;
+    }
+
+    /**
+     * Retrieve an optional {@link IMatchingResult} for the given prepared user's input using the {@link OrderedIndex}.
+     * As containers are sorted by order, the evaluation stops as soon as the remaining containers can neither win nor
+     * make the result ambiguous, which always gives the same result as evaluating every container.
+     * <p>
+     * When matching an {@link OverlayMap}, its additions are evaluated first, then the entries of the index that are
+     * neither removed nor replaced.
+     *
+     * @param index      The {@link OrderedIndex} to use.
+     * @param matcher    The function evaluating a container, returning its parameters or null.
+     * @param tokenCount The amount of tokens of the prepared user's input.
+     * @param event      The {@link MatchEvent} to fill and commit if enabled.
+     * @param regex      The counter of regex evaluations filled by the matcher, may be null.
+     *
+     * @return An optional {@link IMatchingResult} for the given user's input.
+     */
+    private Optional<IMatchingResult<T>> findIndexedMatchingResult(OrderedIndex<T> index, Function<ISyntaxContainer, Parameters> matcher, int tokenCount, MatchEvent event, @Nullable LongAdder regex) {
+
+        int                     evaluated   = 0;
+        int                     matched     = 0;
+        boolean                 ambiguous   = false;
+        OrderedIndex.Entry<T>   best        = null;
+        Parameters              bestMatches = null;
+        OrderedIndex.Entry<T>[] entries     = index.entries();
+
+        if (this.overlay != null) {
+            // Additions aren't sorted, so each one of them is evaluated.
+            for (Map.Entry<T, ISyntaxContainer> addition : this.overlay.getAdditions().entrySet()) {
+                evaluated++;
+                Parameters matches = matcher.apply(addition.getValue());
+
+                if (matches != null) {
+                    matched++;
+                    int order = addition.getValue().getOrder();
+
+                    if (best == null || order < best.order) {
+                        best        = new OrderedIndex.Entry<>(addition.getKey(), addition.getValue());
+                        bestMatches = matches;
+                        ambiguous   = false;
+                    } else if (order == best.order) {
+                        ambiguous = true;
+                    }
+                }
+            }
+        }
+
+        for (OrderedIndex.Entry<T> entry : entries) {
+            if (best != null && (entry.order > best.order || ambiguous && entry.order == best.order)) {
+                break;
+            }
+
+            if (this.overlay != null && this.overlay.isHidden(entry.identifier)) {
+                continue;
+            }
+
+            evaluated++;
+            Parameters matches = matcher.apply(entry.container);
+
+            if (matches != null) {
+                matched++;
+
+                if (best != null && entry.order == best.order) {
+                    ambiguous = true;
+                    break;
+                }
+                // Sorted by order, so this one has an order lower than the best addition, if any.
+                best        = entry;
+                bestMatches = matches;
+                ambiguous   = false;
+            }
+        }
+
+        this.metrics.onRejected(evaluated - matched);
+
+        if (regex != null) {
+            event.tokenCount          = tokenCount;
+            event.containersEvaluated = evaluated;
+            event.regexEvaluations    = regex.intValue();
+        }
+
+        if (best == null) {
+            this.metrics.onMiss();
+            commit(event, "MISS", null);
+            return Optional.empty();
+        }
+
+        if (ambiguous) {
+            this.metrics.onAmbiguous();
+            commit(event, "AMBIGUOUS", null);
+            return Optional.empty();
+        }
+
+        this.metrics.onHit(best.identifier);
+        commit(event, "HIT", best.identifier);
+        return Optional.of(this.createResult(best.identifier, bestMatches));
+    }
+
+    /**
+     * Record the provided user's input into the {@link SlowInputLog} if the time spent crossed its threshold. The input
+     * is evaluated a second time to measure the time spent in each {@link ISyntaxContainer} and {@link ISyntax}.
+     *
+     * @param operation The operation that has been done on the user's input.
+     * @param data      The raw user's input.
+     * @param elapsed   The time spent by the operation, in nanoseconds.
+     */
+    private void explainIfSlow(SlowInput.Operation operation, String data, long elapsed) {
+
+        if (this.slowInputLog == null || !this.slowInputLog.isSlow(elapsed)) {
+            return;
+        }
+
+        List<String>             userData       = this.prepareUserData(data);
+        Map<T, Long>             containerNanos = new HashMap<>();
+        Map<String, Long>        syntaxNanos    = new HashMap<>();
+        ObjLongConsumer<ISyntax> timings        = (syntax, nanos) -> syntaxNanos.merge(SyntaxProgram.kindName(SyntaxProgram.kindOf(syntax)), nanos, Long::sum);
+
+        for (Map.Entry<T, ISyntaxContainer> entry : this.identifierMap.entrySet()) {
+            ISyntaxContainer container = entry.getValue();
+
+            synchronized (container) {
+                long start = System.nanoTime();
+
+                if (operation == SlowInput.Operation.MATCH) {
+                    container.isMatching(userData, timings);
+                } else {
+                    container.isCompletable(userData, timings);
+                }
+
+                containerNanos.put(entry.getKey(), System.nanoTime() - start);
+            }
+        }
+
+        this.slowInputLog.record(operation, data, elapsed, containerNanos, syntaxNanos);
+    }
+
+    /**
+     * Retrieve an optional {@link IMatchingResult} for the given prepared user's input.
+     *
+     * @param matcher    The function evaluating a container, returning its parameters or null.
+     * @param tokenCount The amount of tokens of the prepared user's input.
+     * @param event      The {@link MatchEvent} to fill and commit if enabled.
+     * @param regex      The counter of regex evaluations filled by the matcher, null if the event isn't enabled.
+     *
+     * @return An optional {@link IMatchingResult} for the given user's input.
+     */
+    private Optional<IMatchingResult<T>> findMatchingResult(Function<ISyntaxContainer, Parameters> matcher, int tokenCount, MatchEvent event, @Nullable LongAdder regex) {
+
+        if (this.orderedIndex != null) {
+            return this.findIndexedMatchingResult(this.orderedIndex, matcher, tokenCount, event, regex);
+        }
+
+        Map<T, Parameters> matched  = new HashMap<>();
+        int                rejected = 0;
+
+        for (Map.Entry<T, ISyntaxContainer> entry : this.identifierMap.entrySet()) {
+            ISyntaxContainer container = entry.getValue();
+            Parameters       matches   = matcher.apply(container);
+
+            if (matches != null) {
+                matched.put(entry.getKey(), matches);
+            } else {
+                rejected++;
+            }
+        }
+
+        this.metrics.onRejected(rejected);
+
+        if (regex != null) {
+            event.tokenCount          = tokenCount;
+            event.containersEvaluated = this.identifierMap.size();
+            event.regexEvaluations    = regex.intValue();
+        }
+
+        if (matched.isEmpty()) {
+            this.metrics.onMiss();
+            commit(event, "MISS", null);
             return Optional.empty();
         }
 
+        List<T> identifiers = new ArrayList<>(matched.keySet());
+
         if (identifiers.size() == 1) {
-            T                identifier = identifiers.get(0);
-            ISyntaxContainer container  = this.identifierMap.get(identifier);
-            return Optional.of(this.createResult(identifier, container));
+            T identifier = identifiers.get(0);
+            this.metrics.onHit(identifier);
+            commit(event, "HIT", identifier);
+            return Optional.of(this.createResult(identifier, matched.get(identifier)));
         }
 
         identifiers.sort(Comparator.comparing(this.identifierMap::get));
@@ -150,50 +792,255 @@ public class SyntaxService<T> implements ISyntaxService<T> {
 
         if (firstContainer.getOrder() == secondContainer.getOrder()) {
             // Multiple matches of the same order occurred.
+            this.metrics.onAmbiguous();
+            commit(event, "AMBIGUOUS", null);
             return Optional.empty();
         }
 
-        return Optional.of(this.createResult(firstIdentifier, firstContainer));
+        this.metrics.onHit(firstIdentifier);
+        commit(event, "HIT", firstIdentifier);
+        return Optional.of(this.createResult(firstIdentifier, matched.get(firstIdentifier)));
     }
 
     /**
-     * Create a {@link IMatchingResult} for the provided {@link T} and {@link ISyntaxContainer}.
+     * Check if the provided {@link ISyntaxContainer} matches the prepared user's input.
+     * <p>
+     * {@link ISyntaxContainer} keep the state of their last evaluation, so the evaluation and the read of its matches
+     * are done while holding the container's monitor, allowing the same {@link ISyntaxService} to be used from multiple
+     * threads.
      *
-     * @param identifier The identifier for which this {@link IMatchingResult} should be created.
-     * @param container  The {@link ISyntaxContainer} containing the data about the matching.
+     * @param container The {@link ISyntaxContainer} to evaluate.
+     * @param userData  The prepared user's input to match.
+     * @param regex     The counter receiving the amount of regex evaluations, may be null.
+     *
+     * @return A copy of the {@link Parameters} if the {@link ISyntaxContainer} matched, null otherwise.
+     */
+    private static @Nullable Parameters match(ISyntaxContainer container, List<String> userData, @Nullable LongAdder regex) {
+
+        synchronized (container) {
+            boolean matching = container.isMatching(userData);
+            count(container, regex);
+            return matching ? parameters(container) : null;
+        }
+    }
+
+    /**
+     * Add the amount of regex evaluations done by the last evaluation of the provided {@link ISyntaxContainer} to the
+     * provided counter. The caller must hold the container's monitor, as another evaluation would replace it.
+     *
+     * @param container The {@link ISyntaxContainer} that has been evaluated.
+     * @param regex     The counter receiving the amount of regex evaluations, may be null.
+     */
+    private static void count(ISyntaxContainer container, @Nullable LongAdder regex) {
+
+        if (regex != null) {
+            regex.add(container.getRegexEvaluations());
+        }
+    }
+
+    /**
+     * Same as {@link #match(ISyntaxContainer, List, LongAdder)}, but reporting to the provided collector how far the
+     * prepared user's input went in the {@link ISyntaxContainer}.
+     *
+     * @param container The {@link ISyntaxContainer} to evaluate.
+     * @param userData  The prepared user's input to match.
+     * @param collector The collector of the containers that accepted the most leading tokens.
+     * @param regex     The counter receiving the amount of regex evaluations, may be null.
      *
-     * @return An anonymous {@link IMatchingResult} instance.
+     * @return A copy of the {@link Parameters} if the {@link ISyntaxContainer} matched, null otherwise.
      */
-    private IMatchingResult<T> createResult(T identifier, ISyntaxContainer container) {
+    private static @Nullable Parameters explore(ISyntaxContainer container, List<String> userData, MatchingReport.Collector collector, @Nullable LongAdder regex) {
 
-        return new IMatchingResult<>() {
+        synchronized (container) {
+            boolean matching;
 
-            /**
-             * Retrieve the completion identifier {@link T} of this {@link IMatchingResult}.
-             *
-             * @return A completion identifier {@link T}.
-             */
-            @Override
-            public @NotNull T getIdentifier() {
+            //noinspection InstanceofConcreteClass
+            if (container instanceof SyntaxContainer) {
+                SyntaxContainer syntaxContainer = (SyntaxContainer) container;
+                matching = syntaxContainer.explore(userData);
 
-                return identifier;
+                if (!matching) {
+                    collector.reached(container, syntaxContainer.getReached(), syntaxContainer.getParameters());
+                }
+            } else if (container instanceof DelegatingContainer) {
+                matching = ((DelegatingContainer<?>) container).explore(userData, collector);
+            } else {
+                matching = container.isMatching(userData);
             }
 
-            /**
-             * Retrieve the completion argument matching the provided name.
-             *
-             * @param name
-             *         The argument name.
-             *
-             * @return An optional value of the argument.
-             *
-             * @see ISyntax#getName()
-             */
-            @Override
-            public @NotNull Optional<String> getParameter(@NotNull String name) {
-
-                return Optional.ofNullable(container.getMatches().get(name));
+            count(container, regex);
+
+            if (!matching) {
+                return null;
             }
+
+            Parameters parameters = parameters(container);
+            collector.matched(container, userData.size(), parameters);
+            return parameters;
+        }
+    }
+
+    /**
+     * Retrieve a copy of the {@link Parameters} matched by the provided {@link ISyntaxContainer} during its last
+     * evaluation. The caller must hold the container's monitor.
+     *
+     * @param container The {@link ISyntaxContainer} that matched.
+     *
+     * @return A copy of the {@link Parameters}.
+     */
+    private static Parameters parameters(ISyntaxContainer container) {
+
+        //noinspection InstanceofConcreteClass
+        if (container instanceof SyntaxContainer) {
+            return ((SyntaxContainer) container).getParameters().copy();
+        }
+
+        //noinspection InstanceofConcreteClass
+        if (container instanceof DelegatingContainer) {
+            return ((DelegatingContainer<?>) container).getParameters();
+        }
+
+        return Parameters.of(new HashMap<>(container.getMatches()));
+    }
+
+    /**
+     * Create the function evaluating each {@link ISyntaxContainer} against the prepared user's input, using their
+     * {@link GeneratedMatcher} when available.
+     *
+     * @param userData The prepared user's input to match.
+     * @param regex    The counter receiving the amount of regex evaluations, may be null.
+     *
+     * @return The function returning the {@link Parameters} of a {@link ISyntaxContainer}, or null if it didn't match.
+     */
+    private Function<ISyntaxContainer, Parameters> matcher(List<String> userData, @Nullable LongAdder regex) {
+
+        Map<ISyntaxContainer, GeneratedMatcher> matchers = this.generatedMatchers;
+
+        if (matchers == null) {
+            return container -> match(container, userData, regex);
+        }
+
+        String[] tokens = userData.toArray(new String[0]);
+
+        return container -> {
+            GeneratedMatcher matcher = matchers.get(container);
+            return matcher == null ? match(container, userData, regex) : matcher.match(userData, tokens, regex);
         };
     }
+
+    /**
+     * Check if the provided {@link ISyntaxContainer} matches the UTF-8 encoded user's input.
+     *
+     * @param container The {@link ISyntaxContainer} to evaluate.
+     * @param tokens    The UTF-8 encoded user's input to match.
+     * @param regex     The counter receiving the amount of regex evaluations, may be null.
+     *
+     * @return A copy of the {@link Parameters} if the {@link ISyntaxContainer} matched, null otherwise.
+     *
+     * @see #match(ISyntaxContainer, List, LongAdder)
+     */
+    private static @Nullable Parameters match(ISyntaxContainer container, Utf8Tokens tokens, @Nullable LongAdder regex) {
+
+        synchronized (container) {
+            boolean matching = container.isMatching(tokens);
+            count(container, regex);
+            return matching ? parameters(container) : null;
+        }
+    }
+
+    /**
+     * Retrieve the completion of the prepared user's input provided by the {@link ISyntaxContainer}.
+     *
+     * @param container The {@link ISyntaxContainer} to evaluate.
+     * @param userData  The prepared user's input to complete.
+     *
+     * @return A copy of the completion if the {@link ISyntaxContainer} can complete the input, an empty list otherwise.
+     *
+     * @see #match(ISyntaxContainer, List, LongAdder)
+     */
+    static List<String> completion(ISyntaxContainer container, List<String> userData) {
+
+        return completion(container, userData, null);
+    }
+
+    /**
+     * Same as {@link #completion(ISyntaxContainer, List)}, but adding the amount of regex evaluations to the provided
+     * counter.
+     *
+     * @param container The {@link ISyntaxContainer} to evaluate.
+     * @param userData  The prepared user's input to complete.
+     * @param regex     The counter receiving the amount of regex evaluations, may be null.
+     *
+     * @return A copy of the completion if the {@link ISyntaxContainer} can complete the input, an empty list otherwise.
+     */
+    static List<String> completion(ISyntaxContainer container, List<String> userData, @Nullable LongAdder regex) {
+
+        synchronized (container) {
+            boolean completable = container.isCompletable(userData);
+            count(container, regex);
+            return completable ? new ArrayList<>(container.getCompletion()) : Collections.emptyList();
+        }
+    }
+
+    /**
+     * Retrieve the map associating each identifier of this {@link SyntaxService} to its {@link ISyntaxContainer}.
+     *
+     * @return The identifier map.
+     */
+    Map<T, ISyntaxContainer> getIdentifierMap() {
+
+        return this.identifierMap;
+    }
+
+    /**
+     * Retrieve every {@link ISyntaxContainer} of this {@link SyntaxService}.
+     *
+     * @return A {@link Collection} of {@link ISyntaxContainer}.
+     */
+    Collection<ISyntaxContainer> getContainers() {
+
+        return this.identifierMap.values();
+    }
+
+    /**
+     * Retrieve the {@link ISyntaxMetrics} of this {@link SyntaxService}.
+     *
+     * @return An {@link ISyntaxMetrics}.
+     */
+    ISyntaxMetrics<T> getMetrics() {
+
+        return this.metrics;
+    }
+
+    /**
+     * Commit the provided {@link MatchEvent} with the given outcome if it should be recorded.
+     *
+     * @param event      The {@link MatchEvent} to commit.
+     * @param outcome    The outcome of the matching.
+     * @param identifier The identifier returned, if any.
+     */
+    private static void commit(MatchEvent event, String outcome, Object identifier) {
+
+        if (event.shouldCommit()) {
+            event.outcome    = outcome;
+            event.identifier = identifier == null ? null : String.valueOf(identifier);
+            event.commit();
+        }
+    }
+
+    /**
+     * Create a {@link IMatchingResult} for the provided {@link T} and {@link Parameters}. If the {@link Parameters} come
+     * from a {@link DelegatingContainer}, the identifier found by its nested {@link SyntaxService} is used instead.
+     *
+     * @param identifier The identifier for which this {@link IMatchingResult} should be created.
+     * @param parameters The {@link Parameters} of the {@link ISyntaxContainer} associated to the identifier.
+     *
+     * @return A {@link MatchingResult} instance.
+     */
+    @SuppressWarnings("unchecked")
+    private IMatchingResult<T> createResult(T identifier, Parameters parameters) {
+
+        Object nested = parameters.getIdentifier();
+        return new MatchingResult<>(nested == null ? identifier : (T) nested, parameters);
+    }
 }
@@ -0,0 +1,165 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IOptionSource;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxMetrics;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import fr.alexpado.syntaxic.metrics.SlowInputLog;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Builder allowing to create a {@link SyntaxService} with optional features enabled.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public class SyntaxServiceBuilder<T> {
+
+    private final     Map<T, ISyntaxContainer> identifierMap;
+    private           ISyntaxMetrics<T>        metrics;
+    private @Nullable SlowInputLog<T>          slowInputLog;
+    private           boolean                  ordering;
+    private           boolean                  generatedMatchers;
+    private           boolean                  normalization;
+
+    /**
+     * Create a new {@link SyntaxServiceBuilder}.
+     *
+     * @param identifierMap A map associating the identifier to its {@link ISyntaxContainer}.
+     */
+    public SyntaxServiceBuilder(@NotNull Map<T, ISyntaxContainer> identifierMap) {
+
+        this.identifierMap     = identifierMap;
+        this.metrics           = ISyntaxMetrics.noop();
+        this.slowInputLog      = null;
+        this.ordering          = false;
+        this.generatedMatchers = false;
+        this.normalization     = false;
+    }
+
+    /**
+     * Define the {@link ISyntaxMetrics} to which every matching and completion will be reported.
+     *
+     * @param metrics The {@link ISyntaxMetrics} to use.
+     *
+     * @return This {@link SyntaxServiceBuilder}.
+     */
+    public @NotNull SyntaxServiceBuilder<T> withMetrics(@NotNull ISyntaxMetrics<T> metrics) {
+
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Define the {@link SlowInputLog} in which slow user's inputs will be explained.
+     *
+     * @param slowInputLog The {@link SlowInputLog} to use, or null to disable it.
+     *
+     * @return This {@link SyntaxServiceBuilder}.
+     */
+    public @NotNull SyntaxServiceBuilder<T> withSlowInputLog(@Nullable SlowInputLog<T> slowInputLog) {
+
+        this.slowInputLog = slowInputLog;
+        return this;
+    }
+
+    /**
+     * Enable the ordered evaluation of the {@link ISyntaxContainer}s when matching.
+     * <p>
+     * Once enabled, containers are evaluated by order (priority), and the matching stops as soon as no remaining
+     * container could change the result. The identifier map is read once when building the {@link ISyntaxService}, so
+     * further changes to it won't be seen while matching.
+     *
+     * @return This {@link SyntaxServiceBuilder}.
+     */
+    public @NotNull SyntaxServiceBuilder<T> withOrderedEvaluation() {
+
+        this.ordering = true;
+        return this;
+    }
+
+    /**
+     * Enable the generation of a specialized matcher for each {@link SyntaxContainer} of the identifier map.
+     * <p>
+     * Generated matchers are built once when building the {@link ISyntaxService}, as one hidden class per container,
+     * take longer to warm up and give exactly the same results as the interpreted matching, but are faster on large
+     * registries once compiled by the JIT (see <code>GeneratedMatcherBenchmark</code>, run with
+     * <code>./gradlew jmh</code>). Containers added afterwards, or that aren't {@link SyntaxContainer}, are still
+     * interpreted. Possible values of each <code>{option}</code> are copied when generating matchers, unless they are
+     * an {@link IOptionSource}.
+     *
+     * @return This {@link SyntaxServiceBuilder}.
+     */
+    public @NotNull SyntaxServiceBuilder<T> withGeneratedMatchers() {
+
+        this.generatedMatchers = true;
+        return this;
+    }
+
+    /**
+     * Enable the case-insensitive and Unicode-folded matching of the user's inputs.
+     * <p>
+     * Once enabled, literals and possible values are compared case-folded and NFC-normalized, so that
+     * <code>LANGUAGE</code> matches <code>language</code> and a decomposed <code>e&#769;</code> matches
+     * <code>&eacute;</code>. Literals are folded when their {@link SyntaxContainer} is created and possible values when
+     * building the {@link ISyntaxService}, while the user's input is folded once as it is tokenized. Values extracted
+     * into the parameters keep the text typed by the user. Possible values provided by an {@link IOptionSource} are
+     * folded once per source into a sorted index, which maps the folded tokens back to the values as written: they are
+     * still looked up and completed by prefix without going through every value, and completions return the original
+     * values.
+     * <p>
+     * Generated matchers compare the tokens as typed, so they aren't used when the normalization is enabled. UTF-8
+     * encoded inputs are decoded before being tokenized.
+     *
+     * @return This {@link SyntaxServiceBuilder}.
+     */
+    public @NotNull SyntaxServiceBuilder<T> withNormalization() {
+
+        this.normalization = true;
+        return this;
+    }
+
+    /**
+     * Create the {@link SyntaxService} using the current settings of this {@link SyntaxServiceBuilder}.
+     *
+     * @return A new {@link SyntaxService}.
+     */
+    public @NotNull SyntaxService<T> build() {
+
+        return new SyntaxService<>(this);
+    }
+
+    @NotNull Map<T, ISyntaxContainer> getIdentifierMap() {
+
+        return this.identifierMap;
+    }
+
+    @NotNull ISyntaxMetrics<T> getMetrics() {
+
+        return this.metrics;
+    }
+
+    @Nullable SlowInputLog<T> getSlowInputLog() {
+
+        return this.slowInputLog;
+    }
+
+    boolean isOrdering() {
+
+        return this.ordering;
+    }
+
+    boolean isGeneratingMatchers() {
+
+        return this.generatedMatchers;
+    }
+
+    boolean isNormalizing() {
+
+        return this.normalization;
+    }
+
+}
@@ -6,14 +6,21 @@ import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
 import fr.alexpado.syntaxic.rules.*;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public final class SyntaxUtils {
 
+    // The beginning of a NumericSyntax: a name and a type separated by a colon (ex: <count:int).
+    private static final Pattern NUMERIC_OPENING = Pattern.compile("<[^\\s:<>]+:[A-Za-z]+");
+
     /**
      * Convert the provided {@link String} into the corresponding {@link ISyntax}.
      * <p>
-     * Will always default to {@link WordSyntax} if nothing matched.
+     * Will always default to {@link WordSyntax} if nothing matched. Only values starting with a name and a type
+     * separated by a colon (ex: <code>&lt;count:int&gt;</code>) are converted to a {@link NumericSyntax}, other values
+     * between angle brackets (ex: <code>&lt;user&gt;</code>) being literals.
      *
      * @param options The {@link Map} containing the options possible for each argument.
      * @param value   The {@link String} to convert into {@link ISyntax}.
@@ -29,6 +36,10 @@ public final class SyntaxUtils {
             return new RegexSyntax(value);
         } else if (SyntaxService.isEncapsulated(value, "[", "]")) {
             return new EagerSyntax(value);
+        } else if (SyntaxService.isEncapsulated(value, "<", ">") && isNumericOpening(value)) {
+            return new NumericSyntax(value);
+        } else if (SyntaxService.isEncapsulated(value, "(", ")") && value.contains("|")) {
+            return new AlternationSyntax(value);
         } else if (value.endsWith("...")) {
             return new FillingSyntax(value);
         } else {
@@ -53,16 +64,181 @@ public final class SyntaxUtils {
 
     /**
      * Convert the provided string representing {@link ISyntax}es into the corresponding {@link ISyntaxContainer}.
+     * <p>
+     * {@link ISyntax}es can be grouped between a standalone <code>(</code> and a standalone <code>)</code>, which may be
+     * directly followed by a quantifier: <code>?</code> for an optional group, <code>*</code> for a group repeated any
+     * amount of times and <code>+</code> for a group present at least once (ex: <code>ban [user] ( for
+     * &lt;days:int&gt; )?</code>). Groups can be nested. A parenthesis without its counterpart doesn't delimit any group
+     * and is kept as a literal (ex: <code>smile )</code>).
      *
      * @param options        The {@link Map} containing the list of parameters available for a {@link SelectiveSyntax}.
      * @param representation The representation to convert.
      * @param order          The order (priority) of the {@link ISyntaxContainer}.
      *
      * @return An {@link ISyntaxContainer} implementation.
+     *
+     * @throws IllegalArgumentException Thrown if a group is empty.
      */
     public static ISyntaxContainer toContainer(Map<String, List<String>> options, String representation, int order) {
 
-        Collection<String> rawSyntaxList = Arrays.asList(representation.trim().split(" "));
-        return new SyntaxContainer(toSyntax(options, rawSyntaxList), order);
+        return toContainer(representation, order, value -> toSyntax(options, value));
+    }
+
+    /**
+     * Convert the provided string representing {@link ISyntax}es into the corresponding {@link ISyntaxContainer}, each
+     * part of the representation being converted by the provided function.
+     *
+     * @param representation The representation to convert.
+     * @param order          The order (priority) of the {@link ISyntaxContainer}.
+     * @param converter      The function converting a part of the representation into an {@link ISyntax}.
+     *
+     * @return An {@link ISyntaxContainer} implementation.
+     *
+     * @throws IllegalArgumentException Thrown if a group is empty.
+     * @see #toContainer(Map, String, int)
+     */
+    static SyntaxContainer toContainer(String representation, int order, Function<String, ISyntax> converter) {
+
+        List<String>              parts         = split(representation);
+        BitSet                    literals      = unbalanced(parts);
+        List<String>              rawSyntaxList = new ArrayList<>();
+        List<SyntaxGrammar.Group> groups        = new ArrayList<>();
+        Deque<Integer>            opened        = new ArrayDeque<>();
+
+        for (int i = 0; i < parts.size(); i++) {
+            String part = parts.get(i);
+
+            if (literals.get(i)) {
+                rawSyntaxList.add(part);
+            } else if (part.equals("(")) {
+                opened.push(rawSyntaxList.size());
+            } else if (isGroupEnd(part)) {
+                int from = opened.pop();
+
+                if (from == rawSyntaxList.size()) {
+                    throw new IllegalArgumentException("Empty group in " + representation);
+                }
+
+                char quantifier = part.length() == 1 ? SyntaxGrammar.ONCE : part.charAt(1);
+                groups.add(new SyntaxGrammar.Group(from, rawSyntaxList.size(), quantifier));
+            } else {
+                rawSyntaxList.add(part);
+            }
+        }
+
+        List<ISyntax> syntaxList = rawSyntaxList.stream().map(converter).collect(Collectors.toList());
+        return new SyntaxContainer(syntaxList, groups, order);
+    }
+
+    /**
+     * Convert the provided representation of a prefix to a {@link DelegatingContainer}, handing the tokens following
+     * the prefix to the provided {@link SyntaxService} (ex: <code>admin user</code>, followed by every user
+     * management command).
+     *
+     * @param options        The {@link Map} containing the list of parameters available for a {@link SelectiveSyntax}.
+     * @param representation The representation of the prefix to convert.
+     * @param service        The {@link SyntaxService} matching the tokens following the prefix.
+     * @param order          The order (priority) of the {@link ISyntaxContainer}.
+     * @param <T>            Type of the identifier of the {@link SyntaxService}.
+     *
+     * @return A {@link DelegatingContainer}.
+     *
+     * @throws IllegalArgumentException Thrown if the prefix is empty or doesn't have a fixed length.
+     */
+    public static <T> DelegatingContainer<T> toContainer(Map<String, List<String>> options, String representation, SyntaxService<T> service, int order) {
+
+        return new DelegatingContainer<>(toSyntax(options, split(representation)), service, order);
+    }
+
+    /**
+     * Find the parentheses of the provided parts of a representation that don't have any counterpart, and are then
+     * literals instead of group delimiters.
+     *
+     * @param parts The parts of the representation.
+     *
+     * @return The indexes of the unbalanced parentheses.
+     */
+    private static BitSet unbalanced(List<String> parts) {
+
+        BitSet         literals = new BitSet(parts.size());
+        Deque<Integer> opened   = new ArrayDeque<>();
+
+        for (int i = 0; i < parts.size(); i++) {
+            String part = parts.get(i);
+
+            if (part.equals("(")) {
+                opened.push(i);
+            } else if (isGroupEnd(part)) {
+                if (opened.isEmpty()) {
+                    literals.set(i);
+                } else {
+                    opened.pop();
+                }
+            }
+        }
+
+        opened.forEach(literals::set);
+        return literals;
+    }
+
+    /**
+     * Check if the provided part of a representation closes a group.
+     *
+     * @param part The part of the representation.
+     *
+     * @return True if the part is <code>)</code>, optionally followed by a quantifier.
+     */
+    private static boolean isGroupEnd(String part) {
+
+        return part.equals(")") || part.equals(")?") || part.equals(")*") || part.equals(")+");
+    }
+
+    /**
+     * Check if the provided part of a representation starts like a {@link NumericSyntax}, with a name and a type
+     * separated by a colon.
+     *
+     * @param part The part of the representation.
+     *
+     * @return True if the part starts with <code>&lt;name:type</code>.
+     */
+    private static boolean isNumericOpening(String part) {
+
+        return NUMERIC_OPENING.matcher(part).lookingAt();
+    }
+
+    /**
+     * Split the provided representation on spaces, keeping together the parts of a {@link NumericSyntax}, whose bounds
+     * are separated from its type by a space (ex: <code>&lt;count:int 1..100&gt;</code>).
+     * <p>
+     * Parts are only joined when the first one starts with <code>&lt;name:type</code> and a following part ends with
+     * <code>&gt;</code>, so literals starting with <code>&lt;</code> (ex: <code>i &lt;3 java</code>) are left alone.
+     *
+     * @param representation The representation to split.
+     *
+     * @return The representation of each {@link ISyntax}.
+     */
+    private static List<String> split(String representation) {
+
+        List<String> parts   = new ArrayList<>();
+        List<String> pending = new ArrayList<>();
+
+        for (String part : representation.trim().split(" ")) {
+            if (!pending.isEmpty()) {
+                pending.add(part);
+
+                if (part.endsWith(">")) {
+                    parts.add(String.join(" ", pending));
+                    pending.clear();
+                }
+            } else if (part.startsWith("<") && !part.endsWith(">") && isNumericOpening(part)) {
+                pending.add(part);
+            } else {
+                parts.add(part);
+            }
+        }
+
+        // Never closed: these parts are literals.
+        parts.addAll(pending);
+        return parts;
     }
 }
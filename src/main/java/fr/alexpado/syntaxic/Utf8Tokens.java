@@ -0,0 +1,328 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Utf8Tokens is the result of the preparation of a UTF-8 encoded user's input, splitting it exactly like
+ * {@link ISyntaxService#prepareUserData(String)} would split the decoded input, but without decoding it.
+ * <p>
+ * Each token is only decoded to a {@link String} when it is requested through {@link #get(int)}, which allows
+ * {@link ISyntax} comparing raw bytes to reject most inputs without creating any {@link String}.
+ */
+public final class Utf8Tokens {
+
+    private static final byte SPACE = ' ';
+
+    private final byte[]   data;
+    private final int[]    starts;
+    private final int[]    ends;
+    private final int      size;
+    private final String[] decoded;
+
+    private Utf8Tokens(byte[] data, int[] starts, int[] ends, int size) {
+
+        this.data    = data;
+        this.starts  = starts;
+        this.ends    = ends;
+        this.size    = size;
+        this.decoded = new String[size];
+    }
+
+    /**
+     * Split the provided UTF-8 encoded user's input into tokens.
+     *
+     * @param data The UTF-8 encoded user's input.
+     *
+     * @return The {@link Utf8Tokens} of the user's input.
+     */
+    public static @NotNull Utf8Tokens of(byte @NotNull [] data) {
+
+        return of(data, 0, data.length);
+    }
+
+    /**
+     * Split the remaining bytes of the provided {@link ByteBuffer} into tokens. The position of the buffer is not
+     * modified. Heap buffers are read in place, other buffers are copied once.
+     *
+     * @param buffer The {@link ByteBuffer} containing the UTF-8 encoded user's input.
+     *
+     * @return The {@link Utf8Tokens} of the user's input.
+     */
+    public static @NotNull Utf8Tokens of(@NotNull ByteBuffer buffer) {
+
+        if (buffer.hasArray()) {
+            return of(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return of(copy);
+    }
+
+    /**
+     * Split the provided range of the UTF-8 encoded user's input into tokens.
+     * <p>
+     * Like {@link String#trim()}, every leading and trailing byte lower than or equal to a space is ignored, then
+     * tokens are split on spaces. An empty token is added at the end if the input ends with a space, as it means the
+     * user started a new token.
+     *
+     * @param data   The UTF-8 encoded user's input.
+     * @param offset The index of the first byte of the input.
+     * @param length The amount of bytes of the input.
+     *
+     * @return The {@link Utf8Tokens} of the user's input.
+     */
+    public static @NotNull Utf8Tokens of(byte @NotNull [] data, int offset, int length) {
+
+        return of(SpaceScanner.select(length), data, offset, length);
+    }
+
+    /**
+     * Split the provided range of the UTF-8 encoded user's input into tokens using the provided {@link SpaceScanner}.
+     *
+     * @param scanner The {@link SpaceScanner} to use.
+     * @param data    The UTF-8 encoded user's input.
+     * @param offset  The index of the first byte of the input.
+     * @param length  The amount of bytes of the input.
+     *
+     * @return The {@link Utf8Tokens} of the user's input.
+     */
+    static @NotNull Utf8Tokens of(SpaceScanner scanner, byte @NotNull [] data, int offset, int length) {
+
+        int end  = offset + length;
+        int from = offset;
+        int to   = end;
+
+        // UTF-8 multibyte sequences only use bytes above 0x7F, so this is equivalent to String#trim().
+        while (from < to && (data[from] & 0xFF) <= SPACE) {
+            from++;
+        }
+
+        while (to > from && (data[to - 1] & 0xFF) <= SPACE) {
+            to--;
+        }
+
+        int   capacity = scanner.count(data, from, to) + 2;
+        int[] starts   = new int[capacity];
+        int[] ends     = new int[capacity];
+        int   size     = 0;
+        int   cursor   = from;
+
+        if (from == to) {
+            starts[size] = from;
+            ends[size]   = from;
+            size++;
+        }
+
+        while (cursor < to) {
+            int tokenEnd = scanner.indexOfSpace(data, cursor, to);
+
+            starts[size] = cursor;
+            ends[size]   = tokenEnd;
+            size++;
+
+            cursor = scanner.indexOfNonSpace(data, tokenEnd, to);
+        }
+
+        if (length > 0 && data[end - 1] == SPACE) {
+            starts[size] = end;
+            ends[size]   = end;
+            size++;
+        }
+
+        return new Utf8Tokens(data, starts, ends, size);
+    }
+
+    /**
+     * Create a copy of these {@link Utf8Tokens} holding its own copy of the bytes of the tokens, so that it isn't
+     * affected when the source array is reused.
+     *
+     * @return A copy of these {@link Utf8Tokens}.
+     */
+    Utf8Tokens copy() {
+
+        int    from   = this.starts[0];
+        byte[] data   = Arrays.copyOfRange(this.data, from, this.ends[this.size - 1]);
+        int[]  starts = new int[this.size];
+        int[]  ends   = new int[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            starts[i] = this.starts[i] - from;
+            ends[i]   = this.ends[i] - from;
+        }
+
+        Utf8Tokens copy = new Utf8Tokens(data, starts, ends, this.size);
+        System.arraycopy(this.decoded, 0, copy.decoded, 0, this.size);
+        return copy;
+    }
+
+    /**
+     * Retrieve the amount of tokens.
+     *
+     * @return The amount of tokens.
+     */
+    public int size() {
+
+        return this.size;
+    }
+
+    /**
+     * Retrieve the decoded token at the provided index. The token is decoded only once.
+     *
+     * @param index The index of the token.
+     *
+     * @return The decoded token.
+     */
+    public @NotNull String get(int index) {
+
+        String value = this.decoded[index];
+
+        if (value == null) {
+            value               = new String(this.data, this.starts[index], this.length(index), StandardCharsets.UTF_8);
+            this.decoded[index] = value;
+        }
+
+        return value;
+    }
+
+    /**
+     * Retrieve the index, in the source array, of the first byte of the token at the provided index.
+     *
+     * @param index The index of the token.
+     *
+     * @return The index of the first byte of the token.
+     */
+    int start(int index) {
+
+        return this.starts[index];
+    }
+
+    /**
+     * Retrieve the amount of bytes of the token at the provided index.
+     *
+     * @param index The index of the token.
+     *
+     * @return The length of the token, in bytes.
+     */
+    public int length(int index) {
+
+        return this.ends[index] - this.starts[index];
+    }
+
+    /**
+     * Retrieve a single byte of the token at the provided index.
+     *
+     * @param index    The index of the token.
+     * @param position The position of the byte within the token.
+     *
+     * @return The byte at the provided position of the token.
+     */
+    public byte byteAt(int index, int position) {
+
+        return this.data[this.starts[index] + position];
+    }
+
+    /**
+     * Check if the token at the provided index is exactly the provided UTF-8 encoded value.
+     *
+     * @param index   The index of the token.
+     * @param encoded The UTF-8 encoded value.
+     *
+     * @return True if the token bytes are equal to the provided bytes.
+     */
+    public boolean equals(int index, byte @NotNull [] encoded) {
+
+        return Arrays.equals(this.data, this.starts[index], this.ends[index], encoded, 0, encoded.length);
+    }
+
+    /**
+     * Parse the token at the provided index as a signed decimal <code>long</code>, like {@link Long#parseLong(String)}
+     * would, but without decoding it.
+     *
+     * @param index The index of the token.
+     *
+     * @return The parsed value.
+     *
+     * @throws NumberFormatException Thrown if the token isn't a valid <code>long</code>.
+     */
+    public long parseLong(int index) {
+
+        int from = this.starts[index];
+        int to   = this.ends[index];
+
+        if (from == to) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
+
+        boolean negative = this.data[from] == '-';
+        long    limit    = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long    result   = 0;
+
+        if (negative || this.data[from] == '+') {
+            from++;
+
+            if (from == to) {
+                throw new NumberFormatException("For input string: \"" + this.get(index) + "\"");
+            }
+        }
+
+        // Accumulated negatively, as the negative range is larger than the positive one.
+        for (int i = from; i < to; i++) {
+            int digit = this.data[i] - '0';
+
+            if (digit < 0 || digit > 9 || result < limit / 10 || result * 10 < limit + digit) {
+                throw new NumberFormatException("For input string: \"" + this.get(index) + "\"");
+            }
+
+            result = result * 10 - digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    /**
+     * Wrap the token at the provided index into a read-only {@link ByteBuffer}, allowing to use it as a key in hash
+     * based collections of {@link ByteBuffer}.
+     *
+     * @param index The index of the token.
+     *
+     * @return A {@link ByteBuffer} sharing the bytes of the token.
+     */
+    public @NotNull ByteBuffer wrap(int index) {
+
+        return ByteBuffer.wrap(this.data, this.starts[index], this.length(index)).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Retrieve every token as a {@link List} of strings, as returned by
+     * {@link ISyntaxService#prepareUserData(String)}. Tokens are decoded when accessed.
+     *
+     * @return A {@link List} view of the decoded tokens.
+     */
+    public @NotNull List<String> toList() {
+
+        return new AbstractList<>() {
+
+            @Override
+            public String get(int index) {
+
+                return Utf8Tokens.this.get(index);
+            }
+
+            @Override
+            public int size() {
+
+                return Utf8Tokens.this.size;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,37 @@
+package fr.alexpado.syntaxic.events;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted by {@link ISyntaxService#complete(String)}.
+ */
+@Name("fr.alexpado.syntaxic.Completion")
+@Label("Syntax Completion")
+@Category("Syntaxic")
+@Description("Completion of a user's input using every registered container.")
+public class CompletionEvent extends Event {
+
+    @Label("Token Count")
+    @Description("Amount of tokens in the prepared user's input.")
+    public int tokenCount;
+
+    @Label("Containers Evaluated")
+    public int containersEvaluated;
+
+    @Label("Regex Evaluations")
+    @Description("Amount of regex syntaxes evaluated against a token.")
+    public int regexEvaluations;
+
+    @Label("Outcome")
+    @Description("COMPLETED when at least one completion has been found, EMPTY otherwise.")
+    public String outcome;
+
+    @Label("Completion Count")
+    public int completionCount;
+
+}
@@ -0,0 +1,29 @@
+package fr.alexpado.syntaxic.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted every time an index over the registered containers is built or rebuilt.
+ */
+@Name("fr.alexpado.syntaxic.IndexBuild")
+@Label("Syntax Index Build")
+@Category("Syntaxic")
+@Description("Build or rebuild of an index over the registered containers.")
+public class IndexBuildEvent extends Event {
+
+    @Label("Index")
+    @Description("Kind of index being built.")
+    public String index;
+
+    @Label("Reason")
+    @Description("Why the index has been built (ex: INITIAL, RELOAD).")
+    public String reason;
+
+    @Label("Container Count")
+    public int containerCount;
+
+}
@@ -0,0 +1,38 @@
+package fr.alexpado.syntaxic.events;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted by {@link ISyntaxService#getMatchingResult(String)}.
+ */
+@Name("fr.alexpado.syntaxic.Match")
+@Label("Syntax Match")
+@Category("Syntaxic")
+@Description("Matching of a user's input against every registered container.")
+public class MatchEvent extends Event {
+
+    @Label("Token Count")
+    @Description("Amount of tokens in the prepared user's input.")
+    public int tokenCount;
+
+    @Label("Containers Evaluated")
+    public int containersEvaluated;
+
+    @Label("Regex Evaluations")
+    @Description("Amount of regex syntaxes evaluated against a token.")
+    public int regexEvaluations;
+
+    @Label("Outcome")
+    @Description("HIT, MISS or AMBIGUOUS.")
+    public String outcome;
+
+    @Label("Identifier")
+    @Description("Identifier returned when the outcome is HIT.")
+    public String identifier;
+
+}
@@ -0,0 +1,25 @@
+package fr.alexpado.syntaxic.events;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted by {@link ISyntaxService#prepareUserData(String)}.
+ */
+@Name("fr.alexpado.syntaxic.Tokenize")
+@Label("Syntax Tokenize")
+@Category("Syntaxic")
+public class TokenizeEvent extends Event {
+
+    @Label("Input Length")
+    @Description("Amount of characters in the raw user's input.")
+    public int inputLength;
+
+    @Label("Token Count")
+    public int tokenCount;
+
+}
@@ -0,0 +1,62 @@
+package fr.alexpado.syntaxic.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Interface representing the outcome of a matching, telling how far the user's input went when nothing matched. This
+ * allows printing the usage of the commands the user was most likely trying to use.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public interface IMatchingReport<T> {
+
+    /**
+     * Retrieve the {@link IMatchingResult} of the user's input. It is empty if no identifier matched, or if several
+     * identifiers with the same order matched.
+     *
+     * @return An optional {@link IMatchingResult}.
+     */
+    @NotNull Optional<IMatchingResult<T>> getResult();
+
+    /**
+     * Check if the user's input has been rejected because several identifiers with the same order matched it.
+     *
+     * @return True if the user's input is ambiguous.
+     */
+    boolean isAmbiguous();
+
+    /**
+     * Retrieve the identifiers whose {@link ISyntaxContainer} accepted the most leading tokens of the user's input. It
+     * is empty if the user's input matched, or if no {@link ISyntaxContainer} accepted its first token.
+     *
+     * @return A {@link List} of identifiers.
+     */
+    @NotNull List<T> getDeepestIdentifiers();
+
+    /**
+     * Retrieve the index of the token rejected by the {@link ISyntaxContainer} of the deepest identifiers. It is equal
+     * to the amount of tokens if every token has been accepted but more were expected.
+     *
+     * @return The index of the rejected token, or <code>-1</code> if the user's input matched.
+     */
+    int getFailedIndex();
+
+    /**
+     * Retrieve the values captured before the rejected token by the {@link ISyntaxContainer} of the provided
+     * identifier, which should be one of the deepest identifiers.
+     *
+     * @param identifier The identifier.
+     *
+     * @return A {@link Map} associating each dynamic argument to its value, empty if the identifier isn't one of the
+     *         deepest identifiers.
+     *
+     * @see #getDeepestIdentifiers()
+     */
+    @NotNull Map<String, String> getCaptured(@NotNull T identifier);
+
+}
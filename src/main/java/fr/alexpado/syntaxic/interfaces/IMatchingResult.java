@@ -3,6 +3,8 @@ package fr.alexpado.syntaxic.interfaces;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  * Interface representing a matching result.
@@ -30,4 +32,57 @@ public interface IMatchingResult<T> {
      */
     @NotNull Optional<String> getParameter(@NotNull String name);
 
+    /**
+     * Retrieve the completion argument matching the provided name, parsed as a signed decimal <code>int</code>.
+     * <p>
+     * Implementations may parse the user's input directly, without creating the string returned by
+     * {@link #getParameter(String)}.
+     *
+     * @param name The argument name.
+     *
+     * @return An optional value of the argument.
+     *
+     * @throws NumberFormatException Thrown if the argument isn't a valid <code>int</code>.
+     */
+    default @NotNull OptionalInt getInt(@NotNull String name) {
+
+        Optional<String> value = this.getParameter(name);
+        return value.isPresent() ? OptionalInt.of(Integer.parseInt(value.get())) : OptionalInt.empty();
+    }
+
+    /**
+     * Retrieve the completion argument matching the provided name, parsed as a signed decimal <code>long</code>.
+     * <p>
+     * Implementations may parse the user's input directly, without creating the string returned by
+     * {@link #getParameter(String)}.
+     *
+     * @param name The argument name.
+     *
+     * @return An optional value of the argument.
+     *
+     * @throws NumberFormatException Thrown if the argument isn't a valid <code>long</code>.
+     */
+    default @NotNull OptionalLong getLong(@NotNull String name) {
+
+        Optional<String> value = this.getParameter(name);
+        return value.isPresent() ? OptionalLong.of(Long.parseLong(value.get())) : OptionalLong.empty();
+    }
+
+    /**
+     * Retrieve the completion argument matching the provided name as the constant of the provided enum having the
+     * same name.
+     *
+     * @param name The argument name.
+     * @param type The class of the enum.
+     * @param <E>  The type of the enum.
+     *
+     * @return An optional value of the argument.
+     *
+     * @throws IllegalArgumentException Thrown if the enum has no constant with the argument as name.
+     */
+    default <E extends Enum<E>> @NotNull Optional<E> getEnum(@NotNull String name, @NotNull Class<E> type) {
+
+        return this.getParameter(name).map(value -> Enum.valueOf(type, value));
+    }
+
 }
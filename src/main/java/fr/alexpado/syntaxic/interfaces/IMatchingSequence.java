@@ -0,0 +1,47 @@
+package fr.alexpado.syntaxic.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Interface representing the outcome of the matching of a message holding several commands, such as
+ * <code>cmd a; cmd b</code>.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public interface IMatchingSequence<T> {
+
+    /**
+     * Retrieve the {@link IMatchingReport} of each command, in the order of the message.
+     *
+     * @return A {@link List} of {@link IMatchingReport}.
+     */
+    @NotNull List<IMatchingReport<T>> getReports();
+
+    /**
+     * Check if every command of the message matched.
+     *
+     * @return True if every command matched.
+     */
+    boolean isMatching();
+
+    /**
+     * Retrieve the index of the first command that didn't match.
+     *
+     * @return The index of the command in {@link #getReports()}, or <code>-1</code> if every command matched.
+     */
+    int getFailedCommand();
+
+    /**
+     * Retrieve the position, in the message, of the token rejected in the first command that didn't match. If every
+     * token of the command has been accepted but more were expected, this is the position right after its last token.
+     *
+     * @return The position of the rejected token, or <code>-1</code> if every command matched.
+     *
+     * @see IMatchingReport#getFailedIndex()
+     */
+    int getFailedOffset();
+
+}
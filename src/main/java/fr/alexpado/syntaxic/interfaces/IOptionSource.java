@@ -0,0 +1,54 @@
+package fr.alexpado.syntaxic.interfaces;
+
+import fr.alexpado.syntaxic.Utf8Tokens;
+import fr.alexpado.syntaxic.rules.SelectiveSyntax;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface representing the possible values of a {@link SelectiveSyntax} that are too many to be scanned, such as
+ * every username of a server. Being a {@link List}, it can be used wherever a list of possible values is expected, but
+ * implementations are expected to answer {@link #contains(Object)} and {@link #complete(String, Collection)} without
+ * going through every value.
+ */
+public interface IOptionSource extends List<String> {
+
+    /**
+     * Add every value starting with the provided prefix to the provided collection.
+     *
+     * @param prefix     The prefix of the values.
+     * @param completion The collection receiving the values.
+     *
+     * @return True if at least one value starts with the prefix.
+     */
+    default boolean complete(@NotNull String prefix, @NotNull Collection<String> completion) {
+
+        boolean completable = false;
+
+        for (String value : this) {
+            if (value.startsWith(prefix)) {
+                completion.add(value);
+                completable = true;
+            }
+        }
+        return completable;
+    }
+
+    /**
+     * Retrieve the value matching the token at the provided index of a UTF-8 encoded user's input.
+     *
+     * @param tokens The UTF-8 encoded user's input.
+     * @param index  The index of the token.
+     *
+     * @return The matching value, or null if the token isn't one of the values.
+     */
+    default @Nullable String find(@NotNull Utf8Tokens tokens, int index) {
+
+        String token = tokens.get(index);
+        return this.contains(token) ? token : null;
+    }
+
+}
@@ -0,0 +1,43 @@
+package fr.alexpado.syntaxic.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Interface representing the outcome of a rebuild of the command definitions of a reloadable {@link ISyntaxService}.
+ */
+public interface IReloadReport {
+
+    /**
+     * Retrieve the time spent reading the definitions and building the new {@link ISyntaxService}.
+     *
+     * @return The duration of the rebuild.
+     */
+    @NotNull Duration getDuration();
+
+    /**
+     * Retrieve the amount of identifiers held by the {@link ISyntaxService} in use once the rebuild is done.
+     *
+     * @return The amount of identifiers.
+     */
+    int getIdentifierCount();
+
+    /**
+     * Retrieve the definitions that couldn't be parsed.
+     *
+     * @return A {@link Map} associating the location of each failing definition (ex: <code>commands.syntax:12</code>)
+     *         to the reason of the failure.
+     */
+    @NotNull Map<String, String> getFailures();
+
+    /**
+     * Check if the rebuilt {@link ISyntaxService} has been swapped in. It is false when the definitions couldn't be
+     * read at all, in which case the previous {@link ISyntaxService} is kept.
+     *
+     * @return True if the new {@link ISyntaxService} is in use.
+     */
+    boolean isSwapped();
+
+}
@@ -1,5 +1,6 @@
 package fr.alexpado.syntaxic.interfaces;
 
+import fr.alexpado.syntaxic.Utf8Tokens;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
@@ -35,6 +36,23 @@ public interface ISyntax {
      */
     boolean isMatching(@NotNull String data);
 
+    /**
+     * Check if the token at the provided index of the UTF-8 encoded user's input perfectly matches this {@link ISyntax}
+     * rules.
+     * <p>
+     * The default implementation decodes the token and calls {@link #isMatching(String)}. Implementations able to
+     * compare raw bytes should override this method to avoid decoding tokens they will reject anyway.
+     *
+     * @param tokens The UTF-8 encoded user's input.
+     * @param index  The index of the token to check.
+     *
+     * @return True if the token exactly matches this {@link ISyntax} rules, false otherwise.
+     */
+    default boolean isMatching(@NotNull Utf8Tokens tokens, int index) {
+
+        return this.isMatching(tokens.get(index));
+    }
+
     /**
      * Retrieve the last value that matched with {@link #isMatching(String)}. This may return an empty optional if the
      * last return value of {@link #isMatching(String)} was <code>false</code>.
@@ -1,10 +1,13 @@
 package fr.alexpado.syntaxic.interfaces;
 
 import fr.alexpado.syntaxic.SyntaxContainer;
+import fr.alexpado.syntaxic.Utf8Tokens;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.ObjLongConsumer;
 
 /**
  * Interface representing a group of {@link ISyntax} used to describe a command. You can implement this interface
@@ -45,6 +48,21 @@ public interface ISyntaxContainer extends Comparable<ISyntaxContainer> {
      */
     boolean isCompletable(@NotNull List<String> data);
 
+    /**
+     * Same as {@link #isCompletable(List)}, but reports the time spent in each {@link ISyntax} to the provided
+     * consumer. This is only used to explain slow inputs, so implementations that cannot report per-syntax timings may
+     * keep the default behavior, which reports nothing.
+     *
+     * @param data    The data to check against this {@link ISyntaxContainer}.
+     * @param timings The consumer receiving each evaluated {@link ISyntax} with the time spent in it, in nanoseconds.
+     *
+     * @return True if the provided {@link List} is a valid candidate for completion, false otherwise.
+     */
+    default boolean isCompletable(@NotNull List<String> data, @Nullable ObjLongConsumer<ISyntax> timings) {
+
+        return this.isCompletable(data);
+    }
+
     /**
      * Check if the provided {@link List} of strings, which should be each part of the user's input, matches this {@link
      * ISyntaxContainer}
@@ -61,6 +79,46 @@ public interface ISyntaxContainer extends Comparable<ISyntaxContainer> {
      */
     boolean isMatching(@NotNull List<String> data);
 
+    /**
+     * Same as {@link #isMatching(List)}, but using a UTF-8 encoded user's input. The default implementation decodes
+     * every token and calls {@link #isMatching(List)}.
+     *
+     * @param tokens The UTF-8 encoded user's input to check against this {@link ISyntaxContainer}.
+     *
+     * @return True if the provided {@link Utf8Tokens} matches this {@link ISyntaxContainer}.
+     */
+    default boolean isMatching(@NotNull Utf8Tokens tokens) {
+
+        return this.isMatching(tokens.toList());
+    }
+
+    /**
+     * Same as {@link #isMatching(List)}, but reports the time spent in each {@link ISyntax} to the provided consumer.
+     * This is only used to explain slow inputs, so implementations that cannot report per-syntax timings may keep the
+     * default behavior, which reports nothing.
+     *
+     * @param data    The data to check against this {@link ISyntaxContainer}.
+     * @param timings The consumer receiving each evaluated {@link ISyntax} with the time spent in it, in nanoseconds.
+     *
+     * @return True if the provided {@link List} matches this {@link ISyntaxContainer}.
+     */
+    default boolean isMatching(@NotNull List<String> data, @Nullable ObjLongConsumer<ISyntax> timings) {
+
+        return this.isMatching(data);
+    }
+
+    /**
+     * Retrieve the amount of regex-based {@link ISyntax} that have been evaluated during the last call to
+     * {@link #isMatching(List)} or {@link #isCompletable(List)}. This is only used for diagnostics, so implementations
+     * that do not track it may keep the default value.
+     *
+     * @return The amount of regex evaluations.
+     */
+    default int getRegexEvaluations() {
+
+        return 0;
+    }
+
     /**
      * Retrieve this {@link ISyntaxContainer} order among all other {@link ISyntaxContainer} that may be created by
      * {@link ISyntaxService}.
@@ -0,0 +1,87 @@
+package fr.alexpado.syntaxic.interfaces;
+
+import fr.alexpado.syntaxic.metrics.NoopSyntaxMetrics;
+import fr.alexpado.syntaxic.metrics.SyntaxMetrics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Interface representing a metrics sink used by an {@link ISyntaxService} to report what happens while matching and
+ * completing user inputs.
+ * <p>
+ * Every method of this interface is called on the hot path of the library, so implementations should never block and
+ * should be safe to use from multiple threads at once. {@link SyntaxMetrics} is the default implementation.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public interface ISyntaxMetrics<T> {
+
+    /**
+     * Retrieve an {@link ISyntaxMetrics} that will ignore everything reported to it.
+     *
+     * @param <T> Type of the identifier.
+     *
+     * @return A no-op {@link ISyntaxMetrics}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> @NotNull ISyntaxMetrics<T> noop() {
+
+        return (ISyntaxMetrics<T>) NoopSyntaxMetrics.INSTANCE;
+    }
+
+    /**
+     * Check if this {@link ISyntaxMetrics} is recording anything. When this returns <code>false</code>, the
+     * {@link ISyntaxService} won't even read the clock.
+     *
+     * @return True if this {@link ISyntaxMetrics} records data, false otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * Called when exactly one identifier has been returned for a user's input.
+     *
+     * @param identifier The identifier that has been returned.
+     */
+    void onHit(@NotNull T identifier);
+
+    /**
+     * Called when no {@link ISyntaxContainer} matched a user's input.
+     */
+    void onMiss();
+
+    /**
+     * Called when multiple {@link ISyntaxContainer} with the same order matched a user's input, making the result
+     * ambiguous.
+     */
+    void onAmbiguous();
+
+    /**
+     * Called once per matching with the amount of {@link ISyntaxContainer} that have been evaluated and rejected the
+     * user's input.
+     *
+     * @param count The amount of {@link ISyntaxContainer} that rejected the user's input.
+     */
+    void onRejected(int count);
+
+    /**
+     * Record the time spent by {@link ISyntaxService#getMatchingResult(String)}.
+     *
+     * @param nanos The time spent, in nanoseconds.
+     */
+    void recordMatchLatency(long nanos);
+
+    /**
+     * Record the time spent by {@link ISyntaxService#complete(String)}.
+     *
+     * @param nanos The time spent, in nanoseconds.
+     */
+    void recordCompleteLatency(long nanos);
+
+    /**
+     * Record the time spent by {@link ISyntaxService#prepareUserData(String)}.
+     *
+     * @param nanos The time spent, in nanoseconds.
+     */
+    void recordTokenizeLatency(long nanos);
+
+}
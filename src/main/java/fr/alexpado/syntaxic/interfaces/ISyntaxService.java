@@ -3,6 +3,8 @@ package fr.alexpado.syntaxic.interfaces;
 import fr.alexpado.syntaxic.SyntaxService;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,4 +49,35 @@ public interface ISyntaxService<T> {
      */
     Optional<IMatchingResult<T>> getMatchingResult(@NotNull String data);
 
+    /**
+     * Retrieve an optional {@link IMatchingResult} for the given UTF-8 encoded user's input. The default implementation
+     * decodes the input and calls {@link #getMatchingResult(String)}.
+     * <p>
+     * Implementations must not retain the provided array: the caller may reuse it as soon as this method returns.
+     *
+     * @param data The UTF-8 encoded user's input to match.
+     *
+     * @return An optional {@link IMatchingResult} for the given user's input.
+     */
+    default Optional<IMatchingResult<T>> getMatchingResult(byte @NotNull [] data) {
+
+        return this.getMatchingResult(new String(data, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Retrieve an optional {@link IMatchingResult} for the remaining bytes of the provided {@link ByteBuffer}
+     * containing a UTF-8 encoded user's input. The default implementation decodes the input and calls
+     * {@link #getMatchingResult(String)}.
+     * <p>
+     * Implementations must not retain the provided buffer: the caller may reuse it as soon as this method returns.
+     *
+     * @param data The {@link ByteBuffer} containing the UTF-8 encoded user's input to match.
+     *
+     * @return An optional {@link IMatchingResult} for the given user's input.
+     */
+    default Optional<IMatchingResult<T>> getMatchingResult(@NotNull ByteBuffer data) {
+
+        return this.getMatchingResult(StandardCharsets.UTF_8.decode(data.duplicate()).toString());
+    }
+
 }
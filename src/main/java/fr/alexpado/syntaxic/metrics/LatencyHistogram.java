@@ -0,0 +1,187 @@
+package fr.alexpado.syntaxic.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram using power-of-two buckets.
+ * <p>
+ * Each recorded value is added to the bucket of its highest bit, meaning a percentile read from this histogram is an
+ * upper bound at most twice the real value. This precision is more than enough to spot slow inputs while keeping the
+ * recording cost to a couple of {@link LongAdder} increments.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE + 1;
+
+    private final LongAdder[] buckets;
+    private final LongAdder   sum;
+    private final AtomicLong  max;
+
+    /**
+     * Create a new empty {@link LatencyHistogram}.
+     */
+    public LatencyHistogram() {
+
+        this.buckets = new LongAdder[BUCKET_COUNT];
+        this.sum     = new LongAdder();
+        this.max     = new AtomicLong();
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Retrieve the bucket index for the provided value.
+     *
+     * @param value The value for which the bucket should be found.
+     *
+     * @return The bucket index.
+     */
+    private static int bucketOf(long value) {
+
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Retrieve the highest value that can be stored in the provided bucket.
+     *
+     * @param bucket The bucket index.
+     *
+     * @return The upper bound of the bucket.
+     */
+    private static long upperBoundOf(int bucket) {
+
+        return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * Record a new value into this {@link LatencyHistogram}. Negative values are recorded as zero.
+     *
+     * @param nanos The value to record, in nanoseconds.
+     */
+    public void record(long nanos) {
+
+        long value = Math.max(0, nanos);
+        this.buckets[bucketOf(value)].increment();
+        this.sum.add(value);
+
+        long current = this.max.get();
+        while (value > current && !this.max.compareAndSet(current, value)) {
+            current = this.max.get();
+        }
+    }
+
+    /**
+     * Create an immutable {@link Snapshot} of this {@link LatencyHistogram}. Values recorded while the snapshot is being
+     * created may or may not be included.
+     *
+     * @return A {@link Snapshot}.
+     */
+    public @NotNull Snapshot snapshot() {
+
+        long[] counts = new long[BUCKET_COUNT];
+        long   total  = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets[i].sum();
+            total += counts[i];
+        }
+
+        return new Snapshot(counts, total, this.sum.sum(), this.max.get());
+    }
+
+    /**
+     * An immutable view of a {@link LatencyHistogram} at a given time.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long   count;
+        private final long   sum;
+        private final long   max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+
+            this.counts = counts;
+            this.count  = count;
+            this.sum    = sum;
+            this.max    = max;
+        }
+
+        /**
+         * Retrieve the amount of values recorded.
+         *
+         * @return The amount of values.
+         */
+        public long getCount() {
+
+            return this.count;
+        }
+
+        /**
+         * Retrieve the sum of all values recorded, in nanoseconds.
+         *
+         * @return The sum of all values.
+         */
+        public long getSum() {
+
+            return this.sum;
+        }
+
+        /**
+         * Retrieve the highest value recorded, in nanoseconds.
+         *
+         * @return The highest value.
+         */
+        public long getMax() {
+
+            return this.max;
+        }
+
+        /**
+         * Retrieve the mean of all values recorded, in nanoseconds.
+         *
+         * @return The mean value, or 0 if nothing was recorded.
+         */
+        public double getMean() {
+
+            return this.count == 0 ? 0 : (double) this.sum / this.count;
+        }
+
+        /**
+         * Retrieve an upper bound of the provided percentile, in nanoseconds.
+         *
+         * @param percentile The percentile, between 0 and 100.
+         *
+         * @return The upper bound of the bucket containing the percentile, capped to {@link #getMax()}.
+         */
+        public long getPercentile(double percentile) {
+
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+            }
+
+            if (this.count == 0) {
+                return 0;
+            }
+
+            long rank       = Math.max(1, (long) Math.ceil(this.count * percentile / 100));
+            long cumulative = 0;
+
+            for (int i = 0; i < this.counts.length; i++) {
+                cumulative += this.counts[i];
+                if (cumulative >= rank) {
+                    return Math.min(upperBoundOf(i), this.max);
+                }
+            }
+
+            return this.max;
+        }
+
+    }
+
+}
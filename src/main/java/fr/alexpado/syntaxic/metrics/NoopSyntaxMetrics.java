@@ -0,0 +1,45 @@
+package fr.alexpado.syntaxic.metrics;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxMetrics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The NoopSyntaxMetrics is an {@link ISyntaxMetrics} ignoring everything. Every method being empty, calls to this
+ * implementation are removed by the JIT once inlined.
+ *
+ * @see ISyntaxMetrics#noop()
+ */
+public final class NoopSyntaxMetrics implements ISyntaxMetrics<Object> {
+
+    public static final NoopSyntaxMetrics INSTANCE = new NoopSyntaxMetrics();
+
+    private NoopSyntaxMetrics() {}
+
+    @Override
+    public boolean isEnabled() {
+
+        return false;
+    }
+
+    @Override
+    public void onHit(@NotNull Object identifier) {}
+
+    @Override
+    public void onMiss() {}
+
+    @Override
+    public void onAmbiguous() {}
+
+    @Override
+    public void onRejected(int count) {}
+
+    @Override
+    public void recordMatchLatency(long nanos) {}
+
+    @Override
+    public void recordCompleteLatency(long nanos) {}
+
+    @Override
+    public void recordTokenizeLatency(long nanos) {}
+
+}
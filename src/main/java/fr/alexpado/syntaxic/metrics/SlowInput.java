@@ -0,0 +1,123 @@
+package fr.alexpado.syntaxic.metrics;
+
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A SlowInput is a user's input that took longer than the threshold of a {@link SlowInputLog}, along with a breakdown of
+ * where the time has been spent.
+ * <p>
+ * The breakdown is measured by evaluating the input a second time once it has been detected as slow, so its sum may
+ * slightly differ from {@link #getElapsedNanos()}.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public final class SlowInput<T> {
+
+    private final Instant           timestamp;
+    private final Operation         operation;
+    private final String            input;
+    private final long              elapsedNanos;
+    private final Map<T, Long>      containerNanos;
+    private final Map<String, Long> syntaxNanos;
+
+    SlowInput(Instant timestamp, Operation operation, String input, long elapsedNanos, Map<T, Long> containerNanos, Map<String, Long> syntaxNanos) {
+
+        this.timestamp      = timestamp;
+        this.operation      = operation;
+        this.input          = input;
+        this.elapsedNanos   = elapsedNanos;
+        this.containerNanos = Collections.unmodifiableMap(containerNanos);
+        this.syntaxNanos    = Collections.unmodifiableMap(syntaxNanos);
+    }
+
+    /**
+     * Retrieve when this {@link SlowInput} has been recorded.
+     *
+     * @return An {@link Instant}.
+     */
+    public @NotNull Instant getTimestamp() {
+
+        return this.timestamp;
+    }
+
+    /**
+     * Retrieve the {@link Operation} that was slow.
+     *
+     * @return An {@link Operation}.
+     */
+    public @NotNull Operation getOperation() {
+
+        return this.operation;
+    }
+
+    /**
+     * Retrieve the raw user's input.
+     *
+     * @return The user's input.
+     */
+    public @NotNull String getInput() {
+
+        return this.input;
+    }
+
+    /**
+     * Retrieve the time spent by the operation, in nanoseconds.
+     *
+     * @return The time spent.
+     */
+    public long getElapsedNanos() {
+
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Retrieve the time spent in each {@link ISyntaxContainer}, in nanoseconds.
+     *
+     * @return A {@link Map} associating each identifier to the time spent in its {@link ISyntaxContainer}.
+     */
+    public @NotNull Map<T, Long> getContainerNanos() {
+
+        return this.containerNanos;
+    }
+
+    /**
+     * Retrieve the time spent in each kind of {@link ISyntax}, in nanoseconds. Kinds are identified by their compiled
+     * kind (ex: <code>REGEX</code>), every {@link ISyntax} that isn't built-in being reported as <code>CUSTOM</code>.
+     *
+     * @return A {@link Map} associating each kind of {@link ISyntax} to the time spent in it.
+     */
+    public @NotNull Map<String, Long> getSyntaxNanos() {
+
+        return this.syntaxNanos;
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format(
+                "%s %s took %dns on '%s' (containers: %s, syntaxes: %s)",
+                this.timestamp,
+                this.operation,
+                this.elapsedNanos,
+                this.input,
+                this.containerNanos,
+                this.syntaxNanos
+        );
+    }
+
+    /**
+     * The operation during which a {@link SlowInput} has been detected.
+     */
+    public enum Operation {
+        MATCH,
+        COMPLETE
+    }
+
+}
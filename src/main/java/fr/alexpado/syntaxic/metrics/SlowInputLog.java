@@ -0,0 +1,119 @@
+package fr.alexpado.syntaxic.metrics;
+
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The SlowInputLog keeps the last user's inputs that took longer than a given threshold in a bounded ring buffer, along
+ * with the time spent in each {@link ISyntaxContainer} and each kind of {@link ISyntax}.
+ * <p>
+ * An {@link ISyntaxService} using a SlowInputLog only reads the clock twice per operation. The detailed breakdown is
+ * only measured, by evaluating the input a second time, once the threshold has been crossed.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public class SlowInputLog<T> {
+
+    private final long                               threshold;
+    private final AtomicReferenceArray<SlowInput<T>> entries;
+    private final AtomicLong                         written;
+
+    /**
+     * Create a new {@link SlowInputLog}.
+     *
+     * @param threshold The latency above which a user's input is considered slow.
+     * @param capacity  The maximum amount of {@link SlowInput} to keep. Older entries are overwritten.
+     */
+    public SlowInputLog(@NotNull Duration threshold, int capacity) {
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+
+        this.threshold = threshold.toNanos();
+        this.entries   = new AtomicReferenceArray<>(capacity);
+        this.written   = new AtomicLong();
+    }
+
+    /**
+     * Retrieve the latency above which a user's input is considered slow, in nanoseconds.
+     *
+     * @return The threshold.
+     */
+    public long getThresholdNanos() {
+
+        return this.threshold;
+    }
+
+    /**
+     * Check if the provided latency should be explained and recorded.
+     *
+     * @param elapsedNanos The latency, in nanoseconds.
+     *
+     * @return True if the latency is equal to or above the threshold.
+     */
+    public boolean isSlow(long elapsedNanos) {
+
+        return elapsedNanos >= this.threshold;
+    }
+
+    /**
+     * Record a new {@link SlowInput}, overwriting the oldest one if this {@link SlowInputLog} is full.
+     *
+     * @param operation      The operation that was slow.
+     * @param input          The raw user's input.
+     * @param elapsedNanos   The time spent by the operation.
+     * @param containerNanos The time spent in each {@link ISyntaxContainer}.
+     * @param syntaxNanos    The time spent in each kind of {@link ISyntax}.
+     */
+    public void record(@NotNull SlowInput.Operation operation, @NotNull String input, long elapsedNanos, @NotNull Map<T, Long> containerNanos, @NotNull Map<String, Long> syntaxNanos) {
+
+        SlowInput<T> entry = new SlowInput<>(
+                Instant.now(),
+                operation,
+                input,
+                elapsedNanos,
+                new HashMap<>(containerNanos),
+                new HashMap<>(syntaxNanos)
+        );
+
+        long index = this.written.getAndIncrement();
+        this.entries.set((int) (index % this.entries.length()), entry);
+    }
+
+    /**
+     * Retrieve every {@link SlowInput} currently kept, from the oldest to the most recent.
+     *
+     * @return A {@link List} of {@link SlowInput}.
+     */
+    public @NotNull List<SlowInput<T>> dump() {
+
+        long written  = this.written.get();
+        int  capacity = this.entries.length();
+        long from     = Math.max(0, written - capacity);
+
+        List<SlowInput<T>> dump = new ArrayList<>((int) (written - from));
+
+        for (long i = from; i < written; i++) {
+            SlowInput<T> entry = this.entries.get((int) (i % capacity));
+            if (entry != null) {
+                dump.add(entry);
+            }
+        }
+
+        return dump;
+    }
+
+}
@@ -0,0 +1,119 @@
+package fr.alexpado.syntaxic.metrics;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxMetrics;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The SyntaxMetrics is the default {@link ISyntaxMetrics} implementation, recording everything using {@link LongAdder}
+ * and {@link LatencyHistogram} so that concurrent matching never contends on a lock.
+ * <p>
+ * Recorded values can be read at any time using {@link #snapshot()}.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public class SyntaxMetrics<T> implements ISyntaxMetrics<T> {
+
+    private final Map<T, LongAdder> hits;
+    private final LongAdder         miss;
+    private final LongAdder         ambiguous;
+    private final LongAdder         rejected;
+    private final LatencyHistogram  matchLatency;
+    private final LatencyHistogram  completeLatency;
+    private final LatencyHistogram  tokenizeLatency;
+
+    /**
+     * Create a new instance of this {@link ISyntaxMetrics} implementation.
+     */
+    public SyntaxMetrics() {
+
+        this.hits            = new ConcurrentHashMap<>();
+        this.miss            = new LongAdder();
+        this.ambiguous       = new LongAdder();
+        this.rejected        = new LongAdder();
+        this.matchLatency    = new LatencyHistogram();
+        this.completeLatency = new LatencyHistogram();
+        this.tokenizeLatency = new LatencyHistogram();
+    }
+
+    @Override
+    public boolean isEnabled() {
+
+        return true;
+    }
+
+    @Override
+    public void onHit(@NotNull T identifier) {
+
+        LongAdder adder = this.hits.get(identifier);
+
+        if (adder == null) {
+            adder = this.hits.computeIfAbsent(identifier, key -> new LongAdder());
+        }
+
+        adder.increment();
+    }
+
+    @Override
+    public void onMiss() {
+
+        this.miss.increment();
+    }
+
+    @Override
+    public void onAmbiguous() {
+
+        this.ambiguous.increment();
+    }
+
+    @Override
+    public void onRejected(int count) {
+
+        this.rejected.add(count);
+    }
+
+    @Override
+    public void recordMatchLatency(long nanos) {
+
+        this.matchLatency.record(nanos);
+    }
+
+    @Override
+    public void recordCompleteLatency(long nanos) {
+
+        this.completeLatency.record(nanos);
+    }
+
+    @Override
+    public void recordTokenizeLatency(long nanos) {
+
+        this.tokenizeLatency.record(nanos);
+    }
+
+    /**
+     * Create an immutable {@link SyntaxMetricsSnapshot} of everything recorded so far.
+     *
+     * @return A {@link SyntaxMetricsSnapshot}.
+     */
+    public @NotNull SyntaxMetricsSnapshot<T> snapshot() {
+
+        Map<T, Long> hitCounts = new HashMap<>();
+        this.hits.forEach((identifier, adder) -> hitCounts.put(identifier, adder.sum()));
+
+        return new SyntaxMetricsSnapshot<>(
+                hitCounts,
+                this.miss.sum(),
+                this.ambiguous.sum(),
+                this.rejected.sum(),
+                this.matchLatency.snapshot(),
+                this.completeLatency.snapshot(),
+                this.tokenizeLatency.snapshot()
+        );
+    }
+
+}
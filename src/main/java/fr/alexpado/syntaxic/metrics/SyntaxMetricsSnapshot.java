@@ -0,0 +1,152 @@
+package fr.alexpado.syntaxic.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable view of a {@link SyntaxMetrics} at a given time.
+ *
+ * @param <T> Type of the identifier. An identifier can be anything, but should be easily distinguishable from other
+ *            identifiers.
+ */
+public final class SyntaxMetricsSnapshot<T> {
+
+    private final Map<T, Long>              hits;
+    private final long                      miss;
+    private final long                      ambiguous;
+    private final long                      rejected;
+    private final LatencyHistogram.Snapshot matchLatency;
+    private final LatencyHistogram.Snapshot completeLatency;
+    private final LatencyHistogram.Snapshot tokenizeLatency;
+
+    SyntaxMetricsSnapshot(Map<T, Long> hits, long miss, long ambiguous, long rejected, LatencyHistogram.Snapshot matchLatency, LatencyHistogram.Snapshot completeLatency, LatencyHistogram.Snapshot tokenizeLatency) {
+
+        this.hits            = Collections.unmodifiableMap(hits);
+        this.miss            = miss;
+        this.ambiguous       = ambiguous;
+        this.rejected        = rejected;
+        this.matchLatency    = matchLatency;
+        this.completeLatency = completeLatency;
+        this.tokenizeLatency = tokenizeLatency;
+    }
+
+    /**
+     * Retrieve the amount of times each identifier has been returned.
+     *
+     * @return A {@link Map} associating each identifier to its hit count.
+     */
+    public @NotNull Map<T, Long> getHits() {
+
+        return this.hits;
+    }
+
+    /**
+     * Retrieve the amount of times a specific identifier has been returned.
+     *
+     * @param identifier The identifier.
+     *
+     * @return The hit count of the identifier.
+     */
+    public long getHits(@NotNull T identifier) {
+
+        return this.hits.getOrDefault(identifier, 0L);
+    }
+
+    /**
+     * Retrieve the amount of user's inputs that didn't match anything.
+     *
+     * @return The miss count.
+     */
+    public long getMiss() {
+
+        return this.miss;
+    }
+
+    /**
+     * Retrieve the amount of user's inputs that matched multiple identifiers with the same order.
+     *
+     * @return The ambiguous count.
+     */
+    public long getAmbiguous() {
+
+        return this.ambiguous;
+    }
+
+    /**
+     * Retrieve the total amount of container evaluations that rejected a user's input.
+     *
+     * @return The rejected count.
+     */
+    public long getRejected() {
+
+        return this.rejected;
+    }
+
+    /**
+     * Retrieve the latency distribution of the matching.
+     *
+     * @return A {@link LatencyHistogram.Snapshot}.
+     */
+    public @NotNull LatencyHistogram.Snapshot getMatchLatency() {
+
+        return this.matchLatency;
+    }
+
+    /**
+     * Retrieve the latency distribution of the completion.
+     *
+     * @return A {@link LatencyHistogram.Snapshot}.
+     */
+    public @NotNull LatencyHistogram.Snapshot getCompleteLatency() {
+
+        return this.completeLatency;
+    }
+
+    /**
+     * Retrieve the latency distribution of the user's input preparation.
+     *
+     * @return A {@link LatencyHistogram.Snapshot}.
+     */
+    public @NotNull LatencyHistogram.Snapshot getTokenizeLatency() {
+
+        return this.tokenizeLatency;
+    }
+
+    /**
+     * Export this {@link SyntaxMetricsSnapshot} as a flat {@link Map} of named values, ready to be pushed to any
+     * monitoring system. Every name is prefixed by the provided prefix, and latencies are in nanoseconds.
+     *
+     * @param prefix The prefix to use for every name (ex: <code>syntaxic</code>).
+     *
+     * @return A {@link Map} associating each metric name to its value.
+     */
+    public @NotNull Map<String, Long> export(@NotNull String prefix) {
+
+        Map<String, Long> values = new LinkedHashMap<>();
+
+        this.hits.forEach((identifier, count) -> values.put(prefix + ".hit." + identifier, count));
+        values.put(prefix + ".miss", this.miss);
+        values.put(prefix + ".ambiguous", this.ambiguous);
+        values.put(prefix + ".rejected", this.rejected);
+
+        exportLatency(values, prefix + ".match", this.matchLatency);
+        exportLatency(values, prefix + ".complete", this.completeLatency);
+        exportLatency(values, prefix + ".tokenize", this.tokenizeLatency);
+
+        return values;
+    }
+
+    private static void exportLatency(Map<String, Long> values, String prefix, LatencyHistogram.Snapshot snapshot) {
+
+        values.put(prefix + ".count", snapshot.getCount());
+        values.put(prefix + ".sum", snapshot.getSum());
+        values.put(prefix + ".max", snapshot.getMax());
+        values.put(prefix + ".p50", snapshot.getPercentile(50));
+        values.put(prefix + ".p90", snapshot.getPercentile(90));
+        values.put(prefix + ".p99", snapshot.getPercentile(99));
+    }
+
+}
@@ -0,0 +1,293 @@
+package fr.alexpado.syntaxic.options;
+
+import fr.alexpado.syntaxic.Utf8Tokens;
+import fr.alexpado.syntaxic.interfaces.IOptionSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The InfixOptions are an {@link IOptionSource} completing a token with the values containing it anywhere, such as
+ * <code>javascript</code> for <code>script</code>, instead of only the values starting with it.
+ * <p>
+ * A trigram index is built once when creating the InfixOptions: for each sequence of three characters, the sorted
+ * indexes of the values containing it. Completing a token intersects the lists of its trigrams, starting with the
+ * shortest one, and verifies the remaining candidates, so that the cost grows with the amount of values sharing the
+ * trigrams of the token rather than with the amount of values. Tokens shorter than three characters are completed by
+ * prefix.
+ * <p>
+ * At most <code>limit</code> values are returned, values starting with the token first, then values in which the token
+ * appears earlier, then shorter values. Lookups are done by the wrapped {@link IOptionSource}. InfixOptions are
+ * immutable and can be shared by several threads.
+ */
+public final class InfixOptions extends AbstractList<String> implements IOptionSource, RandomAccess {
+
+    private static final int GRAM = 3;
+
+    private final IOptionSource source;
+    private final int           limit;
+    private final long[]        grams;
+    private final int[]         offsets;
+    private final int[]         postings;
+
+    private InfixOptions(IOptionSource source, int limit, long[] grams, int[] offsets, int[] postings) {
+
+        this.source   = source;
+        this.limit    = limit;
+        this.grams    = grams;
+        this.offsets  = offsets;
+        this.postings = postings;
+    }
+
+    /**
+     * Create the {@link InfixOptions} completing the provided values, held by {@link RadixOptions}.
+     *
+     * @param values The possible values.
+     * @param limit  The maximum amount of values returned by a completion.
+     *
+     * @return The {@link InfixOptions} of the values.
+     */
+    public static @NotNull InfixOptions of(@NotNull Collection<String> values, int limit) {
+
+        return of(RadixOptions.of(values), limit);
+    }
+
+    /**
+     * Create the {@link InfixOptions} completing the values of the provided {@link IOptionSource}, indexing them once.
+     *
+     * @param source The {@link IOptionSource} holding the possible values, which shouldn't change afterwards.
+     * @param limit  The maximum amount of values returned by a completion.
+     *
+     * @return The {@link InfixOptions} of the values.
+     */
+    public static @NotNull InfixOptions of(@NotNull IOptionSource source, int limit) {
+
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The completion limit must be positive.");
+        }
+
+        Map<Long, int[]> lists = new HashMap<>();
+        Set<Long>        seen  = new HashSet<>();
+        int              total = 0;
+
+        for (int index = 0; index < source.size(); index++) {
+            String value = source.get(index);
+            seen.clear();
+
+            for (int i = 0; i + GRAM <= value.length(); i++) {
+                long gram = gram(value, i);
+
+                if (seen.add(gram)) {
+                    int[] list = lists.computeIfAbsent(gram, key -> new int[]{0, 0, 0, 0, 0});
+
+                    if (list[0] + 1 == list.length) {
+                        list = Arrays.copyOf(list, list.length * 2);
+                        lists.put(gram, list);
+                    }
+
+                    // The first cell holds the amount of indexes.
+                    list[++list[0]] = index;
+                    total++;
+                }
+            }
+        }
+
+        long[] grams    = lists.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int[]  offsets  = new int[grams.length + 1];
+        int[]  postings = new int[total];
+
+        for (int i = 0; i < grams.length; i++) {
+            int[] list = lists.get(grams[i]);
+
+            System.arraycopy(list, 1, postings, offsets[i], list[0]);
+            offsets[i + 1] = offsets[i] + list[0];
+        }
+
+        return new InfixOptions(source, limit, grams, offsets, postings);
+    }
+
+    /**
+     * Pack the three characters at the provided position into a single key.
+     */
+    private static long gram(String value, int position) {
+
+        return (long) value.charAt(position) << 32 | (long) value.charAt(position + 1) << 16 | value.charAt(position + 2);
+    }
+
+    @Override
+    public String get(int index) {
+
+        return this.source.get(index);
+    }
+
+    @Override
+    public int size() {
+
+        return this.source.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+
+        return this.source.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+
+        return this.source.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+
+        return this.source.lastIndexOf(o);
+    }
+
+    @Override
+    public @Nullable String find(@NotNull Utf8Tokens tokens, int index) {
+
+        return this.source.find(tokens, index);
+    }
+
+    /**
+     * Add the values containing the provided token to the provided collection, up to the limit of these
+     * {@link InfixOptions}. Tokens shorter than three characters are completed by prefix.
+     *
+     * @param prefix     The token to complete.
+     * @param completion The collection receiving the values.
+     *
+     * @return True if at least one value contains the token.
+     */
+    @Override
+    public boolean complete(@NotNull String prefix, @NotNull Collection<String> completion) {
+
+        if (prefix.length() < GRAM) {
+            List<String> values = new ArrayList<>();
+            this.source.complete(prefix, values);
+            return this.rank(values, prefix, completion);
+        }
+
+        int[] candidates = this.candidates(prefix);
+
+        if (candidates == null) {
+            return false;
+        }
+
+        List<String> values = new ArrayList<>();
+
+        for (int candidate : candidates) {
+            if (candidate < 0) {
+                break;
+            }
+
+            String value = this.source.get(candidate);
+
+            if (value.contains(prefix)) {
+                values.add(value);
+            }
+        }
+        return this.rank(values, prefix, completion);
+    }
+
+    /**
+     * Intersect the lists of every trigram of the provided token, starting with the shortest one.
+     *
+     * @return The candidates, followed by <code>-1</code> if there are less candidates than cells, or null if a trigram
+     *         appears in no value.
+     */
+    private int @Nullable [] candidates(String token) {
+
+        int   count = token.length() - GRAM + 1;
+        int[] lists = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            lists[i] = Arrays.binarySearch(this.grams, gram(token, i));
+
+            if (lists[i] < 0) {
+                return null;
+            }
+        }
+
+        Arrays.sort(lists);
+        int shortest = lists[0];
+
+        for (int list : lists) {
+            if (this.length(list) < this.length(shortest)) {
+                shortest = list;
+            }
+        }
+
+        int[] candidates = Arrays.copyOfRange(this.postings, this.offsets[shortest], this.offsets[shortest + 1]);
+        int   size       = candidates.length;
+
+        for (int i = 0; i < count && size > 0; i++) {
+            if (lists[i] != shortest && (i == 0 || lists[i] != lists[i - 1])) {
+                size = this.retain(candidates, size, lists[i]);
+            }
+        }
+
+        if (size < candidates.length) {
+            candidates[size] = -1;
+        }
+        return candidates;
+    }
+
+    /**
+     * Keep the first <code>size</code> candidates that appear in the list of the provided trigram.
+     *
+     * @return The amount of remaining candidates.
+     */
+    private int retain(int[] candidates, int size, int list) {
+
+        int from     = this.offsets[list];
+        int to       = this.offsets[list + 1];
+        int retained = 0;
+
+        for (int i = 0; i < size; i++) {
+            int found = Arrays.binarySearch(this.postings, from, to, candidates[i]);
+
+            if (found >= 0) {
+                candidates[retained++] = candidates[i];
+                from                   = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return retained;
+    }
+
+    private int length(int list) {
+
+        return this.offsets[list + 1] - this.offsets[list];
+    }
+
+    /**
+     * Add the best values, up to the limit, to the provided collection.
+     *
+     * @return True if there was at least one value.
+     */
+    private boolean rank(List<String> values, String token, Collection<String> completion) {
+
+        Comparator<String> order = Comparator.<String>comparingInt(value -> value.indexOf(token))
+                .thenComparingInt(String::length)
+                .thenComparing(Comparator.naturalOrder());
+
+        PriorityQueue<String> best = new PriorityQueue<>(Math.min(this.limit, values.size()) + 1, order.reversed());
+
+        for (String value : values) {
+            best.add(value);
+
+            if (best.size() > this.limit) {
+                best.poll();
+            }
+        }
+
+        List<String> ranked = new ArrayList<>(best);
+        ranked.sort(order);
+        completion.addAll(ranked);
+        return !values.isEmpty();
+    }
+
+}
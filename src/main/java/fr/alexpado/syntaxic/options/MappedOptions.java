@@ -0,0 +1,237 @@
+package fr.alexpado.syntaxic.options;
+
+import fr.alexpado.syntaxic.Utf8Tokens;
+import fr.alexpado.syntaxic.interfaces.IOptionSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * The MappedOptions are an {@link IOptionSource} reading its values from a memory-mapped file written by a
+ * {@link MappedOptionsBuilder}, so that huge sets of possible values (ex: every username) aren't kept on the heap.
+ * <p>
+ * The file holds the UTF-8 encoded values sorted by their bytes, along with the offset of each value. Values are looked
+ * up by binary search and completed by locating the range of values starting with the prefix, comparing raw bytes
+ * without decoding them. Values are only decoded when they are returned.
+ * <p>
+ * The file is mapped read-only and can't be larger than 2 GiB. It is unmapped once the MappedOptions are garbage
+ * collected. MappedOptions are immutable and can be shared by several threads.
+ */
+public final class MappedOptions extends AbstractList<String> implements IOptionSource, RandomAccess {
+
+    /**
+     * The first four bytes of every file written by a {@link MappedOptionsBuilder}.
+     */
+    static final int MAGIC = 0x53594F50;
+
+    /**
+     * The size of the header of the file, holding the {@link #MAGIC} and the amount of values.
+     */
+    static final int HEADER = 8;
+
+    private final ByteBuffer buffer;
+    private final int        count;
+    private final int        data;
+
+    private MappedOptions(ByteBuffer buffer) throws IOException {
+
+        if (buffer.capacity() < HEADER || buffer.getInt(0) != MAGIC) {
+            throw new IOException("The file doesn't contain mapped options");
+        }
+
+        this.buffer = buffer;
+        this.count  = buffer.getInt(4);
+
+        if (this.count < 0 || this.count >= (buffer.capacity() - HEADER) / Integer.BYTES) {
+            throw new IOException("The mapped options file is truncated");
+        }
+
+        this.data = HEADER + (this.count + 1) * Integer.BYTES;
+
+        if (this.data + this.offset(this.count) != buffer.capacity()) {
+            throw new IOException("The mapped options file is truncated");
+        }
+    }
+
+    /**
+     * Map the provided file, written by a {@link MappedOptionsBuilder}.
+     *
+     * @param file The file to map.
+     *
+     * @return The {@link MappedOptions} reading the file.
+     *
+     * @throws IOException Thrown if the file can't be mapped or doesn't contain mapped options.
+     */
+    public static @NotNull MappedOptions open(@NotNull Path file) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("The mapped options file can't be larger than 2 GiB");
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedOptions(buffer);
+        }
+    }
+
+    /**
+     * Retrieve the value at the provided index. Values are sorted by their UTF-8 bytes, which is the order of their
+     * code points.
+     *
+     * @param index The index of the value.
+     *
+     * @return The decoded value.
+     */
+    @Override
+    public String get(int index) {
+
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.count);
+        }
+
+        int    start = this.offset(index);
+        byte[] bytes = new byte[this.offset(index + 1) - start];
+
+        this.buffer.duplicate().position(this.data + start).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int size() {
+
+        return this.count;
+    }
+
+    /**
+     * Check if the provided object is one of the values, using a binary search.
+     *
+     * @param o The object to look up.
+     *
+     * @return True if the object is one of the values.
+     */
+    @Override
+    public boolean contains(Object o) {
+
+        return this.indexOf(o) >= 0;
+    }
+
+    /**
+     * Retrieve the index of the provided object, using a binary search.
+     *
+     * @param o The object to look up.
+     *
+     * @return The index of the value, or <code>-1</code> if the object isn't one of the values.
+     */
+    @Override
+    public int indexOf(Object o) {
+
+        if (!(o instanceof String)) {
+            return -1;
+        }
+
+        return this.search(ByteBuffer.wrap(((String) o).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+
+        return this.indexOf(o);
+    }
+
+    @Override
+    public boolean complete(@NotNull String prefix, @NotNull Collection<String> completion) {
+
+        ByteBuffer encoded = ByteBuffer.wrap(prefix.getBytes(StandardCharsets.UTF_8));
+        int        from    = this.lowerBound(encoded, false);
+        int        to      = this.lowerBound(encoded, true);
+
+        for (int i = from; i < to; i++) {
+            completion.add(this.get(i));
+        }
+        return from < to;
+    }
+
+    @Override
+    public @Nullable String find(@NotNull Utf8Tokens tokens, int index) {
+
+        int found = this.search(tokens.wrap(index));
+        return found < 0 ? null : this.get(found);
+    }
+
+    /**
+     * Retrieve the offset, from the start of the values, of the value at the provided index.
+     */
+    private int offset(int index) {
+
+        return this.buffer.getInt(HEADER + index * Integer.BYTES);
+    }
+
+    /**
+     * Find the index of the value equal to the provided bytes.
+     *
+     * @return The index of the value, or <code>-1</code> if there is none.
+     */
+    private int search(ByteBuffer key) {
+
+        int index = this.lowerBound(key, false);
+        return index < this.count && this.compare(index, key, false) == 0 ? index : -1;
+    }
+
+    /**
+     * Find the index of the first value that isn't lower than the provided bytes. When <code>prefixed</code> is true,
+     * values starting with the provided bytes are considered lower, which gives the end of the range of values starting
+     * with them.
+     */
+    private int lowerBound(ByteBuffer key, boolean prefixed) {
+
+        int low  = 0;
+        int high = this.count;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (this.compare(middle, key, prefixed) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compare the unsigned bytes of the value at the provided index to the provided bytes. When <code>prefixed</code>
+     * is true, a value starting with the provided bytes is considered lower.
+     */
+    private int compare(int index, ByteBuffer key, boolean prefixed) {
+
+        int start  = this.data + this.offset(index);
+        int length = this.data + this.offset(index + 1) - start;
+        int limit  = key.remaining();
+        int shared = Math.min(length, limit);
+
+        for (int i = 0; i < shared; i++) {
+            int difference = Byte.toUnsignedInt(this.buffer.get(start + i)) - Byte.toUnsignedInt(key.get(key.position() + i));
+
+            if (difference != 0) {
+                return difference;
+            }
+        }
+
+        if (prefixed && length >= limit) {
+            return -1;
+        }
+        return length - limit;
+    }
+
+}
@@ -0,0 +1,133 @@
+package fr.alexpado.syntaxic.options;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Builder allowing to write the file read by {@link MappedOptions} from a list of values, such as a text file holding
+ * one value per line.
+ * <p>
+ * Values are kept encoded in UTF-8 until the file is written, then sorted by their bytes. Duplicated and empty values
+ * are ignored.
+ */
+public class MappedOptionsBuilder {
+
+    private final List<byte[]> values;
+    private       long         length;
+
+    /**
+     * Create a new {@link MappedOptionsBuilder}.
+     */
+    public MappedOptionsBuilder() {
+
+        this.values = new ArrayList<>();
+        this.length = 0;
+    }
+
+    /**
+     * Add the provided value.
+     *
+     * @param value The value to add.
+     *
+     * @return This {@link MappedOptionsBuilder}.
+     */
+    public @NotNull MappedOptionsBuilder add(@NotNull String value) {
+
+        if (!value.isEmpty()) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+
+            this.values.add(encoded);
+            this.length += encoded.length;
+        }
+        return this;
+    }
+
+    /**
+     * Add every provided value.
+     *
+     * @param values The values to add.
+     *
+     * @return This {@link MappedOptionsBuilder}.
+     */
+    public @NotNull MappedOptionsBuilder addAll(@NotNull Iterable<String> values) {
+
+        for (String value : values) {
+            this.add(value);
+        }
+        return this;
+    }
+
+    /**
+     * Add every line of the provided UTF-8 encoded text file as a value.
+     *
+     * @param file The text file to read.
+     *
+     * @return This {@link MappedOptionsBuilder}.
+     *
+     * @throws IOException Thrown if the file can't be read.
+     */
+    public @NotNull MappedOptionsBuilder addLines(@NotNull Path file) throws IOException {
+
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            lines.forEach(this::add);
+        }
+        return this;
+    }
+
+    /**
+     * Write the added values into the provided file, replacing it if it exists, and map it.
+     *
+     * @param file The file to write.
+     *
+     * @return The {@link MappedOptions} reading the written file.
+     *
+     * @throws IOException Thrown if the file can't be written, or if it would be larger than 2 GiB.
+     */
+    public @NotNull MappedOptions write(@NotNull Path file) throws IOException {
+
+        byte[][] sorted = this.values.toArray(new byte[0][]);
+        Arrays.sort(sorted, Arrays::compareUnsigned);
+
+        int count = 0;
+
+        for (int i = 0; i < sorted.length; i++) {
+            if (count == 0 || !Arrays.equals(sorted[count - 1], sorted[i])) {
+                sorted[count++] = sorted[i];
+            }
+        }
+
+        if (MappedOptions.HEADER + (count + 1L) * Integer.BYTES + this.length > Integer.MAX_VALUE) {
+            throw new IOException("The mapped options file can't be larger than 2 GiB");
+        }
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MappedOptions.MAGIC);
+            output.writeInt(count);
+
+            int offset = 0;
+
+            for (int i = 0; i < count; i++) {
+                output.writeInt(offset);
+                offset += sorted[i].length;
+            }
+            output.writeInt(offset);
+
+            for (int i = 0; i < count; i++) {
+                output.write(sorted[i]);
+            }
+        }
+
+        return MappedOptions.open(file);
+    }
+
+}
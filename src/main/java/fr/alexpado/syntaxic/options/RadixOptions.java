@@ -0,0 +1,329 @@
+package fr.alexpado.syntaxic.options;
+
+import fr.alexpado.syntaxic.interfaces.IOptionSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * The RadixOptions are an {@link IOptionSource} keeping its values on the heap as a radix tree, in which values
+ * sharing a prefix share the nodes holding it. Typical dictionaries of names take several times less memory than a
+ * {@link java.util.List} of strings.
+ * <p>
+ * Nodes are packed into a few arrays in breadth-first order, the children of a node being contiguous and sorted by the
+ * first character of their label. Each node knows the index of its first value and the amount of values below it, so
+ * that the index of a value, which is its ordinal in sorted order, is found while looking it up.
+ * <p>
+ * Values are sorted using {@link String#compareTo(String)}. Looking up a value takes a time proportional to its length,
+ * and completing a prefix a time proportional to the length of the prefix and of the values returned. RadixOptions are
+ * immutable and can be shared by several threads.
+ */
+public final class RadixOptions extends AbstractList<String> implements IOptionSource, RandomAccess {
+
+    private final char[] labels;
+    private final int[]  labelEnds;
+    private final int[]  children;
+    private final int[]  starts;
+    private final int[]  sizes;
+    private final long[] terminals;
+
+    private RadixOptions(char[] labels, int[] labelEnds, int[] children, int[] starts, int[] sizes, long[] terminals) {
+
+        this.labels    = labels;
+        this.labelEnds = labelEnds;
+        this.children  = children;
+        this.starts    = starts;
+        this.sizes     = sizes;
+        this.terminals = terminals;
+    }
+
+    /**
+     * Create the {@link RadixOptions} holding the provided values. Duplicated and empty values are ignored.
+     *
+     * @param values The values to hold.
+     *
+     * @return The {@link RadixOptions} holding the values.
+     */
+    public static @NotNull RadixOptions of(@NotNull Collection<String> values) {
+
+        String[] sorted = values.stream().filter(value -> !value.isEmpty()).distinct().sorted().toArray(String[]::new);
+
+        // A radix tree has at most two nodes per value, plus the root.
+        int    capacity  = sorted.length * 2 + 1;
+        int[]  froms     = new int[capacity];
+        int[]  tos       = new int[capacity];
+        int[]  depths    = new int[capacity];
+        int[]  labelEnds = new int[capacity];
+        int[]  children  = new int[capacity + 1];
+        long[] terminals = new long[(capacity + 63) >>> 6];
+        int    count     = 1;
+
+        StringBuilder labels = new StringBuilder();
+        tos[0] = sorted.length;
+
+        for (int node = 0; node < count; node++) {
+            int from  = froms[node];
+            int to    = tos[node];
+            int depth = depths[node];
+            int i     = from;
+
+            children[node] = count;
+
+            // Values are distinct and sorted, so only the first one may end on this node.
+            if (i < to && sorted[i].length() == depth) {
+                terminals[node >>> 6] |= 1L << node;
+                i++;
+            }
+
+            while (i < to) {
+                char c = sorted[i].charAt(depth);
+                int  j = i + 1;
+
+                while (j < to && sorted[j].charAt(depth) == c) {
+                    j++;
+                }
+
+                int end = commonPrefix(sorted[i], sorted[j - 1], depth + 1);
+
+                labels.append(sorted[i], depth, end);
+                froms[count]     = i;
+                tos[count]       = j;
+                depths[count]    = end;
+                labelEnds[count] = labels.length();
+                count++;
+
+                i = j;
+            }
+        }
+
+        children[count] = count;
+
+        int[] sizes = new int[count];
+
+        for (int node = 0; node < count; node++) {
+            sizes[node] = tos[node] - froms[node];
+        }
+
+        return new RadixOptions(
+                labels.toString().toCharArray(),
+                Arrays.copyOf(labelEnds, count),
+                Arrays.copyOf(children, count + 1),
+                Arrays.copyOf(froms, count),
+                sizes,
+                Arrays.copyOf(terminals, (count + 63) >>> 6)
+        );
+    }
+
+    /**
+     * Retrieve the length of the common prefix of the provided values, knowing that it is at least <code>from</code>.
+     */
+    private static int commonPrefix(String first, String last, int from) {
+
+        int limit = Math.min(first.length(), last.length());
+        int end   = from;
+
+        while (end < limit && first.charAt(end) == last.charAt(end)) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Retrieve the value at the provided index, which is its ordinal in sorted order.
+     *
+     * @param index The index of the value.
+     *
+     * @return The value.
+     */
+    @Override
+    public String get(int index) {
+
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.size());
+        }
+
+        StringBuilder value = new StringBuilder();
+        int           node  = 0;
+
+        while (!this.isTerminal(node) || this.starts[node] != index) {
+            int low  = this.children[node];
+            int high = this.children[node + 1] - 1;
+
+            // Find the last child whose first value isn't after the index.
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+
+                if (this.starts[middle] <= index) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            node = low;
+            value.append(this.labels, this.labelStart(node), this.labelLength(node));
+        }
+
+        return value.toString();
+    }
+
+    @Override
+    public int size() {
+
+        return this.sizes[0];
+    }
+
+    /**
+     * Check if the provided object is one of the values.
+     *
+     * @param o The object to look up.
+     *
+     * @return True if the object is one of the values.
+     */
+    @Override
+    public boolean contains(Object o) {
+
+        return this.indexOf(o) >= 0;
+    }
+
+    /**
+     * Retrieve the index of the provided object, which is the ordinal of the value in sorted order.
+     *
+     * @param o The object to look up.
+     *
+     * @return The ordinal of the value, or <code>-1</code> if the object isn't one of the values.
+     */
+    @Override
+    public int indexOf(Object o) {
+
+        if (!(o instanceof String)) {
+            return -1;
+        }
+
+        long location = this.locate((String) o);
+        int  node     = (int) location;
+
+        return location >= 0 && location >>> 32 == 0 && this.isTerminal(node) ? this.starts[node] : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+
+        return this.indexOf(o);
+    }
+
+    @Override
+    public boolean complete(@NotNull String prefix, @NotNull Collection<String> completion) {
+
+        long location = this.locate(prefix);
+        int  node     = (int) location;
+
+        if (location < 0 || this.sizes[node] == 0) {
+            return false;
+        }
+
+        int           remaining = (int) (location >>> 32);
+        StringBuilder value     = new StringBuilder(prefix.length() + remaining + 16);
+
+        value.append(prefix);
+        value.append(this.labels, this.labelEnds[node] - remaining, remaining);
+
+        this.collect(node, value, completion);
+        return true;
+    }
+
+    /**
+     * Find the node whose path starts with the provided prefix and whose parent's path doesn't.
+     *
+     * @return The node in the lower 32 bits and the amount of characters of its path after the prefix in the upper 32
+     *         bits, or <code>-1</code> if no value starts with the prefix.
+     */
+    private long locate(String prefix) {
+
+        int node  = 0;
+        int depth = 0;
+
+        while (depth < prefix.length()) {
+            int child = this.child(node, prefix.charAt(depth));
+
+            if (child < 0) {
+                return -1;
+            }
+
+            int start  = this.labelStart(child);
+            int length = Math.min(this.labelLength(child), prefix.length() - depth);
+
+            for (int i = 1; i < length; i++) {
+                if (this.labels[start + i] != prefix.charAt(depth + i)) {
+                    return -1;
+                }
+            }
+
+            node = child;
+            depth += this.labelLength(child);
+        }
+        return (long) (depth - prefix.length()) << 32 | node;
+    }
+
+    /**
+     * Find the child of the provided node whose label starts with the provided character.
+     *
+     * @return The child, or <code>-1</code> if there is none.
+     */
+    private int child(int node, char c) {
+
+        int low  = this.children[node];
+        int high = this.children[node + 1] - 1;
+
+        while (low <= high) {
+            int  middle = (low + high) >>> 1;
+            char first  = this.labels[this.labelStart(middle)];
+
+            if (first < c) {
+                low = middle + 1;
+            } else if (first > c) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Add every value below the provided node, in sorted order, the provided path being the path of the node.
+     */
+    private void collect(int node, StringBuilder path, Collection<String> completion) {
+
+        if (this.isTerminal(node)) {
+            completion.add(path.toString());
+        }
+
+        int length = path.length();
+
+        for (int child = this.children[node]; child < this.children[node + 1]; child++) {
+            path.append(this.labels, this.labelStart(child), this.labelLength(child));
+            this.collect(child, path, completion);
+            path.setLength(length);
+        }
+    }
+
+    private int labelStart(int node) {
+
+        return node == 0 ? 0 : this.labelEnds[node - 1];
+    }
+
+    private int labelLength(int node) {
+
+        return this.labelEnds[node] - this.labelStart(node);
+    }
+
+    private boolean isTerminal(int node) {
+
+        return (this.terminals[node >>> 6] & 1L << node) != 0;
+    }
+
+}
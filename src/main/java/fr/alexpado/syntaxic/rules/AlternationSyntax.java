@@ -0,0 +1,190 @@
+package fr.alexpado.syntaxic.rules;
+
+import fr.alexpado.syntaxic.SyntaxService;
+import fr.alexpado.syntaxic.Utf8Tokens;
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * The AlternationSyntax represents an {@link ISyntax} that will match one of a fixed set of literals, such as the
+ * aliases of a word. A single container using an AlternationSyntax replaces one container per alternative.
+ * <p>
+ * Unlike a {@link SelectiveSyntax}, whose values may change, the alternatives are known when the syntax is created.
+ * They are then looked up in immutable hash tables, either by value or by raw UTF-8 bytes.
+ * <p>
+ * An AlternationSyntax is represented by literals separated by pipes, between parentheses (ex:
+ * <code>(lang|language)</code>). The name of the syntax is the first alternative, unless a name followed by a colon is
+ * provided (ex: <code>(mode:fast|slow)</code>). The value matched is always the alternative used by the user.
+ */
+public class AlternationSyntax implements ISyntax {
+
+    private final     String                  name;
+    private final     List<String>            alternatives;
+    private final     Set<String>             lookup;
+    private final     Map<ByteBuffer, String> encoded;
+    private @Nullable String                  lastMatch;
+
+    /**
+     * Create a new instance of this {@link ISyntax} implementation.
+     *
+     * @param name The representation of this {@link ISyntax}.
+     */
+    public AlternationSyntax(String name) {
+
+        String content = SyntaxService.getName(name, "(", ")");
+        int    pipe    = content.indexOf('|');
+        int    colon   = content.indexOf(':');
+
+        String explicitName = null;
+
+        if (colon >= 0 && (pipe < 0 || colon < pipe)) {
+            explicitName = content.substring(0, colon);
+            content      = content.substring(colon + 1);
+        }
+
+        List<String> values = Arrays.asList(content.split("\\|", -1));
+
+        if (values.contains("") || (explicitName != null && explicitName.isEmpty())) {
+            throw new IllegalArgumentException("Wrong alternation declaration: Should be (a|b) or (name:a|b)");
+        }
+
+        Map<ByteBuffer, String> encodedValues = new HashMap<>();
+
+        for (String value : values) {
+            encodedValues.put(ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)), value);
+        }
+
+        this.name         = explicitName == null ? values.get(0) : explicitName;
+        this.alternatives = List.copyOf(new LinkedHashSet<>(values));
+        this.lookup       = Set.copyOf(this.alternatives);
+        this.encoded      = Map.copyOf(encodedValues);
+        this.lastMatch    = null;
+    }
+
+    /**
+     * Retrieve this {@link ISyntax}'s name.
+     * <p>
+     * The returned value may then be used to retrieve the value from {@link ISyntaxContainer#getMatches()}.
+     *
+     * @return This {@link ISyntax}'s name.
+     */
+    @Override
+    public @NotNull String getName() {
+
+        return this.name;
+    }
+
+    /**
+     * Retrieve the alternatives of this {@link ISyntax}, in declaration order.
+     *
+     * @return An immutable {@link List} of alternatives.
+     */
+    public @NotNull List<String> getAlternatives() {
+
+        return this.alternatives;
+    }
+
+    /**
+     * Retrieve the alternatives of this {@link ISyntax} as an immutable {@link Set}, for membership tests.
+     *
+     * @return An immutable {@link Set} of alternatives.
+     */
+    public @NotNull Set<String> getLookup() {
+
+        return this.lookup;
+    }
+
+    /**
+     * Retrieve the alternative equal to the token at the provided index of a UTF-8 encoded user's input, without
+     * decoding the token. This method doesn't change the state of this {@link ISyntax}.
+     *
+     * @param tokens The UTF-8 encoded user's input.
+     * @param index  The index of the token to look up.
+     *
+     * @return The alternative, or null if the token isn't one of them.
+     */
+    public @Nullable String find(@NotNull Utf8Tokens tokens, int index) {
+
+        return this.encoded.get(tokens.wrap(index));
+    }
+
+    /**
+     * Check if the provided string perfectly matches this {@link ISyntax} rules.
+     * <p>
+     * Every implementation of this method should only return <code>true</code> if, and only if, the provided string
+     * matches exactly the expected data format.
+     * <p>
+     * You may not use this method to check if the provided data matches partially the rules, for which {@link
+     * #isCompletable(String)} is more appropriate.
+     *
+     * @param data The data to check against this {@link ISyntax} rules.
+     *
+     * @return True if the provided data exactly matches this {@link ISyntax} rules, false otherwise.
+     */
+    @Override
+    public boolean isMatching(@NotNull String data) {
+
+        this.lastMatch = this.lookup.contains(data) ? data : null;
+        return this.lastMatch != null;
+    }
+
+    @Override
+    public boolean isMatching(@NotNull Utf8Tokens tokens, int index) {
+
+        this.lastMatch = this.find(tokens, index);
+        return this.lastMatch != null;
+    }
+
+    /**
+     * Retrieve the last value that matched with {@link #isMatching(String)}. This may return an empty optional if the
+     * last return value of {@link #isMatching(String)} was <code>false</code>.
+     *
+     * @return The last matched value.
+     */
+    @Override
+    public Optional<String> getLastMatch() {
+
+        return Optional.ofNullable(this.lastMatch);
+    }
+
+    /**
+     * Check if the provided string partially matches this {@link ISyntax} rules and can be auto-completed.
+     * <p>
+     * Every implementation of this method may behave similarly to {@link String#startsWith(String)} for better user
+     * experience with the auto-completion.
+     * <p>
+     * If this {@link ISyntax} isn't completable, this method should always return <code>false</code>.
+     *
+     * @param data The data to check against this {@link ISyntax} rules.
+     *
+     * @return True if the provided data can be auto-completed, false otherwise.
+     */
+    @Override
+    public boolean isCompletable(@NotNull String data) {
+
+        return this.alternatives.stream().anyMatch(value -> value.startsWith(data));
+    }
+
+    /**
+     * Retrieve a {@link List} of strings that matched the auto-complete of this {@link ISyntax}. All strings returned
+     * should be complete options that contains the original user's input, if applicable.
+     *
+     * @param data The data to complete using this {@link ISyntax} rules.
+     *
+     * @return A {@link List} of strings that matched the user's input.
+     *
+     * @see #isCompletable(String)
+     */
+    @Override
+    public List<String> complete(@NotNull String data) {
+
+        return this.alternatives.stream().filter(value -> value.startsWith(data)).collect(Collectors.toList());
+    }
+}
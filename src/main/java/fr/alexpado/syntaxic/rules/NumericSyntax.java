@@ -0,0 +1,313 @@
+package fr.alexpado.syntaxic.rules;
+
+import fr.alexpado.syntaxic.SyntaxService;
+import fr.alexpado.syntaxic.Utf8Tokens;
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The NumericSyntax represents an {@link ISyntax} that will match a signed decimal integer within optional bounds.
+ * <p>
+ * Digits are validated, parsed and checked against the bounds in a single pass, without any regex, and the parsed
+ * value is kept by the {@link ISyntaxContainer} so it can be read back without parsing it again.
+ * <p>
+ * By design, {@link #complete(String)} will always return an empty list.
+ * <p>
+ * A NumericSyntax is represented by a name, a colon, a type (<code>int</code> or <code>long</code>) and optional
+ * inclusive bounds, everything being between angle brackets (ex: <code>&lt;count:int 1..100&gt;</code>). Each bound
+ * may be omitted (ex: <code>&lt;offset:long ..0&gt;</code>). As {@link Long#MIN_VALUE} is used as {@link #INVALID}
+ * value, it can never be matched.
+ */
+public class NumericSyntax implements ISyntax {
+
+    /**
+     * The value returned by {@link #parse(CharSequence)} and {@link #parse(Utf8Tokens, int)} for rejected inputs.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final String INT  = "int";
+    private static final String LONG = "long";
+
+    // Longest valid input: a sign followed by the 19 digits of Long.MAX_VALUE.
+    private static final int MAX_LENGTH = 20;
+
+    private final     String name;
+    private final     long   minimum;
+    private final     long   maximum;
+    private @Nullable String lastMatch;
+
+    /**
+     * Create a new instance of this {@link ISyntax} implementation.
+     *
+     * @param name The name of this {@link ISyntax}.
+     */
+    public NumericSyntax(String name) {
+
+        String[] parts = SyntaxService.getName(name, "<", ">").split(":", 2);
+
+        if (parts.length != 2 || parts[0].isEmpty()) {
+            throw new IllegalArgumentException("Wrong numeric declaration: Should be <name:type> or <name:type min..max>");
+        }
+
+        String[] specification = parts[1].trim().split(" +");
+        long     lowest;
+        long     highest;
+
+        switch (specification[0]) {
+            case INT:
+                lowest  = Integer.MIN_VALUE;
+                highest = Integer.MAX_VALUE;
+                break;
+            case LONG:
+                lowest  = -Long.MAX_VALUE;
+                highest = Long.MAX_VALUE;
+                break;
+            default:
+                throw new IllegalArgumentException("Wrong numeric type: Should be int or long, got " + specification[0]);
+        }
+
+        if (specification.length > 2) {
+            throw new IllegalArgumentException("Wrong numeric declaration: Should be <name:type> or <name:type min..max>");
+        }
+
+        long min = lowest;
+        long max = highest;
+
+        if (specification.length == 2) {
+            String range     = specification[1];
+            int    separator = range.indexOf("..");
+
+            if (separator < 0) {
+                throw new IllegalArgumentException("Wrong numeric range: Should be min..max, got " + range);
+            }
+
+            String from = range.substring(0, separator);
+            String to   = range.substring(separator + 2);
+
+            try {
+                min = from.isEmpty() ? lowest : Long.parseLong(from);
+                max = to.isEmpty() ? highest : Long.parseLong(to);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Wrong numeric range: Should be min..max, got " + range, e);
+            }
+        }
+
+        if (min < lowest || max > highest || min > max) {
+            throw new IllegalArgumentException(String.format(
+                    "Wrong numeric range: %s..%s is empty or out of the %s range",
+                    min,
+                    max,
+                    specification[0]
+            ));
+        }
+
+        this.name      = parts[0];
+        this.minimum   = min;
+        this.maximum   = max;
+        this.lastMatch = null;
+    }
+
+    /**
+     * Retrieve this {@link ISyntax}'s name.
+     * <p>
+     * The returned value may then be used to retrieve the value from {@link ISyntaxContainer#getMatches()}.
+     *
+     * @return This {@link ISyntax}'s name.
+     */
+    @Override
+    public @NotNull String getName() {
+
+        return this.name;
+    }
+
+    /**
+     * Retrieve the lowest value, inclusive, matched by this {@link ISyntax}.
+     *
+     * @return The lowest value.
+     */
+    public long getMinimum() {
+
+        return this.minimum;
+    }
+
+    /**
+     * Retrieve the highest value, inclusive, matched by this {@link ISyntax}.
+     *
+     * @return The highest value.
+     */
+    public long getMaximum() {
+
+        return this.maximum;
+    }
+
+    /**
+     * Parse the provided string as a signed decimal integer, checking it against the bounds of this {@link ISyntax}.
+     * This method doesn't change the state of this {@link ISyntax}.
+     *
+     * @param data The data to parse.
+     *
+     * @return The parsed value, or {@link #INVALID} if the data isn't a number within the bounds.
+     */
+    public long parse(@NotNull CharSequence data) {
+
+        int length = data.length();
+
+        if (length == 0 || length > MAX_LENGTH) {
+            return INVALID;
+        }
+
+        char    first    = data.charAt(0);
+        boolean negative = first == '-';
+        int     from     = negative || first == '+' ? 1 : 0;
+        long    result   = 0;
+
+        if (from == length) {
+            return INVALID;
+        }
+
+        // Accumulated negatively, as the negative range is larger than the positive one.
+        for (int i = from; i < length; i++) {
+            int digit = data.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9 || result < -(Long.MAX_VALUE / 10) || result * 10 < -Long.MAX_VALUE + digit) {
+                return INVALID;
+            }
+
+            result = result * 10 - digit;
+        }
+
+        return this.bounded(negative ? result : -result);
+    }
+
+    /**
+     * Same as {@link #parse(CharSequence)}, but reading the token at the provided index of a UTF-8 encoded user's
+     * input without decoding it.
+     *
+     * @param tokens The UTF-8 encoded user's input.
+     * @param index  The index of the token to parse.
+     *
+     * @return The parsed value, or {@link #INVALID} if the token isn't a number within the bounds.
+     */
+    public long parse(@NotNull Utf8Tokens tokens, int index) {
+
+        int length = tokens.length(index);
+
+        if (length == 0 || length > MAX_LENGTH) {
+            return INVALID;
+        }
+
+        byte    first    = tokens.byteAt(index, 0);
+        boolean negative = first == '-';
+        int     from     = negative || first == '+' ? 1 : 0;
+        long    result   = 0;
+
+        if (from == length) {
+            return INVALID;
+        }
+
+        for (int i = from; i < length; i++) {
+            int digit = tokens.byteAt(index, i) - '0';
+
+            if (digit < 0 || digit > 9 || result < -(Long.MAX_VALUE / 10) || result * 10 < -Long.MAX_VALUE + digit) {
+                return INVALID;
+            }
+
+            result = result * 10 - digit;
+        }
+
+        return this.bounded(negative ? result : -result);
+    }
+
+    private long bounded(long value) {
+
+        return value < this.minimum || value > this.maximum ? INVALID : value;
+    }
+
+    /**
+     * Check if the provided string perfectly matches this {@link ISyntax} rules.
+     * <p>
+     * Every implementation of this method should only return <code>true</code> if, and only if, the provided string
+     * matches exactly the expected data format.
+     * <p>
+     * You may not use this method to check if the provided data matches partially the rules, for which {@link
+     * #isCompletable(String)} is more appropriate.
+     *
+     * @param data The data to check against this {@link ISyntax} rules.
+     *
+     * @return True if the provided data exactly matches this {@link ISyntax} rules, false otherwise.
+     */
+    @Override
+    public boolean isMatching(@NotNull String data) {
+
+        boolean matching = this.parse(data) != INVALID;
+
+        this.lastMatch = matching ? data : null;
+        return matching;
+    }
+
+    @Override
+    public boolean isMatching(@NotNull Utf8Tokens tokens, int index) {
+
+        boolean matching = this.parse(tokens, index) != INVALID;
+
+        this.lastMatch = matching ? tokens.get(index) : null;
+        return matching;
+    }
+
+    /**
+     * Retrieve the last value that matched with {@link #isMatching(String)}. This may return an empty optional if the
+     * last return value of {@link #isMatching(String)} was <code>false</code>.
+     *
+     * @return The last matched value.
+     */
+    @Override
+    public Optional<String> getLastMatch() {
+
+        return Optional.ofNullable(this.lastMatch);
+    }
+
+    /**
+     * Check if the provided string partially matches this {@link ISyntax} rules and can be auto-completed.
+     * <p>
+     * The provided data is completable if it is an optional sign followed by digits. Bounds aren't checked, as more
+     * digits may still be typed.
+     *
+     * @param data The data to check against this {@link ISyntax} rules.
+     *
+     * @return True if the provided data can be auto-completed, false otherwise.
+     */
+    @Override
+    public boolean isCompletable(@NotNull String data) {
+
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+
+            if ((c < '0' || c > '9') && (i > 0 || (c != '-' && c != '+'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieve a {@link List} of strings that matched the auto-complete of this {@link ISyntax}. All strings returned
+     * should be complete options that contains the original user's input, if applicable.
+     *
+     * @param data The data to complete using this {@link ISyntax} rules.
+     *
+     * @return A {@link List} of strings that matched the user's input.
+     *
+     * @see #isCompletable(String)
+     */
+    @Override
+    public List<String> complete(@NotNull String data) {
+
+        return Collections.emptyList();
+    }
+}
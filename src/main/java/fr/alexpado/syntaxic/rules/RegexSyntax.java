@@ -63,6 +63,16 @@ public class RegexSyntax implements ISyntax {
         return this.name;
     }
 
+    /**
+     * Retrieve the {@link Pattern} that user's inputs must match.
+     *
+     * @return The {@link Pattern} of this {@link ISyntax}.
+     */
+    public @NotNull Pattern getPattern() {
+
+        return this.pattern;
+    }
+
     /**
      * Check if the provided string perfectly matches this {@link ISyntax} rules.
      * <p>
@@ -1,12 +1,19 @@
 package fr.alexpado.syntaxic.rules;
 
 import fr.alexpado.syntaxic.SyntaxService;
+import fr.alexpado.syntaxic.Utf8Tokens;
+import fr.alexpado.syntaxic.interfaces.IOptionSource;
 import fr.alexpado.syntaxic.interfaces.ISyntax;
 import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -14,12 +21,16 @@ import java.util.stream.Collectors;
  * The SelectiveSyntax represents an {@link ISyntax} that will match only a set of predefined values.
  * <p>
  * A SelectiveSyntax is represented by a name between curly brackets (ex: <code>{syntax}</code>).
+ * <p>
+ * When the possible values are an {@link IOptionSource}, they are looked up and completed through it instead of being
+ * scanned or copied.
  */
 public class SelectiveSyntax implements ISyntax {
 
-    private final     String       name;
-    private final     List<String> values;
-    private @Nullable String       lastMatch;
+    private final     String                  name;
+    private final     List<String>            values;
+    private @Nullable String                  lastMatch;
+    private volatile  Map<ByteBuffer, String> encodedValues;
 
     /**
      * Create a new instance of this {@link ISyntax} implementation.
@@ -47,6 +58,16 @@ public class SelectiveSyntax implements ISyntax {
         return this.name;
     }
 
+    /**
+     * Retrieve the list of possible values for this {@link ISyntax}.
+     *
+     * @return The {@link List} of possible values.
+     */
+    public @NotNull List<String> getValues() {
+
+        return this.values;
+    }
+
     /**
      * Check if the provided string perfectly matches this {@link ISyntax} rules.
      * <p>
@@ -72,6 +93,43 @@ public class SelectiveSyntax implements ISyntax {
         return false;
     }
 
+    /**
+     * Check if the token at the provided index of the UTF-8 encoded user's input perfectly matches this {@link ISyntax}
+     * rules.
+     * <p>
+     * Possible values are encoded the first time this method is called, and tokens are then looked up by their raw
+     * bytes without being decoded. Changes made to the list of possible values afterwards won't be seen by this method.
+     * An {@link IOptionSource} is asked directly instead.
+     *
+     * @param tokens The UTF-8 encoded user's input.
+     * @param index  The index of the token to check.
+     *
+     * @return True if the token exactly matches this {@link ISyntax} rules, false otherwise.
+     */
+    @Override
+    public boolean isMatching(@NotNull Utf8Tokens tokens, int index) {
+
+        if (this.values instanceof IOptionSource) {
+            this.lastMatch = ((IOptionSource) this.values).find(tokens, index);
+            return this.lastMatch != null;
+        }
+
+        Map<ByteBuffer, String> encoded = this.encodedValues;
+
+        if (encoded == null) {
+            encoded = new HashMap<>();
+
+            for (String value : this.values) {
+                encoded.put(ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)), value);
+            }
+
+            this.encodedValues = encoded;
+        }
+
+        this.lastMatch = encoded.get(tokens.wrap(index));
+        return this.lastMatch != null;
+    }
+
     /**
      * Retrieve the last value that matched with {@link #isMatching(String)}. This may return an empty optional if the
      * last return value of {@link #isMatching(String)} was <code>false</code>.
@@ -99,6 +157,10 @@ public class SelectiveSyntax implements ISyntax {
     @Override
     public boolean isCompletable(@NotNull String data) {
 
+        if (this.values instanceof IOptionSource) {
+            return !this.complete(data).isEmpty();
+        }
+
         return this.values.stream().anyMatch(value -> value.startsWith(data));
     }
 
@@ -115,6 +177,12 @@ public class SelectiveSyntax implements ISyntax {
     @Override
     public List<String> complete(@NotNull String data) {
 
+        if (this.values instanceof IOptionSource) {
+            List<String> completion = new ArrayList<>();
+            ((IOptionSource) this.values).complete(data, completion);
+            return completion;
+        }
+
         return this.values.stream().filter(value -> value.startsWith(data)).collect(Collectors.toList());
     }
 }
@@ -1,10 +1,12 @@
 package fr.alexpado.syntaxic.rules;
 
+import fr.alexpado.syntaxic.Utf8Tokens;
 import fr.alexpado.syntaxic.interfaces.ISyntax;
 import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +18,7 @@ import java.util.Optional;
 public class WordSyntax implements ISyntax {
 
     private final     String name;
+    private final     byte[] encoded;
     private @Nullable String lastMatch;
 
     /**
@@ -26,6 +29,7 @@ public class WordSyntax implements ISyntax {
     public WordSyntax(String name) {
 
         this.name      = name;
+        this.encoded   = name.getBytes(StandardCharsets.UTF_8);
         this.lastMatch = null;
     }
 
@@ -67,6 +71,27 @@ public class WordSyntax implements ISyntax {
         return false;
     }
 
+    /**
+     * Check if the token at the provided index of the UTF-8 encoded user's input perfectly matches this {@link ISyntax}
+     * rules. The name being encoded once, this compares raw bytes without decoding the token.
+     *
+     * @param tokens The UTF-8 encoded user's input.
+     * @param index  The index of the token to check.
+     *
+     * @return True if the token exactly matches this {@link ISyntax} rules, false otherwise.
+     */
+    @Override
+    public boolean isMatching(@NotNull Utf8Tokens tokens, int index) {
+
+        if (tokens.equals(index, this.encoded)) {
+            this.lastMatch = this.name;
+            return true;
+        }
+
+        this.lastMatch = null;
+        return false;
+    }
+
     /**
      * Retrieve the last value that matched with {@link #isMatching(String)}. This may return an empty optional if the
      * last return value of {@link #isMatching(String)} was <code>false</code>.
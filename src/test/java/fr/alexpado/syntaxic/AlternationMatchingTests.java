@@ -0,0 +1,90 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import fr.alexpado.syntaxic.rules.AlternationSyntax;
+import fr.alexpado.syntaxic.rules.WordSyntax;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static fr.alexpado.syntaxic.CompletionTestData.assertListEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Alternation Matching")
+public class AlternationMatchingTests {
+
+    private static final Map<Integer, ISyntaxContainer> INPUT = new HashMap<>() {{
+        this.put(1, SyntaxUtils.toContainer(EMPTY_MAP, "(lang|language) switch (target:java|php|python|javascript|kotlin|c#)", 1));
+        this.put(2, SyntaxUtils.toContainer(EMPTY_MAP, "(lang|language) show message", 2));
+    }};
+
+    private static List<Optional<IMatchingResult<Integer>>> results(String data) {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(INPUT);
+
+        return Arrays.asList(
+                service.getMatchingResult(data),
+                service.getMatchingResult(data.getBytes(StandardCharsets.UTF_8)),
+                new SyntaxServiceBuilder<>(INPUT).withGeneratedMatchers().build().getMatchingResult(data)
+        );
+    }
+
+    @Test
+    @DisplayName("Declaration")
+    public void testAlternationDeclaration() {
+
+        AlternationSyntax aliases = (AlternationSyntax) SyntaxUtils.toSyntax(EMPTY_MAP, "(lang|language|lang)");
+        assertEquals("lang", aliases.getName());
+        assertEquals(Arrays.asList("lang", "language"), aliases.getAlternatives());
+
+        AlternationSyntax named = new AlternationSyntax("(mode:fast|slow)");
+        assertEquals("mode", named.getName());
+        assertEquals(Arrays.asList("fast", "slow"), named.getAlternatives());
+
+        assertTrue(SyntaxUtils.toSyntax(EMPTY_MAP, "(word)") instanceof WordSyntax);
+        assertThrows(IllegalArgumentException.class, () -> new AlternationSyntax("(a||b)"));
+        assertThrows(IllegalArgumentException.class, () -> new AlternationSyntax("(:a|b)"));
+    }
+
+    @Test
+    @DisplayName("Matching every alternative")
+    public void testAlternationMatch() {
+
+        for (String alias : Arrays.asList("lang", "language")) {
+            for (Optional<IMatchingResult<Integer>> result : results(alias + " switch c#")) {
+                assertEquals(1, result.orElseThrow().getIdentifier());
+                assertEquals(Optional.of(alias), result.get().getParameter("lang"));
+                assertEquals(Optional.of("c#"), result.get().getParameter("target"));
+            }
+
+            for (Optional<IMatchingResult<Integer>> result : results(alias + " show message")) {
+                assertEquals(2, result.orElseThrow().getIdentifier());
+            }
+        }
+
+        for (Optional<IMatchingResult<Integer>> result : results("languages switch java")) {
+            assertEquals(Optional.empty(), result);
+        }
+
+        for (Optional<IMatchingResult<Integer>> result : results("lang switch ruby")) {
+            assertEquals(Optional.empty(), result);
+        }
+    }
+
+    @Test
+    @DisplayName("Completion")
+    public void testAlternationCompletion() {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(INPUT);
+
+        assertListEquals(Arrays.asList("lang", "language"), service.complete("la"));
+        assertListEquals(Arrays.asList("java", "javascript"), service.complete("language switch j"));
+        assertListEquals(Collections.singletonList("show"), service.complete("lang sh"));
+    }
+
+}
@@ -0,0 +1,163 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static fr.alexpado.syntaxic.CompletionTestData.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Async Completion")
+public class AsyncCompletionTests {
+
+    @Test
+    @DisplayName("Complete asynchronously")
+    public void testAsyncComplete() throws Exception {
+
+        try (AsyncSyntaxService<Integer> service = new AsyncSyntaxService<>(new SyntaxService<>(DYNAMIC_INPUT))) {
+            List<String> results = service.complete("language switch j").get(5, TimeUnit.SECONDS);
+            assertListEquals(Arrays.asList("java", "javascript"), results);
+        }
+    }
+
+    @Test
+    @DisplayName("Match asynchronously")
+    public void testAsyncMatch() throws Exception {
+
+        try (AsyncSyntaxService<Integer> service = new AsyncSyntaxService<>(new SyntaxService<>(DYNAMIC_INPUT))) {
+            Optional<IMatchingResult<Integer>> results = service.getMatchingResult("language switch java", Duration.ofSeconds(5))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertTrue(results.isPresent());
+            assertEquals("java", results.get().getParameter("lang").orElse(null));
+        }
+    }
+
+    @Test
+    @DisplayName("Partial results after the deadline")
+    public void testAsyncCompletePartialResults() throws Exception {
+
+        CountDownLatch latch = new CountDownLatch(1);
+
+        // An option list that blocks until the test is over, as a slow store would.
+        List<String> slowOptions = new AbstractList<>() {
+
+            @Override
+            public String get(int index) {
+
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }
+
+            @Override
+            public int size() {
+
+                return 1;
+            }
+        };
+
+        Map<String, List<String>> options = new HashMap<>();
+        options.put("slow", slowOptions);
+        options.put("fast", Collections.singletonList("fast"));
+
+        Map<Integer, ISyntaxContainer> input = new HashMap<>();
+        input.put(1, SyntaxUtils.toContainer(options, "option {slow}", 1));
+        input.put(2, SyntaxUtils.toContainer(options, "option {fast}", 2));
+
+        try (AsyncSyntaxService<Integer> service = new AsyncSyntaxService<>(new SyntaxService<>(input))) {
+            CompletableFuture<List<String>> future = service.complete("option ", Duration.ofMillis(100));
+            assertEquals(Collections.singletonList("fast"), future.get(5, TimeUnit.SECONDS));
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent matching")
+    public void testAsyncConcurrentMatching() throws ExecutionException, InterruptedException {
+
+        try (AsyncSyntaxService<Integer> service = new AsyncSyntaxService<>(new SyntaxService<>(DYNAMIC_INPUT))) {
+            List<String>           langs   = OPTIONS.get("lang");
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[500];
+
+            for (int i = 0; i < futures.length; i++) {
+                String lang = langs.get(i % langs.size());
+                futures[i] = service.getMatchingResult("language switch " + lang)
+                        .thenAccept(result -> assertEquals(lang, result.orElseThrow().getParameter("lang").orElse(null)));
+            }
+
+            CompletableFuture.allOf(futures).get();
+        }
+    }
+
+    @Test
+    @DisplayName("Bounded amount of tasks")
+    public void testAsyncBoundedTasks() throws Exception {
+
+        Map<Integer, ISyntaxContainer> input = new HashMap<>();
+
+        for (int i = 0; i < 200; i++) {
+            input.put(i, SyntaxUtils.toContainer(EMPTY_MAP, "command" + i + " [value]", 1));
+        }
+
+        AtomicInteger   submitted = new AtomicInteger();
+        ExecutorService executor  = Executors.newFixedThreadPool(2);
+
+        try {
+            AsyncSyntaxService<Integer> service = new AsyncSyntaxService<>(new SyntaxService<>(input), task -> {
+                submitted.incrementAndGet();
+                executor.execute(task);
+            }, 3);
+
+            List<String> results = service.complete("command1").get(5, TimeUnit.SECONDS);
+
+            assertEquals(3, submitted.get());
+            assertEquals(111, results.size());
+            assertTrue(results.contains("command1"));
+            assertTrue(results.contains("command199"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Shut down owned executors only")
+    public void testAsyncClose() {
+
+        AsyncSyntaxService<Integer> owning = new AsyncSyntaxService<>(new SyntaxService<>(DYNAMIC_INPUT));
+        owning.close();
+        assertThrows(RejectedExecutionException.class, () -> owning.getMatchingResult("language switch java"));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            new AsyncSyntaxService<>(new SyntaxService<>(DYNAMIC_INPUT), executor).close();
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static fr.alexpado.syntaxic.CompletionTestData.REGEX_INPUT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Flight Recorder Events")
+public class FlightRecorderEventsTests {
+
+    private static List<RecordedEvent> record(Runnable runnable) throws IOException {
+
+        Path file = Files.createTempFile("syntaxic", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("fr.alexpado.syntaxic.Match").withoutThreshold();
+            recording.enable("fr.alexpado.syntaxic.Completion").withoutThreshold();
+            recording.enable("fr.alexpado.syntaxic.Tokenize").withoutThreshold();
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        try {
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Match event")
+    public void testMatchEvent() throws IOException {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(REGEX_INPUT);
+        List<RecordedEvent>     events  = record(() -> service.getMatchingResult("regex 5547"));
+
+        List<RecordedEvent> matches = filter(events, "fr.alexpado.syntaxic.Match");
+        assertEquals(1, matches.size());
+
+        RecordedEvent event = matches.get(0);
+        assertEquals(2, event.getInt("tokenCount"));
+        assertEquals(REGEX_INPUT.size(), event.getInt("containersEvaluated"));
+        assertEquals(REGEX_INPUT.size(), event.getInt("regexEvaluations"));
+        assertEquals("HIT", event.getString("outcome"));
+        assertEquals("1", event.getString("identifier"));
+
+        assertEquals(1, filter(events, "fr.alexpado.syntaxic.Tokenize").size());
+    }
+
+    @Test
+    @DisplayName("Match event with generated matchers")
+    public void testGeneratedMatchEvent() throws IOException {
+
+        ISyntaxService<Integer> service = new SyntaxServiceBuilder<>(REGEX_INPUT).withGeneratedMatchers().build();
+        List<RecordedEvent> events = record(() -> {
+            service.getMatchingResult("regex 5547");
+            service.getMatchingResult("other 5547");
+        });
+
+        List<RecordedEvent> matches = filter(events, "fr.alexpado.syntaxic.Match");
+        assertEquals(2, matches.size());
+        assertEquals(REGEX_INPUT.size(), matches.get(0).getInt("regexEvaluations"));
+        assertEquals("HIT", matches.get(0).getString("outcome"));
+        assertEquals(0, matches.get(1).getInt("regexEvaluations"));
+        assertEquals("MISS", matches.get(1).getString("outcome"));
+    }
+
+    @Test
+    @DisplayName("Completion event")
+    public void testCompletionEvent() throws IOException {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(REGEX_INPUT);
+        List<RecordedEvent>     events  = record(() -> service.complete("regex"));
+
+        List<RecordedEvent> completions = filter(events, "fr.alexpado.syntaxic.Completion");
+        assertEquals(1, completions.size());
+        assertEquals("COMPLETED", completions.get(0).getString("outcome"));
+        assertEquals(1, completions.get(0).getInt("completionCount"));
+        assertEquals(0, completions.get(0).getInt("regexEvaluations"));
+    }
+
+    @Test
+    @DisplayName("Regex evaluations with concurrent calls")
+    public void testConcurrentRegexEvaluations() throws IOException {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(REGEX_INPUT);
+        List<RecordedEvent> events = record(() -> {
+            CompletableFuture<Void> completing = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 500; i++) {
+                    service.complete("regex");
+                }
+            });
+
+            for (int i = 0; i < 500; i++) {
+                service.getMatchingResult("regex 5547");
+            }
+            completing.join();
+        });
+
+        List<RecordedEvent> matches = filter(events, "fr.alexpado.syntaxic.Match");
+        assertEquals(500, matches.size());
+
+        for (RecordedEvent event : matches) {
+            assertEquals(REGEX_INPUT.size(), event.getInt("regexEvaluations"));
+        }
+
+        for (RecordedEvent event : filter(events, "fr.alexpado.syntaxic.Completion")) {
+            assertEquals(0, event.getInt("regexEvaluations"));
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Generated Matchers")
+public class GeneratedMatcherTests {
+
+    private static final String[] INPUTS = {
+            "", "language", "language switch java", "language switch c#", "language switch", "language show message",
+            "language switch java more", "language message", "language message hello", "language message hello  world",
+            "regex 5547", "regex strict", "regex abc", "regex 5547 more", "collide help", "collide other", "count abc12",
+            "count abc"
+    };
+
+    private static final String[] PARAMETERS = {"lang", "msg", "value", "message", "amount", "language", "switch"};
+
+    private static void assertSameResults(Map<Integer, ISyntaxContainer> input) {
+
+        ISyntaxService<Integer> interpreted = new SyntaxService<>(input);
+        ISyntaxService<Integer> generated   = new SyntaxServiceBuilder<>(input).withGeneratedMatchers().build();
+
+        for (String data : INPUTS) {
+            Optional<IMatchingResult<Integer>> expected = interpreted.getMatchingResult(data);
+            Optional<IMatchingResult<Integer>> actual   = generated.getMatchingResult(data);
+
+            assertEquals(expected.isPresent(), actual.isPresent(), data);
+
+            if (expected.isPresent()) {
+                assertEquals(expected.get().getIdentifier(), actual.get().getIdentifier(), data);
+
+                for (String parameter : PARAMETERS) {
+                    assertEquals(expected.get().getParameter(parameter), actual.get().getParameter(parameter), data);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Generated matchers give the same results as interpreted matching")
+    public void testGeneratedMatchersEquivalence() {
+
+        assertSameResults(EMPTY_INPUT);
+        assertSameResults(COLLISION_INPUT_A);
+        assertSameResults(COLLISION_INPUT_B);
+        assertSameResults(REGEX_INPUT);
+        assertSameResults(SIMPLE_INPUT);
+        assertSameResults(DYNAMIC_INPUT);
+        assertSameResults(PASS_THROUGH_INPUT);
+        assertSameResults(FILLER_INPUT);
+    }
+
+    @Test
+    @DisplayName("Skip empty regex groups")
+    public void testGeneratedMatchersOptionalRegexGroup() {
+
+        Map<Integer, ISyntaxContainer> input = new HashMap<>();
+        input.put(1, SyntaxUtils.toContainer(EMPTY_MAP, "count /amount:[a-z]*([0-9]+)?/", 1));
+        assertSameResults(input);
+
+        GeneratedMatcher matcher = GeneratedMatcher.generate(input.get(1));
+        assertNotNull(matcher);
+        Parameters parameters = matcher.match(Arrays.asList("count", "abc"), new String[]{"count", "abc"});
+        assertNotNull(parameters);
+        assertEquals(Map.of("count", "count"), parameters.toMap());
+    }
+
+}
@@ -0,0 +1,147 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static fr.alexpado.syntaxic.CompletionTestData.assertListEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Grammar Matching")
+public class GrammarMatchingTests {
+
+    private static final Map<Integer, ISyntaxContainer> INPUT = new HashMap<>() {{
+        this.put(1, SyntaxUtils.toContainer(EMPTY_MAP, "ban [user] ( for <days:int 1..365> )? ( --silent )?", 1));
+        this.put(2, SyntaxUtils.toContainer(EMPTY_MAP, "tag [item] ( -t [label] )+", 2));
+        this.put(3, SyntaxUtils.toContainer(EMPTY_MAP, "add ( <n:int> )+", 3));
+        this.put(4, SyntaxUtils.toContainer(EMPTY_MAP, "say text... now", 4));
+        this.put(5, SyntaxUtils.toContainer(EMPTY_MAP, "cmd ( a ( b )* )?", 5));
+    }};
+
+    private static List<Optional<IMatchingResult<Integer>>> results(String data) {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(INPUT);
+
+        return Arrays.asList(
+                service.getMatchingResult(data),
+                service.getMatchingResult(data.getBytes(StandardCharsets.UTF_8)),
+                new SyntaxServiceBuilder<>(INPUT).withGeneratedMatchers().build().getMatchingResult(data)
+        );
+    }
+
+    private static void assertMatch(String data, int identifier, Map<String, String> expected) {
+
+        for (Optional<IMatchingResult<Integer>> result : results(data)) {
+            assertTrue(result.isPresent(), data);
+            assertEquals(identifier, result.get().getIdentifier());
+            expected.forEach((name, value) -> assertEquals(Optional.ofNullable(value), result.get().getParameter(name), name));
+        }
+    }
+
+    private static void assertNoMatch(String data) {
+
+        for (Optional<IMatchingResult<Integer>> result : results(data)) {
+            assertEquals(Optional.empty(), result, data);
+        }
+    }
+
+    @Test
+    @DisplayName("Optional groups")
+    public void testGrammarOptional() {
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("user", "alex");
+        expected.put("days", null);
+        expected.put("--silent", null);
+
+        assertMatch("ban alex", 1, expected);
+
+        expected.put("days", "3");
+        assertMatch("ban alex for 3", 1, expected);
+
+        expected.put("--silent", "--silent");
+        assertMatch("ban alex for 3 --silent", 1, expected);
+
+        expected.put("days", null);
+        assertMatch("ban alex --silent", 1, expected);
+
+        for (Optional<IMatchingResult<Integer>> result : results("ban alex for 30")) {
+            assertEquals(OptionalInt.of(30), result.orElseThrow().getInt("days"));
+        }
+
+        assertNoMatch("ban alex for 0");
+        assertNoMatch("ban alex --silent for 3");
+        assertNoMatch("ban");
+    }
+
+    @Test
+    @DisplayName("Repeatable groups")
+    public void testGrammarRepeatable() {
+
+        assertMatch("tag box -t a", 2, Map.of("item", "box", "label", "a"));
+        assertMatch("tag box -t a -t b -t c", 2, Map.of("item", "box", "label", "a b c"));
+        assertNoMatch("tag box");
+        assertNoMatch("tag box -t a -t");
+
+        assertMatch("add 1 2 3", 3, Map.of("n", "1 2 3"));
+
+        for (Optional<IMatchingResult<Integer>> result : results("add 42")) {
+            assertEquals(OptionalInt.of(42), result.orElseThrow().getInt("n"));
+        }
+
+        assertMatch("cmd", 5, Collections.emptyMap());
+        assertMatch("cmd a", 5, Map.of("a", "a"));
+        assertMatch("cmd a b b b", 5, Map.of("a", "a", "b", "b b b"));
+        assertNoMatch("cmd b");
+        assertNoMatch("cmd a a");
+    }
+
+    @Test
+    @DisplayName("Filling syntax followed by other syntaxes")
+    public void testGrammarFilling() {
+
+        assertMatch("say hello now", 4, Map.of("text", "hello"));
+        assertMatch("say hello big world now", 4, Map.of("text", "hello big world"));
+        assertMatch("say now now", 4, Map.of("text", "now"));
+        assertNoMatch("say now");
+        assertNoMatch("say hello world");
+    }
+
+    @Test
+    @DisplayName("Completion")
+    public void testGrammarCompletion() {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(INPUT);
+
+        assertListEquals(Collections.singletonList("for"), service.complete("ban alex f"));
+        assertListEquals(Arrays.asList("for", "--silent"), service.complete("ban alex "));
+        assertListEquals(Collections.singletonList("--silent"), service.complete("ban alex for 3 "));
+        assertListEquals(Collections.singletonList("-t"), service.complete("tag box -t a "));
+        assertListEquals(Collections.singletonList("b"), service.complete("cmd a b "));
+        assertListEquals(Collections.singletonList("a"), service.complete("cmd "));
+    }
+
+    @Test
+    @DisplayName("Declaration")
+    public void testGrammarDeclaration() {
+
+        assertThrows(IllegalArgumentException.class, () -> SyntaxUtils.toContainer(EMPTY_MAP, "a ( )?", 1));
+
+        // Unbalanced parentheses are literals.
+        assertTrue(SyntaxUtils.toContainer(EMPTY_MAP, "a ( b", 1).isMatching(Arrays.asList("a", "(", "b")));
+        assertTrue(SyntaxUtils.toContainer(EMPTY_MAP, "smile )", 1).isMatching(Arrays.asList("smile", ")")));
+        assertTrue(SyntaxUtils.toContainer(EMPTY_MAP, "a ( b ) )?", 1).isMatching(Arrays.asList("a", "b", ")?")));
+        assertFalse(SyntaxUtils.toContainer(EMPTY_MAP, "smile )", 1).isMatching(Collections.singletonList("smile")));
+
+        ISyntaxContainer container = SyntaxUtils.toContainer(EMPTY_MAP, "a ( b )", 1);
+        assertTrue(container.isMatching(Arrays.asList("a", "b")));
+        assertFalse(container.isMatching(Collections.singletonList("a")));
+    }
+
+}
@@ -0,0 +1,95 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.options.InfixOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Infix Options")
+public class InfixOptionsTests {
+
+    private static final List<String> LANGUAGES = Arrays.asList(
+            "javascript", "typescript", "java", "scriptol", "coffeescript", "scala", "postscript", "kotlin"
+    );
+
+    private static List<String> complete(InfixOptions options, String token) {
+
+        List<String> completion = new ArrayList<>();
+        options.complete(token, completion);
+        return completion;
+    }
+
+    @Test
+    @DisplayName("Infix completion")
+    public void testInfix() {
+
+        InfixOptions options = InfixOptions.of(LANGUAGES, 10);
+
+        assertEquals(Arrays.asList("scriptol", "javascript", "postscript", "typescript", "coffeescript"), complete(options, "script"));
+        assertEquals(Arrays.asList("kotlin"), complete(options, "otl"));
+        assertEquals(Collections.emptyList(), complete(options, "scripz"));
+        assertEquals(Collections.emptyList(), complete(options, "ascala"));
+        assertFalse(options.complete("xyz", new ArrayList<>()));
+    }
+
+    @Test
+    @DisplayName("Short tokens and limit")
+    public void testLimit() {
+
+        InfixOptions options = InfixOptions.of(LANGUAGES, 2);
+
+        assertEquals(Arrays.asList("scala", "scriptol"), complete(options, "sc"));
+        assertEquals(Arrays.asList("scriptol", "javascript"), complete(options, "script"));
+        assertThrows(IllegalArgumentException.class, () -> InfixOptions.of(LANGUAGES, 0));
+    }
+
+    @Test
+    @DisplayName("Matches the verified candidates")
+    public void testVerification() {
+
+        Random       random = new Random(7);
+        List<String> values = new ArrayList<>();
+
+        for (int i = 0; i < 3000; i++) {
+            char[] value = new char[3 + random.nextInt(10)];
+
+            for (int j = 0; j < value.length; j++) {
+                value[j] = (char) ('a' + random.nextInt(3));
+            }
+            values.add(new String(value));
+        }
+
+        InfixOptions options = InfixOptions.of(values, Integer.MAX_VALUE);
+
+        for (String token : Arrays.asList("abc", "abca", "cabcab", "aaaa", "bcbcb")) {
+            Set<String> expected = new TreeSet<>();
+
+            for (String value : values) {
+                if (value.contains(token)) {
+                    expected.add(value);
+                }
+            }
+            assertEquals(expected, new TreeSet<>(complete(options, token)));
+        }
+    }
+
+    @Test
+    @DisplayName("Selective syntax")
+    public void testSelectiveSyntax() {
+
+        Map<String, List<String>>     options    = Collections.singletonMap("lang", InfixOptions.of(LANGUAGES, 3));
+        Map<String, ISyntaxContainer> containers = new HashMap<>();
+        containers.put("switch", SyntaxUtils.toContainer(options, "switch {lang}", 1));
+
+        SyntaxService<String> service = new SyntaxService<>(containers);
+
+        assertTrue(service.getMatchingResult("switch java").isPresent());
+        assertFalse(service.getMatchingResult("switch script").isPresent());
+        assertEquals(Arrays.asList("scriptol", "javascript", "postscript"), service.complete("switch script"));
+    }
+
+}
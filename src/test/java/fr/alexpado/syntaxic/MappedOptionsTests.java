@@ -0,0 +1,112 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.options.MappedOptions;
+import fr.alexpado.syntaxic.options.MappedOptionsBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.assertListEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Mapped Options")
+public class MappedOptionsTests {
+
+    private static final List<String> USERS = Arrays.asList("alex", "alice", "bob", "\u00e9lodie", "alicia", "alex", "");
+
+    @TempDir
+    Path directory;
+
+    private MappedOptions write() throws IOException {
+
+        Path lines = this.directory.resolve("users.txt");
+        Files.write(lines, USERS, StandardCharsets.UTF_8);
+
+        return new MappedOptionsBuilder().addLines(lines).add("zoe").write(this.directory.resolve("users.options"));
+    }
+
+    @Test
+    @DisplayName("Sorted and de-duplicated values")
+    public void testValues() throws IOException {
+
+        MappedOptions options = this.write();
+
+        assertEquals(Arrays.asList("alex", "alice", "alicia", "bob", "zoe", "\u00e9lodie"), options);
+        assertEquals(options, MappedOptions.open(this.directory.resolve("users.options")));
+    }
+
+    @Test
+    @DisplayName("Exact lookup")
+    public void testLookup() throws IOException {
+
+        MappedOptions options = this.write();
+
+        assertTrue(options.contains("alice"));
+        assertTrue(options.contains("\u00e9lodie"));
+        assertFalse(options.contains("ali"));
+        assertFalse(options.contains("alicez"));
+        assertFalse(options.contains(""));
+        assertFalse(options.contains(42));
+        assertEquals(3, options.indexOf("bob"));
+    }
+
+    @Test
+    @DisplayName("Prefix completion")
+    public void testCompletion() throws IOException {
+
+        MappedOptions options = this.write();
+        List<String>  values  = new ArrayList<>();
+
+        assertTrue(options.complete("ali", values));
+        assertEquals(Arrays.asList("alice", "alicia"), values);
+
+        values.clear();
+        assertTrue(options.complete("", values));
+        assertEquals(options, values);
+
+        assertFalse(options.complete("x", new ArrayList<>()));
+    }
+
+    @Test
+    @DisplayName("Selective syntax")
+    public void testSelectiveSyntax() throws IOException {
+
+        Map<String, List<String>>     users      = Collections.singletonMap("user", this.write());
+        Map<String, ISyntaxContainer> containers = new HashMap<>();
+        containers.put("ban", SyntaxUtils.toContainer(users, "ban {user}", 1));
+
+        SyntaxService<String> service   = new SyntaxService<>(containers);
+        SyntaxService<String> generated = new SyntaxServiceBuilder<>(containers).withGeneratedMatchers().build();
+
+        assertEquals("alicia", service.getMatchingResult("ban alicia").orElseThrow().getParameter("user").orElseThrow());
+        assertTrue(generated.getMatchingResult("ban bob").isPresent());
+        assertFalse(generated.getMatchingResult("ban bobby").isPresent());
+        assertTrue(service.getMatchingResult("ban \u00e9lodie".getBytes(StandardCharsets.UTF_8)).isPresent());
+        assertFalse(service.getMatchingResult("ban alic".getBytes(StandardCharsets.UTF_8)).isPresent());
+        assertListEquals(new ArrayList<>(Arrays.asList("alice", "alicia")), service.complete("ban alic"));
+    }
+
+    @Test
+    @DisplayName("Invalid files")
+    public void testInvalidFile() throws IOException {
+
+        Path file = this.directory.resolve("invalid.options");
+
+        Files.write(file, "not options".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> MappedOptions.open(file));
+
+        this.write();
+
+        byte[] valid = Files.readAllBytes(this.directory.resolve("users.options"));
+        Files.write(file, Arrays.copyOf(valid, valid.length - 1));
+        assertThrows(IOException.class, () -> MappedOptions.open(file));
+    }
+
+}
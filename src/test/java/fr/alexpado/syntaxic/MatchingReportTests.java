@@ -0,0 +1,132 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingReport;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static fr.alexpado.syntaxic.CompletionTestData.assertListEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Matching Report")
+public class MatchingReportTests {
+
+    private static final Map<String, ISyntaxContainer> INPUT = new HashMap<>() {{
+        this.put("ban", SyntaxUtils.toContainer(EMPTY_MAP, "mod ban [user] <days:int 1..30>", 1));
+        this.put("kick", SyntaxUtils.toContainer(EMPTY_MAP, "mod kick [user]", 1));
+        this.put("say", SyntaxUtils.toContainer(EMPTY_MAP, "say [text...]", 1));
+        this.put("tag", SyntaxUtils.toContainer(EMPTY_MAP, "tag ( [name] )+ now", 1));
+    }};
+
+    private static final Map<String, ISyntaxContainer> AMBIGUOUS = new HashMap<>() {{
+        this.put("first", SyntaxUtils.toContainer(EMPTY_MAP, "run [task]", 1));
+        this.put("second", SyntaxUtils.toContainer(EMPTY_MAP, "run [job]", 1));
+    }};
+
+    private static List<IMatchingReport<String>> reports(String data) {
+
+        return Arrays.asList(
+                new SyntaxService<>(INPUT).getMatchingReport(data),
+                new SyntaxServiceBuilder<>(INPUT).withOrderedEvaluation().withGeneratedMatchers().build().getMatchingReport(data)
+        );
+    }
+
+    @Test
+    @DisplayName("Matching input")
+    public void testReportMatch() {
+
+        for (IMatchingReport<String> report : reports("mod ban alex 7")) {
+            assertEquals("ban", report.getResult().orElseThrow().getIdentifier());
+            assertEquals(-1, report.getFailedIndex());
+            assertTrue(report.getDeepestIdentifiers().isEmpty());
+            assertFalse(report.isAmbiguous());
+        }
+    }
+
+    @Test
+    @DisplayName("Rejected token")
+    public void testReportRejectedToken() {
+
+        for (IMatchingReport<String> report : reports("mod ban alex 90")) {
+            assertFalse(report.getResult().isPresent());
+            assertEquals(Collections.singletonList("ban"), report.getDeepestIdentifiers());
+            assertEquals(3, report.getFailedIndex());
+            assertEquals("alex", report.getCaptured("ban").get("user"));
+            assertFalse(report.getCaptured("ban").containsKey("days"));
+        }
+
+        for (IMatchingReport<String> report : reports("mod warn alex")) {
+            assertListEquals(new ArrayList<>(Arrays.asList("ban", "kick")), report.getDeepestIdentifiers());
+            assertEquals(1, report.getFailedIndex());
+        }
+
+        for (IMatchingReport<String> report : reports("unknown")) {
+            assertTrue(report.getDeepestIdentifiers().isEmpty());
+            assertEquals(0, report.getFailedIndex());
+        }
+    }
+
+    @Test
+    @DisplayName("Missing and extra tokens")
+    public void testReportLength() {
+
+        for (IMatchingReport<String> report : reports("mod ban alex")) {
+            assertEquals(Collections.singletonList("ban"), report.getDeepestIdentifiers());
+            assertEquals(3, report.getFailedIndex());
+            assertEquals("alex", report.getCaptured("ban").get("user"));
+        }
+
+        for (IMatchingReport<String> report : reports("mod kick alex now")) {
+            assertEquals(Collections.singletonList("kick"), report.getDeepestIdentifiers());
+            assertEquals(3, report.getFailedIndex());
+        }
+    }
+
+    @Test
+    @DisplayName("Grammar containers")
+    public void testReportGrammar() {
+
+        IMatchingReport<String> report = new SyntaxService<>(INPUT).getMatchingReport("tag a b");
+
+        assertEquals(Collections.singletonList("tag"), report.getDeepestIdentifiers());
+        assertEquals(3, report.getFailedIndex());
+        assertEquals("a b", report.getCaptured("tag").get("name"));
+    }
+
+    @Test
+    @DisplayName("Ambiguous input")
+    public void testReportAmbiguous() {
+
+        IMatchingReport<String> report = new SyntaxService<>(AMBIGUOUS).getMatchingReport("run build");
+
+        assertFalse(report.getResult().isPresent());
+        assertTrue(report.isAmbiguous());
+        assertListEquals(new ArrayList<>(Arrays.asList("first", "second")), report.getDeepestIdentifiers());
+        assertEquals(2, report.getFailedIndex());
+    }
+
+    @Test
+    @DisplayName("Nested services")
+    public void testReportNested() {
+
+        Map<String, ISyntaxContainer> containers = new HashMap<>();
+        containers.put("admin", SyntaxUtils.toContainer(EMPTY_MAP, "admin [server]", new SyntaxService<>(INPUT), 1));
+
+        SyntaxService<String> service = new SyntaxService<>(containers);
+
+        IMatchingReport<String> nested = service.getMatchingReport("admin main mod ban alex 90");
+        assertEquals(Collections.singletonList("ban"), nested.getDeepestIdentifiers());
+        assertEquals(5, nested.getFailedIndex());
+        assertEquals("main", nested.getCaptured("ban").get("server"));
+        assertEquals("alex", nested.getCaptured("ban").get("user"));
+
+        IMatchingReport<String> prefix = service.getMatchingReport("admin main");
+        assertEquals(Collections.singletonList("admin"), prefix.getDeepestIdentifiers());
+        assertEquals(2, prefix.getFailedIndex());
+
+        assertEquals("ban", service.getMatchingReport("admin main mod ban alex 9").getResult().orElseThrow().getIdentifier());
+    }
+}
@@ -0,0 +1,88 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingReport;
+import fr.alexpado.syntaxic.interfaces.IMatchingSequence;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Matching Sequence")
+public class MatchingSequenceTests {
+
+    private static final Map<String, ISyntaxContainer> INPUT = new HashMap<>() {{
+        this.put("ban", SyntaxUtils.toContainer(EMPTY_MAP, "ban [user] <days:int 1..30>", 1));
+        this.put("kick", SyntaxUtils.toContainer(EMPTY_MAP, "kick [user]", 1));
+    }};
+
+    private static List<String> identifiers(IMatchingSequence<String> sequence) {
+
+        return sequence.getReports()
+                .stream()
+                .map(report -> report.getResult().orElseThrow().getIdentifier())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Matching every command")
+    public void testSequenceMatch() {
+
+        SyntaxService<String>     service  = new SyntaxService<>(INPUT);
+        IMatchingSequence<String> sequence = service.getMatchingSequence("ban alex 3;  kick bob ;;kick carol", ";");
+
+        assertTrue(sequence.isMatching());
+        assertEquals(-1, sequence.getFailedCommand());
+        assertEquals(-1, sequence.getFailedOffset());
+        assertEquals(List.of("ban", "kick", "kick"), identifiers(sequence));
+        assertEquals("bob", sequence.getReports().get(1).getResult().orElseThrow().getParameter("user").orElseThrow());
+
+        IMatchingSequence<String> lines = service.getMatchingSequence("kick alex\nban bob 30", "\n");
+        assertEquals(List.of("kick", "ban"), identifiers(lines));
+    }
+
+    @Test
+    @DisplayName("Failure position")
+    public void testSequenceFailure() {
+
+        SyntaxService<String>     service  = new SyntaxService<>(INPUT);
+        IMatchingSequence<String> sequence = service.getMatchingSequence("kick alex; ban bob 90; kick carol", ";");
+
+        assertFalse(sequence.isMatching());
+        assertEquals(1, sequence.getFailedCommand());
+        assertEquals(19, sequence.getFailedOffset());
+        assertTrue(sequence.getReports().get(2).getResult().isPresent());
+
+        IMatchingSequence<String> missing = service.getMatchingSequence("ban bob", ";");
+        assertEquals(0, missing.getFailedCommand());
+        assertEquals(7, missing.getFailedOffset());
+
+        assertThrows(IllegalArgumentException.class, () -> service.getMatchingSequence("kick alex", " "));
+    }
+
+    @Test
+    @DisplayName("Parallel matching keeps the order")
+    public void testSequenceParallel() {
+
+        StringBuilder message = new StringBuilder();
+
+        for (int i = 0; i < SyntaxService.PARALLEL_THRESHOLD * 4; i++) {
+            message.append(i % 2 == 0 ? "kick user" + i : "ban user" + i + " " + (i % 30 + 1)).append('\n');
+        }
+
+        IMatchingSequence<String> sequence = new SyntaxService<>(INPUT).getMatchingSequence(message.toString(), "\n");
+
+        assertEquals(SyntaxService.PARALLEL_THRESHOLD * 4, sequence.getReports().size());
+
+        for (int i = 0; i < sequence.getReports().size(); i++) {
+            IMatchingReport<String> report = sequence.getReports().get(i);
+            assertEquals(i % 2 == 0 ? "kick" : "ban", report.getResult().orElseThrow().getIdentifier());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import fr.alexpado.syntaxic.metrics.LatencyHistogram;
+import fr.alexpado.syntaxic.metrics.SyntaxMetrics;
+import fr.alexpado.syntaxic.metrics.SyntaxMetricsSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static fr.alexpado.syntaxic.CompletionTestData.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Metrics")
+public class MetricsTests {
+
+    @Test
+    @DisplayName("Count hits per identifier")
+    public void testMetricsCountHits() {
+
+        SyntaxMetrics<Integer>  metrics = new SyntaxMetrics<>();
+        ISyntaxService<Integer> service = new SyntaxService<>(SIMPLE_INPUT, metrics);
+
+        service.getMatchingResult("language switch java");
+        service.getMatchingResult("language switch java");
+        service.getMatchingResult("language switch php");
+
+        SyntaxMetricsSnapshot<Integer> snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.getHits(1));
+        assertEquals(1, snapshot.getHits(2));
+        assertEquals(0, snapshot.getHits(3));
+        assertEquals(3 * (SIMPLE_INPUT.size() - 1), snapshot.getRejected());
+    }
+
+    @Test
+    @DisplayName("Count miss and ambiguous")
+    public void testMetricsCountMissAndAmbiguous() {
+
+        SyntaxMetrics<Integer>  metrics = new SyntaxMetrics<>();
+        ISyntaxService<Integer> service = new SyntaxService<>(REGEX_INPUT, metrics);
+
+        service.getMatchingResult("regex 5547 more");
+        assertEquals(1, metrics.snapshot().getMiss());
+        assertEquals(0, metrics.snapshot().getAmbiguous());
+
+        Map<Integer, ISyntaxContainer> ambiguousInput = new HashMap<>();
+        ambiguousInput.put(1, SyntaxUtils.toContainer(EMPTY_MAP, "collide [a]", 1));
+        ambiguousInput.put(2, SyntaxUtils.toContainer(EMPTY_MAP, "collide [b]", 1));
+
+        SyntaxMetrics<Integer>  ambiguousMetrics = new SyntaxMetrics<>();
+        ISyntaxService<Integer> ambiguousService = new SyntaxService<>(ambiguousInput, ambiguousMetrics);
+        assertFalse(ambiguousService.getMatchingResult("collide help").isPresent());
+        assertEquals(1, ambiguousMetrics.snapshot().getAmbiguous());
+        assertEquals(0, ambiguousMetrics.snapshot().getMiss());
+    }
+
+    @Test
+    @DisplayName("Record latencies")
+    public void testMetricsRecordLatencies() {
+
+        SyntaxMetrics<Integer>  metrics = new SyntaxMetrics<>();
+        ISyntaxService<Integer> service = new SyntaxService<>(DYNAMIC_INPUT, metrics);
+
+        service.getMatchingResult("language switch java");
+        service.complete("language switch j");
+
+        SyntaxMetricsSnapshot<Integer> snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getMatchLatency().getCount());
+        assertEquals(1, snapshot.getCompleteLatency().getCount());
+        assertEquals(2, snapshot.getTokenizeLatency().getCount());
+
+        Map<String, Long> export = snapshot.export("syntaxic");
+        assertEquals(1L, export.get("syntaxic.hit.1"));
+        assertEquals(1L, export.get("syntaxic.match.count"));
+        assertTrue(export.containsKey("syntaxic.complete.p99"));
+    }
+
+    @Test
+    @DisplayName("Histogram percentiles")
+    public void testHistogramPercentiles() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(5050, snapshot.getSum());
+        assertEquals(100, snapshot.getMax());
+        assertEquals(63, snapshot.getPercentile(50));
+        assertEquals(100, snapshot.getPercentile(99));
+    }
+
+}
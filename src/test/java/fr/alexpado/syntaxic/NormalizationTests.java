@@ -0,0 +1,140 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.IMatchingSequence;
+import fr.alexpado.syntaxic.interfaces.IOptionSource;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.options.InfixOptions;
+import fr.alexpado.syntaxic.options.MappedOptionsBuilder;
+import fr.alexpado.syntaxic.options.RadixOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.assertListEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Normalization")
+public class NormalizationTests {
+
+    private static final Map<String, List<String>> OPTIONS = new HashMap<>() {{
+        this.put("lang", Arrays.asList("Java", "Kotlin", "caf\u00e9"));
+    }};
+
+    private static final Map<String, ISyntaxContainer> INPUT = new HashMap<>() {{
+        this.put("switch", SyntaxUtils.toContainer(OPTIONS, "(lang|language) switch {lang}", 1));
+        this.put("ban", SyntaxUtils.toContainer(OPTIONS, "mod ban [user] <days:int 1..30>", 1));
+        this.put("tag", SyntaxUtils.toContainer(OPTIONS, "tag ( [name] )+ Now", 1));
+    }};
+
+    @TempDir
+    Path directory;
+
+    private static SyntaxService<String> normalizing() {
+
+        return new SyntaxServiceBuilder<>(INPUT).withNormalization().build();
+    }
+
+    @Test
+    @DisplayName("Case-insensitive literals and options")
+    public void testCaseInsensitive() {
+
+        SyntaxService<String>   service = normalizing();
+        IMatchingResult<String> result  = service.getMatchingResult("Language SWITCH jAvA").orElseThrow();
+
+        assertEquals("switch", result.getIdentifier());
+        assertEquals("jAvA", result.getParameter("lang").orElseThrow());
+
+        IMatchingResult<String> ban = service.getMatchingResult("MOD Ban Alex 7").orElseThrow();
+        assertEquals("Alex", ban.getParameter("user").orElseThrow());
+        assertEquals("7", ban.getParameter("days").orElseThrow());
+
+        assertEquals("tag", service.getMatchingResult("TAG a B now").orElseThrow().getIdentifier());
+    }
+
+    @Test
+    @DisplayName("Unicode folding")
+    public void testUnicodeFolding() {
+
+        SyntaxService<String> service = normalizing();
+
+        assertTrue(service.getMatchingResult("lang switch CAFE\u0301").isPresent());
+        assertTrue(service.getMatchingResult("lang switch CAF\u00c9").isPresent());
+        assertFalse(service.getMatchingResult("lang switch cafe").isPresent());
+
+        byte[] bytes = "LANG switch Caf\u00e9".getBytes(StandardCharsets.UTF_8);
+        assertEquals("Caf\u00e9", service.getMatchingResult(bytes).orElseThrow().getParameter("lang").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Completion")
+    public void testCompletion() {
+
+        SyntaxService<String> service = normalizing();
+
+        assertListEquals(new ArrayList<>(Arrays.asList("Java")), service.complete("lang switch J"));
+        assertListEquals(new ArrayList<>(Arrays.asList("switch")), service.complete("LANG S"));
+        assertListEquals(new ArrayList<>(Arrays.asList("Now")), service.complete("tag a n"));
+    }
+
+    @Test
+    @DisplayName("Option sources")
+    public void testOptionSources() throws IOException {
+
+        List<String> users = Arrays.asList("Alice", "bob", "Caf\u00e9");
+
+        List<IOptionSource> sources = Arrays.asList(
+                RadixOptions.of(users),
+                InfixOptions.of(users, 10),
+                new MappedOptionsBuilder().addAll(users).write(this.directory.resolve("users.options"))
+        );
+
+        for (IOptionSource source : sources) {
+            Map<String, ISyntaxContainer> input = Map.of(
+                    "kick", SyntaxUtils.toContainer(Map.of("user", source), "kick {user}", 1),
+                    "warn", SyntaxUtils.toContainer(Map.of("user", source), "warn {user}", 1)
+            );
+
+            SyntaxService<String> service = new SyntaxServiceBuilder<>(input).withNormalization().build();
+
+            assertEquals("Alice", service.getMatchingResult("kick Alice").orElseThrow().getParameter("user").orElseThrow());
+            assertEquals("ALICE", service.getMatchingResult("kick ALICE").orElseThrow().getParameter("user").orElseThrow());
+            assertTrue(service.getMatchingResult("warn BOB").isPresent());
+            assertTrue(service.getMatchingResult("kick cafe\u0301").isPresent());
+            assertFalse(service.getMatchingResult("kick ali").isPresent());
+
+            assertListEquals(new ArrayList<>(Arrays.asList("Alice")), service.complete("kick a"));
+            assertListEquals(new ArrayList<>(Arrays.asList("bob")), service.complete("warn B"));
+            assertListEquals(new ArrayList<>(Arrays.asList("Caf\u00e9")), service.complete("kick CAF"));
+        }
+    }
+
+    @Test
+    @DisplayName("Sequences")
+    public void testSequence() {
+
+        IMatchingSequence<String> sequence = normalizing().getMatchingSequence("LANG switch kotlin; Mod BAN alex 2", ";");
+
+        assertTrue(sequence.isMatching());
+        assertEquals("kotlin", sequence.getReports().get(0).getResult().orElseThrow().getParameter("lang").orElseThrow());
+        assertEquals("alex", sequence.getReports().get(1).getResult().orElseThrow().getParameter("user").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Case-sensitive by default")
+    public void testDefault() {
+
+        SyntaxService<String> service = new SyntaxService<>(INPUT);
+
+        assertFalse(service.getMatchingResult("Language SWITCH Java").isPresent());
+        assertTrue(service.getMatchingResult("language switch Java").isPresent());
+        assertFalse(new SyntaxServiceBuilder<>(INPUT).withGeneratedMatchers().build().getMatchingResult("lang switch java").isPresent());
+        assertTrue(new SyntaxServiceBuilder<>(INPUT).withGeneratedMatchers().withNormalization().build().getMatchingResult("lang switch java").isPresent());
+    }
+
+}
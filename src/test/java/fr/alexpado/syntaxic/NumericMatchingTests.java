@@ -0,0 +1,142 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import fr.alexpado.syntaxic.rules.NumericSyntax;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Numeric Matching")
+public class NumericMatchingTests {
+
+    private static final Map<Integer, ISyntaxContainer> INPUT = new HashMap<>() {{
+        this.put(1, SyntaxUtils.toContainer(EMPTY_MAP, "roll <count:int 1..100> <faces:int 2..>", 1));
+        this.put(2, SyntaxUtils.toContainer(EMPTY_MAP, "seek <offset:long>", 2));
+        this.put(3, SyntaxUtils.toContainer(EMPTY_MAP, "roll [count] [faces]", 3));
+    }};
+
+    private static List<Optional<IMatchingResult<Integer>>> results(String data) {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(INPUT);
+
+        return Arrays.asList(
+                service.getMatchingResult(data),
+                service.getMatchingResult(data.getBytes(StandardCharsets.UTF_8)),
+                new SyntaxServiceBuilder<>(INPUT).withGeneratedMatchers().build().getMatchingResult(data)
+        );
+    }
+
+    @Test
+    @DisplayName("Declaration")
+    public void testNumericDeclaration() {
+
+        NumericSyntax syntax = (NumericSyntax) SyntaxUtils.toSyntax(EMPTY_MAP, "<count:int 1..100>");
+        assertEquals("count", syntax.getName());
+        assertEquals(1, syntax.getMinimum());
+        assertEquals(100, syntax.getMaximum());
+
+        NumericSyntax open = new NumericSyntax("<offset:long ..0>");
+        assertEquals(-Long.MAX_VALUE, open.getMinimum());
+        assertEquals(0, open.getMaximum());
+
+        assertThrows(IllegalArgumentException.class, () -> new NumericSyntax("<count>"));
+        assertThrows(IllegalArgumentException.class, () -> new NumericSyntax("<count:short>"));
+        assertThrows(IllegalArgumentException.class, () -> new NumericSyntax("<count:int 5>"));
+        assertThrows(IllegalArgumentException.class, () -> new NumericSyntax("<count:int 10..1>"));
+        assertThrows(IllegalArgumentException.class, () -> new NumericSyntax("<count:int 0..3000000000>"));
+    }
+
+    @Test
+    @DisplayName("Literals between angle brackets")
+    public void testNumericLiterals() {
+
+        Map<Integer, ISyntaxContainer> input = new HashMap<>() {{
+            this.put(1, SyntaxUtils.toContainer(EMPTY_MAP, "i <3 java", 1));
+            this.put(2, SyntaxUtils.toContainer(EMPTY_MAP, "say <user>", 2));
+            this.put(3, SyntaxUtils.toContainer(EMPTY_MAP, "wait <delay:int 1..5", 3));
+        }};
+
+        ISyntaxService<Integer> service = new SyntaxService<>(input);
+
+        assertEquals(1, service.getMatchingResult("i <3 java").orElseThrow().getIdentifier());
+        assertEquals(2, service.getMatchingResult("say <user>").orElseThrow().getIdentifier());
+        assertEquals(3, service.getMatchingResult("wait <delay:int 1..5").orElseThrow().getIdentifier());
+        assertFalse(service.getMatchingResult("say alex").isPresent());
+        assertFalse(service.getMatchingResult("wait 3").isPresent());
+
+        assertThrows(IllegalArgumentException.class, () -> SyntaxUtils.toContainer(EMPTY_MAP, "roll <count:short 1..5>", 1));
+    }
+
+    @Test
+    @DisplayName("Parsing and bounds")
+    public void testNumericParsing() {
+
+        NumericSyntax count = new NumericSyntax("<count:int 1..100>");
+        NumericSyntax any   = new NumericSyntax("<any:long>");
+
+        assertEquals(1, count.parse("1"));
+        assertEquals(100, count.parse("+100"));
+        assertEquals(7, count.parse("007"));
+        assertEquals(NumericSyntax.INVALID, count.parse("0"));
+        assertEquals(NumericSyntax.INVALID, count.parse("101"));
+        assertEquals(NumericSyntax.INVALID, count.parse("-"));
+        assertEquals(NumericSyntax.INVALID, count.parse(""));
+        assertEquals(NumericSyntax.INVALID, count.parse("1a"));
+
+        assertEquals(Long.MAX_VALUE, any.parse("9223372036854775807"));
+        assertEquals(-Long.MAX_VALUE, any.parse("-9223372036854775807"));
+        assertEquals(NumericSyntax.INVALID, any.parse("9223372036854775808"));
+        assertEquals(NumericSyntax.INVALID, any.parse("-9223372036854775808"));
+        assertEquals(NumericSyntax.INVALID, any.parse("99999999999999999999"));
+
+        Utf8Tokens tokens = Utf8Tokens.of("50 -9223372036854775807 x".getBytes(StandardCharsets.UTF_8));
+        assertEquals(50, count.parse(tokens, 0));
+        assertEquals(-Long.MAX_VALUE, any.parse(tokens, 1));
+        assertEquals(NumericSyntax.INVALID, any.parse(tokens, 2));
+
+        assertTrue(count.isMatching("42"));
+        assertEquals(Optional.of("42"), count.getLastMatch());
+        assertFalse(count.isMatching("420"));
+        assertEquals(Optional.empty(), count.getLastMatch());
+
+        assertTrue(count.isCompletable(""));
+        assertTrue(count.isCompletable("-1"));
+        assertFalse(count.isCompletable("1-"));
+        assertFalse(count.isCompletable("a"));
+    }
+
+    @Test
+    @DisplayName("Typed values")
+    public void testNumericMatch() {
+
+        for (Optional<IMatchingResult<Integer>> result : results("roll 3 20")) {
+            assertEquals(1, result.orElseThrow().getIdentifier());
+            assertEquals(OptionalInt.of(3), result.get().getInt("count"));
+            assertEquals(OptionalInt.of(20), result.get().getInt("faces"));
+            assertEquals(Optional.of("20"), result.get().getParameter("faces"));
+        }
+
+        for (Optional<IMatchingResult<Integer>> result : results("seek -9000000000")) {
+            assertEquals(2, result.orElseThrow().getIdentifier());
+            assertEquals(OptionalLong.of(-9000000000L), result.get().getLong("offset"));
+            assertThrows(NumberFormatException.class, () -> result.get().getInt("offset"));
+        }
+
+        // Out of bounds values fall back to the less specific container.
+        for (Optional<IMatchingResult<Integer>> result : results("roll 300 1")) {
+            assertEquals(3, result.orElseThrow().getIdentifier());
+        }
+
+        for (Optional<IMatchingResult<Integer>> result : results("seek far")) {
+            assertEquals(Optional.empty(), result);
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import fr.alexpado.syntaxic.metrics.SyntaxMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static fr.alexpado.syntaxic.CompletionTestData.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Ordered Evaluation")
+public class OrderedEvaluationTests {
+
+    private static void assertSameResults(Map<Integer, ISyntaxContainer> input, List<String> data) {
+
+        ISyntaxService<Integer> reference = new SyntaxService<>(input);
+        ISyntaxService<Integer> ordered   = new SyntaxServiceBuilder<>(input).withOrderedEvaluation().build();
+
+        for (String value : data) {
+            Optional<Integer> expected = reference.getMatchingResult(value).map(IMatchingResult::getIdentifier);
+            Optional<Integer> actual   = ordered.getMatchingResult(value).map(IMatchingResult::getIdentifier);
+            assertEquals(expected, actual, value);
+        }
+    }
+
+    @Test
+    @DisplayName("Same results as the linear scan")
+    public void testOrderedSameResults() {
+
+        assertSameResults(SIMPLE_INPUT, Arrays.asList(
+                "language switch java", "language switch c#", "language switch c#", "language show message",
+                "language swit java", ""
+        ));
+        assertSameResults(REGEX_INPUT, Arrays.asList("regex 5547", "regex aabbcc", "regex strict", "regex"));
+        assertSameResults(COLLISION_INPUT_A, Arrays.asList("collide help", "collide help", "collide other"));
+        assertSameResults(COLLISION_INPUT_B, Arrays.asList("collide help", "collide other", "collide other"));
+        assertSameResults(EMPTY_INPUT, Arrays.asList("", "language", "other"));
+    }
+
+    @Test
+    @DisplayName("Same ambiguity as the linear scan")
+    public void testOrderedSameAmbiguity() {
+
+        Map<Integer, ISyntaxContainer> input = new HashMap<>();
+        input.put(1, SyntaxUtils.toContainer(EMPTY_MAP, "collide [a]", 1));
+        input.put(2, SyntaxUtils.toContainer(EMPTY_MAP, "collide [b]", 1));
+        input.put(3, SyntaxUtils.toContainer(EMPTY_MAP, "collide help", 2));
+        input.put(4, SyntaxUtils.toContainer(EMPTY_MAP, "other", 0));
+
+        assertSameResults(input, Arrays.asList("collide help", "other", "collide x", "nothing"));
+    }
+
+    @Test
+    @DisplayName("Stop once the result cannot change")
+    public void testOrderedEarlyExit() {
+
+        SyntaxMetrics<Integer>  metrics = new SyntaxMetrics<>();
+        ISyntaxService<Integer> service = new SyntaxServiceBuilder<>(SIMPLE_INPUT)
+                .withMetrics(metrics)
+                .withOrderedEvaluation()
+                .build();
+
+        assertEquals(1, (int) service.getMatchingResult("language switch java").orElseThrow().getIdentifier());
+        assertEquals(0, metrics.snapshot().getRejected());
+
+        assertEquals(3, (int) service.getMatchingResult("language switch python").orElseThrow().getIdentifier());
+        assertEquals(2, metrics.snapshot().getRejected());
+    }
+
+}
@@ -0,0 +1,121 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Parameters")
+public class ParametersTests {
+
+    private enum Mode {
+        FAST,
+        SLOW
+    }
+
+    private static final Map<Integer, ISyntaxContainer> INPUT = new HashMap<>() {{
+        this.put(1, SyntaxUtils.toContainer(EMPTY_MAP, "give [user] [amount] [mode]", 1));
+        this.put(2, SyntaxUtils.toContainer(EMPTY_MAP, "say text...", 2));
+        this.put(3, SyntaxUtils.toContainer(EMPTY_MAP, "id /value:#([0-9]+)/", 3));
+    }};
+
+    private static List<IMatchingResult<Integer>> results(String data) {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(INPUT);
+
+        return Arrays.asList(
+                service.getMatchingResult(data).orElseThrow(),
+                service.getMatchingResult(data.getBytes(StandardCharsets.UTF_8)).orElseThrow(),
+                new SyntaxServiceBuilder<>(INPUT).withGeneratedMatchers().build().getMatchingResult(data).orElseThrow()
+        );
+    }
+
+    @Test
+    @DisplayName("Typed accessors")
+    public void testParametersTypedAccessors() {
+
+        for (IMatchingResult<Integer> result : results("give alex -9000000000 FAST")) {
+            assertEquals(1, result.getIdentifier());
+            assertEquals(Optional.of("alex"), result.getParameter("user"));
+            assertEquals(OptionalLong.of(-9000000000L), result.getLong("amount"));
+            assertThrows(NumberFormatException.class, () -> result.getInt("amount"));
+            assertThrows(NumberFormatException.class, () -> result.getInt("user"));
+            assertEquals(Optional.of(Mode.FAST), result.getEnum("mode", Mode.class));
+            assertThrows(IllegalArgumentException.class, () -> result.getEnum("user", Mode.class));
+            assertEquals(OptionalInt.empty(), result.getInt("missing"));
+            assertEquals(Optional.empty(), result.getEnum("missing", Mode.class));
+        }
+    }
+
+    @Test
+    @DisplayName("Values spanning multiple tokens or part of a token")
+    public void testParametersRanges() {
+
+        for (IMatchingResult<Integer> result : results("say hello   there world")) {
+            assertEquals(Optional.of("hello there world"), result.getParameter("text"));
+        }
+
+        for (IMatchingResult<Integer> result : results("id #5547")) {
+            assertEquals(Optional.of("5547"), result.getParameter("value"));
+            assertEquals(OptionalInt.of(5547), result.getInt("value"));
+        }
+    }
+
+    @Test
+    @DisplayName("Parse UTF-8 tokens")
+    public void testParametersParseBytes() {
+
+        Utf8Tokens tokens = Utf8Tokens.of("0 +12 -9223372036854775808 9223372036854775807 9223372036854775808 - 1a".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0, tokens.parseLong(0));
+        assertEquals(12, tokens.parseLong(1));
+        assertEquals(Long.MIN_VALUE, tokens.parseLong(2));
+        assertEquals(Long.MAX_VALUE, tokens.parseLong(3));
+        assertThrows(NumberFormatException.class, () -> tokens.parseLong(4));
+        assertThrows(NumberFormatException.class, () -> tokens.parseLong(5));
+        assertThrows(NumberFormatException.class, () -> tokens.parseLong(6));
+    }
+
+    @Test
+    @DisplayName("Reused input buffers")
+    public void testParametersReusedBuffer() {
+
+        SyntaxService<Integer> service = new SyntaxService<>(INPUT);
+        byte[]                 buffer  = "xxgive alex 42 SLOWxx".getBytes(StandardCharsets.UTF_8);
+
+        IMatchingResult<Integer> first = service.getMatchingResult(buffer, 2, buffer.length - 4).orElseThrow();
+
+        // The caller reuses its buffer for the next input.
+        byte[] next = "xxgive jane 77 FASTxx".getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(next, 0, buffer, 0, next.length);
+
+        IMatchingResult<Integer> second = service.getMatchingResult(buffer, 2, buffer.length - 4).orElseThrow();
+
+        assertEquals(Optional.of("alex"), first.getParameter("user"));
+        assertEquals(OptionalLong.of(42), first.getLong("amount"));
+        assertEquals(Optional.of(Mode.SLOW), first.getEnum("mode", Mode.class));
+        assertEquals(Optional.of("jane"), second.getParameter("user"));
+        assertEquals(OptionalLong.of(77), second.getLong("amount"));
+        assertEquals(Optional.of(Mode.FAST), second.getEnum("mode", Mode.class));
+    }
+
+    @Test
+    @DisplayName("Container matches stay available")
+    public void testParametersContainerMatches() {
+
+        ISyntaxContainer container = INPUT.get(2);
+
+        assertTrue(container.isMatching(Arrays.asList("say", "a", "b")));
+        assertEquals(Map.of("say", "say", "text", "a b"), container.getMatches());
+        assertFalse(container.isMatching(Arrays.asList("give", "a", "b")));
+        assertTrue(container.getMatches().isEmpty());
+    }
+
+}
@@ -0,0 +1,111 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.options.RadixOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.assertListEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Radix Options")
+public class RadixOptionsTests {
+
+    private static final List<String> NAMES = Arrays.asList(
+            "alex", "alexander", "alexandra", "alice", "alicia", "bob", "bobby", "b", "\u00e9lodie", "alex", ""
+    );
+
+    private static List<String> random() {
+
+        Random       random = new Random(42);
+        List<String> values = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            char[] value = new char[1 + random.nextInt(8)];
+
+            for (int j = 0; j < value.length; j++) {
+                value[j] = (char) ('a' + random.nextInt(4));
+            }
+            values.add(new String(value));
+        }
+        return values;
+    }
+
+    @Test
+    @DisplayName("Sorted values and ordinals")
+    public void testOrdinals() {
+
+        List<String> expected = new ArrayList<>(new TreeSet<>(random()));
+        RadixOptions options  = RadixOptions.of(random());
+
+        assertEquals(expected, options);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, options.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Exact membership")
+    public void testMembership() {
+
+        RadixOptions options = RadixOptions.of(NAMES);
+
+        assertEquals(9, options.size());
+        assertTrue(options.contains("alex"));
+        assertTrue(options.contains("b"));
+        assertTrue(options.contains("\u00e9lodie"));
+        assertFalse(options.contains("alexand"));
+        assertFalse(options.contains("alexandre"));
+        assertFalse(options.contains("c"));
+        assertFalse(options.contains(""));
+        assertFalse(options.contains(42));
+        assertTrue(RadixOptions.of(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Prefix enumeration")
+    public void testPrefix() {
+
+        RadixOptions options = RadixOptions.of(NAMES);
+        List<String> values  = new ArrayList<>();
+
+        assertTrue(options.complete("alexa", values));
+        assertEquals(Arrays.asList("alexander", "alexandra"), values);
+
+        values.clear();
+        assertTrue(options.complete("al", values));
+        assertEquals(Arrays.asList("alex", "alexander", "alexandra", "alice", "alicia"), values);
+
+        values.clear();
+        assertTrue(options.complete("", values));
+        assertEquals(options, values);
+
+        assertFalse(options.complete("alb", new ArrayList<>()));
+
+        List<String> expected = new ArrayList<>(new TreeSet<>(random()));
+        List<String> random   = new ArrayList<>();
+
+        RadixOptions.of(random()).complete("ab", random);
+        expected.removeIf(value -> !value.startsWith("ab"));
+        assertEquals(expected, random);
+    }
+
+    @Test
+    @DisplayName("Selective syntax")
+    public void testSelectiveSyntax() {
+
+        Map<String, List<String>>     options    = Collections.singletonMap("user", RadixOptions.of(NAMES));
+        Map<String, ISyntaxContainer> containers = new HashMap<>();
+        containers.put("ban", SyntaxUtils.toContainer(options, "ban {user}", 1));
+
+        SyntaxService<String> service = new SyntaxService<>(containers);
+
+        assertTrue(service.getMatchingResult("ban bobby").isPresent());
+        assertFalse(service.getMatchingResult("ban bo").isPresent());
+        assertListEquals(new ArrayList<>(Arrays.asList("bob", "bobby")), service.complete("ban bo"));
+    }
+
+}
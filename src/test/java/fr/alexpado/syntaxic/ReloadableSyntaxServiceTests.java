@@ -0,0 +1,125 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IReloadReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Reloadable Syntax Service")
+public class ReloadableSyntaxServiceTests {
+
+    @TempDir
+    Path directory;
+
+    private Path write(String name, String... lines) throws IOException {
+
+        return Files.write(this.directory.resolve(name), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    private static String identifier(ReloadableSyntaxService service, String data) {
+
+        return service.getMatchingResult(data).orElseThrow().getIdentifier();
+    }
+
+    @Test
+    @DisplayName("Initial load and failures")
+    public void testInitialLoad() throws Exception {
+
+        Path file = this.write("commands.syntax",
+                "# Moderation",
+                "ban 1 mod ban [user] <days:int 1..30>",
+                "",
+                "kick one mod kick [user]",
+                "tag 1 tag ( )? [name]",
+                "ban 2 ban [user]",
+                "help"
+        );
+
+        try (ReloadableSyntaxService service = new ReloadableSyntaxService(file, EMPTY_MAP)) {
+            IReloadReport report = service.getLastReport();
+
+            assertTrue(report.isSwapped());
+            assertEquals(1, report.getIdentifierCount());
+            assertEquals(new TreeSet<>(Arrays.asList("commands.syntax:4", "commands.syntax:5", "commands.syntax:6", "commands.syntax:7")), report.getFailures().keySet());
+            assertEquals("Invalid order one", report.getFailures().get("commands.syntax:4"));
+            assertEquals("ban", identifier(service, "mod ban alex 3"));
+        }
+    }
+
+    @Test
+    @DisplayName("Reload and atomic swap")
+    public void testReload() throws Exception {
+
+        Path file = this.write("commands.syntax", "ban 1 mod ban [user]", "kick 1 mod kick [user]");
+
+        try (ReloadableSyntaxService service = new ReloadableSyntaxService(file, EMPTY_MAP)) {
+            SyntaxService<String> previous = service.getService();
+
+            this.write("commands.syntax", "ban 1 mod ban [user] [reason]", "kick 1 mod kick ( )? [user]", "mute 1 mod mute [user]");
+            IReloadReport report = service.reload().get(10, TimeUnit.SECONDS);
+
+            assertTrue(report.isSwapped());
+            assertEquals(3, report.getIdentifierCount());
+            assertEquals(Collections.singleton("commands.syntax:2"), report.getFailures().keySet());
+            assertSame(report, service.getLastReport());
+            assertNotSame(previous, service.getService());
+
+            assertEquals("ban", identifier(service, "mod ban alex spam"));
+            assertEquals("kick", identifier(service, "mod kick alex"));
+            assertEquals("mute", identifier(service, "mod mute alex"));
+
+            // Calls made on the previous version still use the previous definitions.
+            assertEquals("ban", previous.getMatchingResult("mod ban alex").orElseThrow().getIdentifier());
+            assertFalse(previous.getMatchingResult("mod mute alex").isPresent());
+
+            Files.delete(file);
+            IReloadReport failed = service.reload().get(10, TimeUnit.SECONDS);
+
+            assertFalse(failed.isSwapped());
+            assertEquals("mute", identifier(service, "mod mute alex"));
+        }
+    }
+
+    @Test
+    @DisplayName("Watched directory")
+    public void testWatch() throws Exception {
+
+        this.write("moderation.syntax", "ban 1 mod ban [user]");
+        this.write("notes.txt", "ignored 1 ignored");
+
+        try (ReloadableSyntaxService service = new ReloadableSyntaxService(this.directory, EMPTY_MAP)) {
+            BlockingQueue<IReloadReport> reports = new ArrayBlockingQueue<>(16);
+            service.onReload(reports::add);
+            service.watch();
+
+            assertEquals(1, service.getLastReport().getIdentifierCount());
+            assertFalse(service.getMatchingResult("ignored").isPresent());
+
+            this.write("fun.syntax", "dice 1 roll <sides:int 1..100>");
+
+            IReloadReport report = reports.poll(30, TimeUnit.SECONDS);
+            assertNotNull(report);
+
+            while (report.getIdentifierCount() < 2) {
+                report = reports.poll(30, TimeUnit.SECONDS);
+                assertNotNull(report);
+            }
+
+            assertEquals("dice", identifier(service, "roll 6"));
+            assertEquals("ban", identifier(service, "mod ban alex"));
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Result binding")
+public class ResultBinderTests {
+
+    private enum Mode {
+        FAST,
+        SLOW
+    }
+
+    private record Give(String user, int amount, Mode mode) {}
+
+    private record Partial(Long amount, String text) {}
+
+    private record Unsupported(Object user) {}
+
+    private static final Map<Integer, ISyntaxContainer> INPUT = new HashMap<>() {{
+        this.put(1, SyntaxUtils.toContainer(EMPTY_MAP, "give [user] [amount] [mode]", 1));
+        this.put(2, SyntaxUtils.toContainer(EMPTY_MAP, "say text...", 2));
+    }};
+
+    private final List<String> handled = new ArrayList<>();
+
+    private static List<IMatchingResult<Integer>> results(String data) {
+
+        ISyntaxService<Integer>  service = new SyntaxService<>(INPUT);
+        IMatchingResult<Integer> result  = service.getMatchingResult(data).orElseThrow();
+
+        return Arrays.asList(
+                result,
+                service.getMatchingResult(data.getBytes(StandardCharsets.UTF_8)).orElseThrow(),
+                new SyntaxServiceBuilder<>(INPUT).withGeneratedMatchers().build().getMatchingResult(data).orElseThrow(),
+                new IMatchingResult<>() {
+
+                    @Override
+                    public @NotNull Integer getIdentifier() {
+
+                        return result.getIdentifier();
+                    }
+
+                    @Override
+                    public @NotNull Optional<String> getParameter(@NotNull String name) {
+
+                        return result.getParameter(name);
+                    }
+                }
+        );
+    }
+
+    @Test
+    @DisplayName("Records")
+    public void testResultBinderRecord() {
+
+        ResultBinder<Give> binder = ResultBinder.ofRecord(MethodHandles.lookup(), Give.class);
+
+        for (IMatchingResult<Integer> result : results("give alex 42 SLOW")) {
+            assertEquals(new Give("alex", 42, Mode.SLOW), binder.bind(result));
+        }
+
+        for (IMatchingResult<Integer> result : results("give alex many SLOW")) {
+            assertThrows(NumberFormatException.class, () -> binder.bind(result));
+        }
+    }
+
+    @Test
+    @DisplayName("Missing parameters")
+    public void testResultBinderMissing() {
+
+        ResultBinder<Partial> partial = ResultBinder.ofRecord(MethodHandles.lookup(), Partial.class);
+        ResultBinder<Give>    give    = ResultBinder.ofRecord(MethodHandles.lookup(), Give.class);
+
+        for (IMatchingResult<Integer> result : results("say hello world")) {
+            assertEquals(new Partial(null, "hello world"), partial.bind(result));
+            assertThrows(IllegalArgumentException.class, () -> give.bind(result));
+        }
+
+        for (IMatchingResult<Integer> result : results("give alex 42 FAST")) {
+            assertEquals(new Partial(42L, null), partial.bind(result));
+        }
+    }
+
+    @Test
+    @DisplayName("Handler methods")
+    public void testResultBinderHandler() throws ReflectiveOperationException {
+
+        MethodHandle handler = MethodHandles.lookup()
+                                            .findVirtual(ResultBinderTests.class, "handle", MethodType.methodType(void.class, String.class, long.class))
+                                            .bindTo(this);
+
+        ResultBinder<Void> binder = ResultBinder.of(handler, "user", "amount");
+
+        for (IMatchingResult<Integer> result : results("give alex -9000000000 FAST")) {
+            assertNull(binder.bind(result));
+        }
+
+        assertEquals(Collections.nCopies(4, "alex:-9000000000"), this.handled);
+        assertThrows(IllegalArgumentException.class, () -> ResultBinder.of(handler, "user"));
+        assertThrows(IllegalArgumentException.class, () -> ResultBinder.ofRecord(MethodHandles.lookup(), Unsupported.class));
+    }
+
+    private void handle(String user, long amount) {
+
+        this.handled.add(user + ":" + amount);
+    }
+
+}
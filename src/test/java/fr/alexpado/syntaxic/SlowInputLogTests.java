@@ -0,0 +1,104 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxMetrics;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import fr.alexpado.syntaxic.metrics.SlowInput;
+import fr.alexpado.syntaxic.metrics.SlowInputLog;
+import fr.alexpado.syntaxic.rules.WordSyntax;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static fr.alexpado.syntaxic.CompletionTestData.DYNAMIC_INPUT;
+import static fr.alexpado.syntaxic.CompletionTestData.REGEX_INPUT;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Slow Input Log")
+public class SlowInputLogTests {
+
+    @Test
+    @DisplayName("Explain slow matching")
+    public void testSlowInputExplainMatching() {
+
+        SlowInputLog<Integer>   log     = new SlowInputLog<>(Duration.ZERO, 10);
+        ISyntaxService<Integer> service = new SyntaxService<>(REGEX_INPUT, ISyntaxMetrics.noop(), log);
+
+        assertTrue(service.getMatchingResult("regex 5547").isPresent());
+
+        List<SlowInput<Integer>> dump = log.dump();
+        assertEquals(1, dump.size());
+
+        SlowInput<Integer> entry = dump.get(0);
+        assertEquals(SlowInput.Operation.MATCH, entry.getOperation());
+        assertEquals("regex 5547", entry.getInput());
+        assertEquals(REGEX_INPUT.keySet(), entry.getContainerNanos().keySet());
+        assertTrue(entry.getSyntaxNanos().containsKey("WORD"));
+        assertTrue(entry.getSyntaxNanos().containsKey("REGEX"));
+    }
+
+    @Test
+    @DisplayName("Explain slow completion")
+    public void testSlowInputExplainCompletion() {
+
+        SlowInputLog<Integer>   log     = new SlowInputLog<>(Duration.ZERO, 10);
+        ISyntaxService<Integer> service = new SyntaxService<>(DYNAMIC_INPUT, ISyntaxMetrics.noop(), log);
+
+        service.complete("language switch j");
+
+        List<SlowInput<Integer>> dump = log.dump();
+        assertEquals(1, dump.size());
+        assertEquals(SlowInput.Operation.COMPLETE, dump.get(0).getOperation());
+        assertTrue(dump.get(0).getSyntaxNanos().containsKey("SELECTIVE"));
+    }
+
+    @Test
+    @DisplayName("Report anonymous syntaxes as custom")
+    public void testSlowInputCustomKind() {
+
+        ISyntaxContainer               container = new SyntaxContainer(Arrays.asList(new WordSyntax("hello") {}, new WordSyntax("world")), 1);
+        Map<Integer, ISyntaxContainer> input     = Collections.singletonMap(1, container);
+
+        SlowInputLog<Integer>   log     = new SlowInputLog<>(Duration.ZERO, 10);
+        ISyntaxService<Integer> service = new SyntaxService<>(input, ISyntaxMetrics.noop(), log);
+
+        assertTrue(service.getMatchingResult("hello world").isPresent());
+        assertEquals(2, log.dump().get(0).getSyntaxNanos().size());
+        assertTrue(log.dump().get(0).getSyntaxNanos().containsKey("CUSTOM"));
+        assertTrue(log.dump().get(0).getSyntaxNanos().containsKey("WORD"));
+    }
+
+    @Test
+    @DisplayName("Ignore fast inputs")
+    public void testSlowInputIgnoreFastInputs() {
+
+        SlowInputLog<Integer>   log     = new SlowInputLog<>(Duration.ofHours(1), 10);
+        ISyntaxService<Integer> service = new SyntaxService<>(REGEX_INPUT, ISyntaxMetrics.noop(), log);
+
+        service.getMatchingResult("regex 5547");
+        assertTrue(log.dump().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Keep only the most recent inputs")
+    public void testSlowInputRingBuffer() {
+
+        SlowInputLog<Integer>   log     = new SlowInputLog<>(Duration.ZERO, 2);
+        ISyntaxService<Integer> service = new SyntaxService<>(REGEX_INPUT, ISyntaxMetrics.noop(), log);
+
+        service.getMatchingResult("regex 1");
+        service.getMatchingResult("regex 2");
+        service.getMatchingResult("regex 3");
+
+        List<SlowInput<Integer>> dump = log.dump();
+        assertEquals(2, dump.size());
+        assertEquals("regex 2", dump.get(0).getInput());
+        assertEquals("regex 3", dump.get(1).getInput());
+    }
+
+}
@@ -0,0 +1,84 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_INPUT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Space Scanner")
+public class SpaceScannerTests {
+
+    private static final String[] ALPHABET = {" ", " ", " ", " ", "a", "b", "\t", "\n", "\u00e9", "\u00a0", "\u65e5", "\ud83d\ude00"};
+
+    private static List<String> randomInputs() {
+
+        Random       random = new Random(5547);
+        List<String> inputs = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int           length  = random.nextInt(i < 1000 ? 40 : 600);
+            int           letters = ALPHABET.length - i % 2; // Half of the inputs without surrogate pairs.
+            StringBuilder builder = new StringBuilder();
+
+            for (int j = 0; j < length; j++) {
+                builder.append(ALPHABET[random.nextInt(letters)]);
+            }
+
+            inputs.add(builder.toString());
+        }
+
+        return inputs;
+    }
+
+    private static List<String> reference(String data) {
+
+        List<String> input = new ArrayList<>(Arrays.asList(data.trim().replaceAll(" +", " ").split(" ")));
+
+        if (data.endsWith(" ")) {
+            input.add("");
+        }
+
+        return input;
+    }
+
+    @Test
+    @DisplayName("Word and scalar scanners give identical token boundaries")
+    public void testSpaceScannerBoundaries() {
+
+        for (String input : randomInputs()) {
+            byte[]     bytes  = input.getBytes(StandardCharsets.UTF_8);
+            Utf8Tokens scalar = Utf8Tokens.of(SpaceScanner.SCALAR, bytes, 0, bytes.length);
+            Utf8Tokens words  = Utf8Tokens.of(SpaceScanner.WORDS, bytes, 0, bytes.length);
+
+            assertEquals(scalar.size(), words.size(), input);
+
+            for (int i = 0; i < scalar.size(); i++) {
+                assertEquals(scalar.start(i), words.start(i), input);
+                assertEquals(scalar.length(i), words.length(i), input);
+            }
+
+            assertEquals(SpaceScanner.SCALAR.count(bytes, 0, bytes.length), SpaceScanner.WORDS.count(bytes, 0, bytes.length), input);
+        }
+    }
+
+    @Test
+    @DisplayName("Prepared user data is unchanged")
+    public void testSpaceScannerPrepareUserData() {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(EMPTY_INPUT);
+
+        for (String input : randomInputs()) {
+            assertEquals(reference(input), service.prepareUserData(input), input);
+            assertEquals(reference(input), Utf8Tokens.of(input.getBytes(StandardCharsets.UTF_8)).toList(), input);
+        }
+    }
+
+}
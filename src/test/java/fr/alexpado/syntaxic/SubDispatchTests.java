@@ -0,0 +1,151 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static fr.alexpado.syntaxic.CompletionTestData.assertListEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Sub Dispatch")
+public class SubDispatchTests {
+
+    private static SyntaxService<String> users() {
+
+        Map<String, ISyntaxContainer> containers = new HashMap<>();
+        containers.put("user.ban", SyntaxUtils.toContainer(EMPTY_MAP, "ban [user]", 1));
+        containers.put("user.rename", SyntaxUtils.toContainer(EMPTY_MAP, "rename [user] [name]", 1));
+        return new SyntaxService<>(containers);
+    }
+
+    private static Map<String, ISyntaxContainer> root(SyntaxService<String> users) {
+
+        Map<String, ISyntaxContainer> containers = new HashMap<>();
+        containers.put("admin.user", SyntaxUtils.toContainer(EMPTY_MAP, "[server] user", users, 1));
+        containers.put("help", SyntaxUtils.toContainer(EMPTY_MAP, "help", 1));
+        return containers;
+    }
+
+    private static List<Optional<IMatchingResult<String>>> results(Map<String, ISyntaxContainer> containers, String data) {
+
+        ISyntaxService<String> service = new SyntaxService<>(containers);
+
+        return Arrays.asList(
+                service.getMatchingResult(data),
+                service.getMatchingResult(data.getBytes(StandardCharsets.UTF_8)),
+                new SyntaxServiceBuilder<>(containers).withGeneratedMatchers().withOrderedEvaluation().build().getMatchingResult(data)
+        );
+    }
+
+    @Test
+    @DisplayName("Matching through a nested service")
+    public void testNestedMatch() {
+
+        Map<String, ISyntaxContainer> containers = root(users());
+
+        for (Optional<IMatchingResult<String>> result : results(containers, "main user rename alex alexpado")) {
+            IMatchingResult<String> matched = result.orElseThrow();
+            assertEquals("user.rename", matched.getIdentifier());
+            assertEquals("main", matched.getParameter("server").orElseThrow());
+            assertEquals("alex", matched.getParameter("user").orElseThrow());
+            assertEquals("alexpado", matched.getParameter("name").orElseThrow());
+        }
+
+        for (Optional<IMatchingResult<String>> result : results(containers, "help")) {
+            assertEquals("help", result.orElseThrow().getIdentifier());
+        }
+
+        for (String input : Arrays.asList("main user", "main user kick alex", "main guild ban alex")) {
+            for (Optional<IMatchingResult<String>> result : results(containers, input)) {
+                assertFalse(result.isPresent(), input);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Nested values take precedence")
+    public void testNestedPrecedence() {
+
+        Map<String, ISyntaxContainer> containers = new HashMap<>();
+        containers.put("admin.user", SyntaxUtils.toContainer(EMPTY_MAP, "[user] as", users(), 1));
+
+        IMatchingResult<String> result = new SyntaxService<>(containers).getMatchingResult("alex as ban bob").orElseThrow();
+        assertEquals("user.ban", result.getIdentifier());
+        assertEquals("bob", result.getParameter("user").orElseThrow());
+
+        // A nested value that is absent doesn't hide the prefix value.
+        Map<String, ISyntaxContainer> nested = new HashMap<>();
+        nested.put("user.mute", SyntaxUtils.toContainer(EMPTY_MAP, "mute ( [user] )?", 1));
+        containers.put("admin.user", SyntaxUtils.toContainer(EMPTY_MAP, "[user] as", new SyntaxService<>(nested), 1));
+
+        result = new SyntaxService<>(containers).getMatchingResult("alex as mute").orElseThrow();
+        assertEquals("user.mute", result.getIdentifier());
+        assertEquals("alex", result.getParameter("user").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Typed values through a nested service")
+    public void testNestedTypedValues() {
+
+        Map<String, ISyntaxContainer> nested = new HashMap<>();
+        nested.put("user.mute", SyntaxUtils.toContainer(EMPTY_MAP, "mute [user] <minutes:long 1..60>", 1));
+
+        Map<String, ISyntaxContainer> containers = new HashMap<>();
+        containers.put("admin.user", SyntaxUtils.toContainer(EMPTY_MAP, "<shard:int 0..9> user", new SyntaxService<>(nested), 1));
+
+        for (Optional<IMatchingResult<String>> result : results(containers, "3 user mute alex 15")) {
+            IMatchingResult<String> matched = result.orElseThrow();
+            assertEquals("user.mute", matched.getIdentifier());
+            assertEquals(OptionalInt.of(3), matched.getInt("shard"));
+            assertEquals(OptionalLong.of(15), matched.getLong("minutes"));
+            assertEquals("alex", matched.getParameter("user").orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("Completing through a nested service")
+    public void testNestedCompletion() {
+
+        ISyntaxService<String> service = new SyntaxService<>(root(users()));
+
+        assertListEquals(Collections.singletonList("user"), service.complete("main us"));
+        assertListEquals(new ArrayList<>(Arrays.asList("ban", "rename")), service.complete("main user "));
+        assertListEquals(Collections.singletonList("rename"), service.complete("main user re"));
+        assertListEquals(Collections.emptyList(), service.complete("main guild "));
+    }
+
+    @Test
+    @DisplayName("Replacing a nested service")
+    public void testNestedReload() {
+
+        DelegatingContainer<String>   delegating = SyntaxUtils.toContainer(EMPTY_MAP, "[server] user", users(), 1);
+        Map<String, ISyntaxContainer> containers = Collections.singletonMap("admin.user", delegating);
+        ISyntaxService<String>        service    = new SyntaxService<>(containers);
+
+        assertFalse(service.getMatchingResult("main user kick alex").isPresent());
+
+        Map<String, ISyntaxContainer> reloaded = new HashMap<>();
+        reloaded.put("user.kick", SyntaxUtils.toContainer(EMPTY_MAP, "kick [user]", 1));
+
+        delegating.setService(new SyntaxService<>(reloaded));
+
+        assertEquals("user.kick", service.getMatchingResult("main user kick alex").orElseThrow().getIdentifier());
+        assertFalse(service.getMatchingResult("main user ban alex").isPresent());
+    }
+
+    @Test
+    @DisplayName("Declaration")
+    public void testDelegatingDeclaration() {
+
+        SyntaxService<String> users = users();
+
+        assertThrows(IllegalArgumentException.class, () -> SyntaxUtils.toContainer(EMPTY_MAP, "admin text...", users, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DelegatingContainer<>(Collections.emptyList(), users, 1));
+    }
+}
@@ -0,0 +1,129 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static fr.alexpado.syntaxic.CompletionTestData.assertListEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Syntax Overlay")
+public class SyntaxOverlayTests {
+
+    private static Map<String, ISyntaxContainer> base() {
+
+        Map<String, ISyntaxContainer> containers = new HashMap<>();
+        containers.put("ban", SyntaxUtils.toContainer(EMPTY_MAP, "mod ban [user]", 1));
+        containers.put("kick", SyntaxUtils.toContainer(EMPTY_MAP, "mod kick [user]", 1));
+        containers.put("help", SyntaxUtils.toContainer(EMPTY_MAP, "help", 1));
+        return containers;
+    }
+
+    private static String identifier(SyntaxService<String> service, String data) {
+
+        return service.getMatchingResult(data).orElseThrow().getIdentifier();
+    }
+
+    @Test
+    @DisplayName("Additions and removals")
+    public void testOverlay() {
+
+        SyntaxService<String> base   = new SyntaxService<>(base());
+        SyntaxOverlay<String> tenant = new SyntaxOverlay<>(base)
+                .add("dice", SyntaxUtils.toContainer(EMPTY_MAP, "roll <sides:int 1..100>", 1))
+                .remove("kick");
+
+        assertEquals("dice", identifier(tenant, "roll 20"));
+        assertEquals("ban", identifier(tenant, "mod ban alex"));
+        assertFalse(tenant.getMatchingResult("mod kick alex").isPresent());
+
+        assertTrue(base.getMatchingResult("mod kick alex").isPresent());
+        assertFalse(base.getMatchingResult("roll 20").isPresent());
+
+        assertEquals(Collections.singleton("kick"), tenant.getRemovals());
+        assertEquals(Collections.singleton("dice"), tenant.getAdditions().keySet());
+        assertSame(base, tenant.getBase());
+
+        tenant.add("kick", SyntaxUtils.toContainer(EMPTY_MAP, "kick [user]", 1));
+        assertTrue(tenant.getRemovals().isEmpty());
+        assertEquals("kick", identifier(tenant, "kick alex"));
+        assertFalse(tenant.getMatchingResult("mod kick alex").isPresent());
+
+        tenant.remove("dice").remove("unknown");
+        assertFalse(tenant.getMatchingResult("roll 20").isPresent());
+        assertTrue(tenant.getRemovals().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Tenants are isolated")
+    public void testIsolation() {
+
+        SyntaxService<String> base  = new SyntaxServiceBuilder<>(base()).withGeneratedMatchers().build();
+        SyntaxOverlay<String> first = new SyntaxOverlay<>(base).remove("help");
+        SyntaxOverlay<String> other = new SyntaxOverlay<>(base)
+                .add("help", SyntaxUtils.toContainer(EMPTY_MAP, "help [topic]", 1));
+
+        assertFalse(first.getMatchingResult("help").isPresent());
+        assertFalse(other.getMatchingResult("help").isPresent());
+        assertEquals("help", identifier(other, "help ban"));
+        assertEquals("help", identifier(base, "help"));
+        assertEquals("ban", identifier(first, "mod ban alex"));
+    }
+
+    @Test
+    @DisplayName("Ordered evaluation of the base")
+    public void testOrdered() {
+
+        Map<String, ISyntaxContainer> containers = base();
+        containers.put("any", SyntaxUtils.toContainer(EMPTY_MAP, "mod [action] [user]", 5));
+        containers.put("admin", SyntaxUtils.toContainer(EMPTY_MAP, "mod ban admin", 0));
+
+        SyntaxService<String> base   = new SyntaxServiceBuilder<>(containers).withOrderedEvaluation().build();
+        SyntaxOverlay<String> tenant = new SyntaxOverlay<>(base)
+                .add("warn", SyntaxUtils.toContainer(EMPTY_MAP, "mod [action] alex", 3))
+                .add("mute", SyntaxUtils.toContainer(EMPTY_MAP, "mod mute [user]", 1))
+                .add("kick", SyntaxUtils.toContainer(EMPTY_MAP, "mod kick [user] [reason]", 1))
+                .remove("admin");
+
+        assertEquals(6, tenant.getIdentifierMap().size());
+        assertEquals("ban", identifier(tenant, "mod ban alex"));
+        assertEquals("ban", identifier(tenant, "mod ban admin"));
+        assertEquals("mute", identifier(tenant, "mod mute alex"));
+        assertEquals("warn", identifier(tenant, "mod warn alex"));
+        assertEquals("warn", identifier(tenant, "mod kick alex"));
+        assertEquals("any", identifier(tenant, "mod kick bob"));
+        assertEquals("kick", identifier(tenant, "mod kick alex spam"));
+
+        tenant.add("clone", SyntaxUtils.toContainer(EMPTY_MAP, "mod [action] alex", 3));
+        SyntaxService<String> scan = new SyntaxService<>(new HashMap<>(tenant.getIdentifierMap()));
+
+        for (String data : Arrays.asList("mod ban alex", "mod warn alex", "mod warn bob", "mod kick alex", "mod kick bob", "help", "roll")) {
+            assertEquals(scan.getMatchingReport(data).isAmbiguous(), tenant.getMatchingReport(data).isAmbiguous(), data);
+            assertEquals(
+                    scan.getMatchingResult(data).map(IMatchingResult::getIdentifier),
+                    tenant.getMatchingResult(data).map(IMatchingResult::getIdentifier),
+                    data
+            );
+        }
+        assertTrue(tenant.getMatchingReport("mod warn alex").isAmbiguous());
+    }
+
+    @Test
+    @DisplayName("Completion and ambiguity")
+    public void testCompletion() {
+
+        SyntaxOverlay<String> tenant = new SyntaxOverlay<>(new SyntaxService<>(base()))
+                .add("mute", SyntaxUtils.toContainer(EMPTY_MAP, "mod mute [user]", 1))
+                .add("clone", SyntaxUtils.toContainer(EMPTY_MAP, "mod ban [member]", 1))
+                .remove("kick");
+
+        assertListEquals(new ArrayList<>(Arrays.asList("ban", "mute")), tenant.complete("mod "));
+        assertFalse(tenant.getMatchingResult("mod ban alex").isPresent());
+        assertTrue(tenant.getMatchingReport("mod ban alex").isAmbiguous());
+    }
+
+}
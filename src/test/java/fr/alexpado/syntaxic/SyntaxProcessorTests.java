@@ -0,0 +1,174 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static fr.alexpado.syntaxic.CompletionTestData.PASS_THROUGH_INPUT;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Syntax Processor")
+public class SyntaxProcessorTests {
+
+    private static final int CHANNELS = 5;
+    private static final int MESSAGES = 300;
+
+    @Test
+    @DisplayName("Keep the order of each channel")
+    public void testProcessorKeepsChannelOrder() throws InterruptedException {
+
+        SyntaxProcessor<Integer, Integer> processor = new SyntaxProcessor<>(
+                new SyntaxService<>(PASS_THROUGH_INPUT),
+                ForkJoinPool.commonPool(),
+                3,
+                4,
+                2
+        );
+
+        Map<Integer, List<String>> received = new ConcurrentHashMap<>();
+        AtomicInteger              misses   = new AtomicInteger();
+        CountDownLatch             done     = new CountDownLatch(1);
+
+        processor.subscribe(new Flow.Subscriber<>() {
+
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(SyntaxProcessor.Result<Integer, Integer> item) {
+
+                if (item.getResult().isPresent()) {
+                    String value = item.getResult().get().getParameter("lang").orElseThrow();
+                    received.computeIfAbsent(item.getMessage().getChannel(), key -> new ArrayList<>()).add(value);
+                } else {
+                    misses.incrementAndGet();
+                }
+                this.subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+
+                done.countDown();
+            }
+        });
+
+        try (SubmissionPublisher<SyntaxProcessor.Message<Integer>> source = new SubmissionPublisher<>()) {
+            source.subscribe(processor);
+
+            for (int i = 0; i < MESSAGES; i++) {
+                source.submit(new SyntaxProcessor.Message<>(i % CHANNELS, "language switch " + i));
+            }
+            source.submit(new SyntaxProcessor.Message<>(0, "not a command"));
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertEquals(1, misses.get());
+        assertEquals(CHANNELS, received.size());
+
+        for (int channel = 0; channel < CHANNELS; channel++) {
+            List<String> values = received.get(channel);
+            assertEquals(MESSAGES / CHANNELS, values.size());
+
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(String.valueOf(i * CHANNELS + channel), values.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Publish failures without stopping the stream")
+    public void testProcessorKeepsGoingAfterFailure() throws InterruptedException {
+
+        SyntaxService<Integer> service = new SyntaxService<>(PASS_THROUGH_INPUT) {
+
+            @Override
+            public Optional<IMatchingResult<Integer>> getMatchingResult(@NotNull String data) {
+
+                if (data.equals("boom")) {
+                    throw new IllegalStateException("boom");
+                }
+                return super.getMatchingResult(data);
+            }
+        };
+
+        SyntaxProcessor<Integer, Integer>              processor = new SyntaxProcessor<>(service, ForkJoinPool.commonPool(), 2, 1, 1);
+        List<SyntaxProcessor.Result<Integer, Integer>> received  = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger                                  errors    = new AtomicInteger();
+        CountDownLatch                                 done      = new CountDownLatch(1);
+
+        processor.subscribe(new Flow.Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(SyntaxProcessor.Result<Integer, Integer> item) {
+
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+
+                errors.incrementAndGet();
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+
+                done.countDown();
+            }
+        });
+
+        try (SubmissionPublisher<SyntaxProcessor.Message<Integer>> source = new SubmissionPublisher<>()) {
+            source.subscribe(processor);
+            source.submit(new SyntaxProcessor.Message<>(0, "language switch 1"));
+            source.submit(new SyntaxProcessor.Message<>(0, "boom"));
+            source.submit(new SyntaxProcessor.Message<>(0, "language switch 2"));
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertEquals(0, errors.get());
+        assertEquals(3, received.size());
+
+        assertEquals("1", received.get(0).getResult().orElseThrow().getParameter("lang").orElseThrow());
+        assertFalse(received.get(0).getError().isPresent());
+
+        assertFalse(received.get(1).getResult().isPresent());
+        assertEquals("boom", received.get(1).getError().orElseThrow().getMessage());
+
+        assertEquals("2", received.get(2).getResult().orElseThrow().getParameter("lang").orElseThrow());
+    }
+
+}
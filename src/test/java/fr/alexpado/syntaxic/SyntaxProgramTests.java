@@ -0,0 +1,79 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntax;
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import fr.alexpado.syntaxic.rules.WordSyntax;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static fr.alexpado.syntaxic.CompletionTestData.EMPTY_MAP;
+import static fr.alexpado.syntaxic.CompletionTestData.OPTIONS;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Syntax Program")
+public class SyntaxProgramTests {
+
+    /**
+     * A WordSyntax ignoring the case, which must not be compiled as a built-in word.
+     */
+    private static final class CaseInsensitiveWordSyntax extends WordSyntax {
+
+        private CaseInsensitiveWordSyntax(String name) {
+
+            super(name);
+        }
+
+        @Override
+        public boolean isMatching(@NotNull String data) {
+
+            return super.isMatching(data.toLowerCase(Locale.ROOT));
+        }
+
+    }
+
+    @Test
+    @DisplayName("Compile built-in syntaxes to tags")
+    public void testSyntaxProgramKinds() {
+
+        List<ISyntax> syntaxList = SyntaxUtils.toSyntax(OPTIONS, Arrays.asList("word", "{lang}", "/id:[0-9]+/", "[any]", "rest..."));
+        syntaxList.add(new CaseInsensitiveWordSyntax("custom"));
+
+        SyntaxProgram program = new SyntaxProgram(syntaxList);
+        assertEquals(6, program.size());
+        assertEquals(1, program.regexCount(3));
+        assertTrue(program.isFilling(4));
+
+        List<String> completion = new ArrayList<>();
+        assertTrue(program.complete(1, "ja", completion));
+        assertEquals(Arrays.asList("java", "javascript"), completion);
+        assertFalse(program.complete(4, "", completion));
+    }
+
+    @Test
+    @DisplayName("Call custom syntaxes through their interface")
+    public void testSyntaxProgramCustomSyntax() {
+
+        ISyntaxContainer container = new SyntaxContainer(Arrays.asList(new WordSyntax("say"), new CaseInsensitiveWordSyntax("hello")), 1);
+
+        assertTrue(container.isMatching(Arrays.asList("say", "HELLO")));
+        assertEquals("hello", container.getMatches().get("hello"));
+        assertFalse(container.isMatching(Arrays.asList("SAY", "hello")));
+        assertTrue(container.getMatches().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Skip empty regex groups")
+    public void testSyntaxProgramOptionalRegexGroup() {
+
+        ISyntaxContainer container = SyntaxUtils.toContainer(EMPTY_MAP, "count /amount:[a-z]*([0-9]+)?/", 1);
+
+        assertTrue(container.isMatching(Arrays.asList("count", "abc12")));
+        assertEquals("12", container.getMatches().get("amount"));
+        assertTrue(container.isMatching(Arrays.asList("count", "abc")));
+        assertFalse(container.getMatches().containsKey("amount"));
+    }
+
+}
@@ -0,0 +1,99 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.ISyntaxContainer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Syntax Registry Builder")
+public class SyntaxRegistryBuilderTests {
+
+    private static final Map<String, List<String>> OPTIONS = Collections.singletonMap("color", Arrays.asList("red", "green", "blue"));
+
+    @Test
+    @DisplayName("Parallel build")
+    public void testParallelBuild() {
+
+        SyntaxRegistryBuilder<String> builder = new SyntaxRegistryBuilder<>();
+
+        Map<String, ISyntaxContainer> containers = builder.build(IntStream.range(0, 5000).mapToObj(i -> new SyntaxDefinition<>(
+                "paint-" + i, "paint " + i + " {color} [target] ( with <size:int 1..10> )?", 1, OPTIONS
+        )));
+
+        assertEquals(5000, containers.size());
+
+        // "paint", "{color}", "[target]", "with" and "<size:int 1..10>" are shared, every number is distinct.
+        assertEquals(5005, builder.getSyntaxCount());
+
+        SyntaxService<String> service = new SyntaxServiceBuilder<>(containers).build();
+
+        assertEquals("paint-42", service.getMatchingResult("paint 42 red wall").orElseThrow().getIdentifier());
+        assertEquals("4", service.getMatchingResult("paint 4999 blue door with 4").orElseThrow().getParameter("size").orElseThrow());
+        assertFalse(service.getMatchingResult("paint 12 yellow wall").isPresent());
+    }
+
+    @Test
+    @DisplayName("Shared syntaxes")
+    public void testSharedSyntaxes() {
+
+        Map<String, List<String>> other = Collections.singletonMap("color", Arrays.asList("cyan", "magenta"));
+
+        SyntaxRegistryBuilder<String> builder = new SyntaxRegistryBuilder<String>().withSequentialParsing();
+
+        Map<String, ISyntaxContainer> containers = builder.build(Stream.of(
+                new SyntaxDefinition<>("paint", "paint {color} /name:[a-z]+/", 1, OPTIONS),
+                new SyntaxDefinition<>("fill", "fill {color} /name:[a-z]+/", 1, OPTIONS),
+                new SyntaxDefinition<>("print", "print {color} /name:[a-z]+/", 1, other)
+        ));
+
+        SyntaxProgram paint = ((SyntaxContainer) containers.get("paint")).getProgram();
+        SyntaxProgram fill  = ((SyntaxContainer) containers.get("fill")).getProgram();
+        SyntaxProgram print = ((SyntaxContainer) containers.get("print")).getProgram();
+
+        assertSame(paint.syntax(1), fill.syntax(1));
+        assertSame(paint.syntax(2), fill.syntax(2));
+        assertSame(paint.syntax(2), print.syntax(2));
+        assertNotSame(paint.syntax(1), print.syntax(1));
+
+        SyntaxService<String> service = new SyntaxServiceBuilder<>(containers).build();
+
+        assertEquals("fill", service.getMatchingResult("fill green wall").orElseThrow().getIdentifier());
+        assertEquals("print", service.getMatchingResult("print cyan page").orElseThrow().getIdentifier());
+        assertFalse(service.getMatchingResult("print green page").isPresent());
+    }
+
+    @Test
+    @DisplayName("Duplicate and invalid definitions")
+    public void testDuplicates() {
+
+        SyntaxRegistryBuilder<String> builder = new SyntaxRegistryBuilder<>();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> builder.build(Stream.of(
+                new SyntaxDefinition<>("ban", "mod ban [user]", 1),
+                new SyntaxDefinition<>("ban", "ban [user]", 1),
+                new SyntaxDefinition<>("kick", "mod kick [user]", 1),
+                new SyntaxDefinition<>("tag", "tag ( )? [name]", 1)
+        )));
+
+        assertEquals("Invalid definitions: ban: Defined more than once, tag: Empty group in tag ( )? [name]", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> builder.withSequentialParsing().build(Stream.of(
+                new SyntaxDefinition<>("kick", "mod kick [user]", 1),
+                new SyntaxDefinition<>("boot", "mod kick [user]", 1)
+        )));
+
+        assertEquals("Invalid definitions: boot: Same definition as kick", exception.getMessage());
+
+        // The same representation with another order is a valid fallback.
+        assertEquals(2, builder.build(Stream.of(
+                new SyntaxDefinition<>("kick", "mod kick [user]", 1),
+                new SyntaxDefinition<>("boot", "mod kick [user]", 2)
+        )).size());
+    }
+
+}
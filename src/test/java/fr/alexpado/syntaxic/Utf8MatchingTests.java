@@ -0,0 +1,88 @@
+package fr.alexpado.syntaxic;
+
+import fr.alexpado.syntaxic.interfaces.IMatchingResult;
+import fr.alexpado.syntaxic.interfaces.ISyntaxService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static fr.alexpado.syntaxic.CompletionTestData.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UTF-8 Matching")
+public class Utf8MatchingTests {
+
+    private static final String[] INPUTS = {
+            "", " ", "language", "language ", "  language   switch  java ", "language switch java",
+            "language switch kotlin", "language switch \u00e9", "language message hello  w\u00f6rld \u65e5\u672c", "regex 5547",
+            "regex 5547 more", "regex strict"
+    };
+
+    private static final String[] PARAMETERS = {"lang", "msg", "value"};
+
+    @Test
+    @DisplayName("Tokens are identical to prepared user data")
+    public void testUtf8TokensBoundaries() {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(SIMPLE_INPUT);
+
+        for (String input : INPUTS) {
+            Utf8Tokens tokens = Utf8Tokens.of(input.getBytes(StandardCharsets.UTF_8));
+            assertEquals(service.prepareUserData(input), tokens.toList(), input);
+        }
+    }
+
+    @Test
+    @DisplayName("Byte input gives the same results as String input")
+    public void testUtf8MatchingEquivalence() {
+
+        List<ISyntaxService<Integer>> services = List.of(
+                new SyntaxService<>(SIMPLE_INPUT),
+                new SyntaxService<>(DYNAMIC_INPUT),
+                new SyntaxService<>(REGEX_INPUT),
+                new SyntaxService<>(FILLER_INPUT),
+                new SyntaxService<>(PASS_THROUGH_INPUT)
+        );
+
+        for (ISyntaxService<Integer> service : services) {
+            for (String input : INPUTS) {
+                Optional<IMatchingResult<Integer>> expected = service.getMatchingResult(input);
+                Optional<IMatchingResult<Integer>> actual   = service.getMatchingResult(input.getBytes(StandardCharsets.UTF_8));
+
+                assertEquals(expected.isPresent(), actual.isPresent(), input);
+
+                if (expected.isPresent()) {
+                    assertEquals(expected.get().getIdentifier(), actual.get().getIdentifier(), input);
+
+                    for (String parameter : PARAMETERS) {
+                        assertEquals(expected.get().getParameter(parameter), actual.get().getParameter(parameter), input);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Match a ByteBuffer slice")
+    public void testUtf8MatchingByteBuffer() {
+
+        ISyntaxService<Integer> service = new SyntaxService<>(DYNAMIC_INPUT);
+        byte[]                  bytes   = "xxlanguage switch javaxx".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer              buffer  = ByteBuffer.wrap(bytes, 2, bytes.length - 4);
+
+        Optional<IMatchingResult<Integer>> result = service.getMatchingResult(buffer);
+        assertTrue(result.isPresent());
+        assertEquals(Optional.of("java"), result.get().getParameter("lang"));
+        assertEquals(2, buffer.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length - 4);
+        direct.put(bytes, 2, bytes.length - 4).flip();
+        assertTrue(service.getMatchingResult(direct).isPresent());
+        assertEquals(0, direct.position());
+    }
+
+}